@@ -0,0 +1,262 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.openqa.selenium.By;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+
+import static com.jivesoftware.selenium.pagefactory.framework.actions.JavascriptLocators.quote;
+import static java.lang.String.format;
+
+/**
+ * <p>A sequence of actions executed together with {@link SeleniumActions#executeBatch(ActionBatch)}.</p>
+ *
+ * <p>Consecutive steps are compiled into a single javascript call, so a batch of N steps costs one WebDriver command
+ * instead of N or more. The steps run in order and the batch stops at the first step that fails, throwing an
+ * {@link com.jivesoftware.selenium.pagefactory.framework.exception.ActionBatchException} with the results of the steps
+ * before it.</p>
+ *
+ * <p>Steps act on the first element matching their locator. A step whose element isn't present yet (or, for clicks,
+ * isn't visible yet) is retried with the equivalent native SeleniumActions method, which waits for it, and the rest of
+ * the batch continues in a new script. Steps that need trusted events, added with {@link Builder#nativeClick(By)} and
+ * {@link Builder#nativeInputText(By, String)}, and steps whose locator can't be evaluated in javascript, always run
+ * with native WebDriver commands between the scripts.</p>
+ *
+ * <p>In a script, clicks are dispatched with HTMLElement.click() and text is appended to the value of the field
+ * dispatching input and change events, but no key events.</p>
+ *
+ * Example:
+ * <pre>
+ *     ActionBatchResult result = a.executeBatch(ActionBatch.builder()
+ *         .inputText(By.id("subject"), "Hello")
+ *         .click(By.id("publish-later"))
+ *         .getText(By.cssSelector(".j-status"))
+ *         .isVisible(By.id("schedule-picker"))
+ *         .build());
+ *     String status = result.getString(2);
+ * </pre>
+ */
+public final class ActionBatch {
+    public enum StepType {
+        CLICK,
+        INPUT_TEXT,
+        CLEAR_TEXT,
+        GET_TEXT,
+        GET_ATTRIBUTE,
+        IS_VISIBLE,
+        HAS_CLASS,
+        SCROLL_INTO_VIEW
+    }
+
+    public static final class Step {
+        private static final String EDITABLE_ELEMENT =
+                "var el = found[0]; if (el.disabled || el.readOnly) { throw new Error('the element is disabled or read-only'); }";
+
+        private final StepType type;
+        private final By locator;
+        private final Optional<String> argument;
+        private final boolean nativeOnly;
+
+        private Step(StepType type, By locator, @Nullable String argument, boolean nativeOnly) {
+            this.type = type;
+            this.locator = Preconditions.checkNotNull(locator);
+            this.argument = Optional.ofNullable(argument);
+            this.nativeOnly = nativeOnly;
+        }
+
+        public StepType getType() {
+            return type;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        /**
+         * @return - the text to input, the attribute name or the class name, depending on the type of the step.
+         */
+        public Optional<String> getArgument() {
+            return argument;
+        }
+
+        public boolean isNativeOnly() {
+            return nativeOnly;
+        }
+
+        /**
+         * @return - the script executing this step inside a batch, or empty if it must run with native commands.
+         */
+        Optional<String> getScript() {
+            if (nativeOnly) {
+                return Optional.empty();
+            }
+            Optional<String> findAll = JavascriptLocators.findAllExpression(locator);
+            if (!findAll.isPresent()) {
+                return Optional.empty();
+            }
+            // The body of a function(found) returning the value of the step, or throwing {retry: reason} to run it natively
+            String run;
+            switch (type) {
+                case CLICK:
+                    run = "var el = found[0]; if (!rt.isVisible(el)) { throw {retry: 'not visible'}; } el.click(); return null;";
+                    break;
+                case INPUT_TEXT:
+                    run = EDITABLE_ELEMENT + " rt.setValue(el, el.value + " + quote(argument.get()) + ");"
+                          + " rt.fire(el, 'input'); rt.fire(el, 'change'); return null;";
+                    break;
+                case CLEAR_TEXT:
+                    run = EDITABLE_ELEMENT + " rt.setValue(el, ''); rt.fire(el, 'input'); rt.fire(el, 'change'); return null;";
+                    break;
+                case GET_TEXT:
+                    run = "var el = found[0]; return rt.isVisible(el) ? (el.innerText || el.textContent || '').trim() : '';";
+                    break;
+                case GET_ATTRIBUTE:
+                    run = "var el = found[0], name = " + quote(argument.get()) + ";"
+                          + " var value = name in el && typeof el[name] !== 'object' && typeof el[name] !== 'function'"
+                          + "     ? el[name] : el.getAttribute(name);"
+                          + " return value === null || value === undefined ? null : String(value);";
+                    break;
+                case IS_VISIBLE:
+                    return Optional.of("function() { var found = " + findAll.get() + ";"
+                                       + " return found.length > 0 && rt.isVisible(found[0]); }");
+                case HAS_CLASS:
+                    run = "return found[0].classList.contains(" + quote(argument.get()) + ");";
+                    break;
+                case SCROLL_INTO_VIEW:
+                    run = "var el = found[0], rect = el.getBoundingClientRect();"
+                          + " window.scrollTo(0, Math.max(0, window.pageYOffset + rect.top - window.innerHeight / 2)); return null;";
+                    break;
+                default:
+                    return Optional.empty();
+            }
+            return Optional.of("function() { var found = " + findAll.get() + ";"
+                               + " if (found.length === 0) { throw {retry: 'not present'}; } " + run + " }");
+        }
+
+        @Override
+        public String toString() {
+            return format("%s%s '%s'%s", nativeOnly ? "native " : "", type, locator,
+                          argument.isPresent() ? format(" ('%s')", argument.get()) : "");
+        }
+    }
+
+    private final List<Step> steps;
+
+    private ActionBatch(List<Step> steps) {
+        this.steps = steps;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Compile consecutive steps into a single {@link PageRuntime} script running them with rt.runSteps(). It returns
+     * an object with the values of the steps that completed, and the index, error and retry flag of the step that
+     * failed, if any.
+     */
+    static String segmentScript(List<Step> segment) {
+        StringBuilder sb = new StringBuilder("return rt.runSteps([");
+        for (int i = 0; i < segment.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(segment.get(i).getScript().get());
+        }
+        return sb.append("]);").toString();
+    }
+
+    public static final class Builder {
+        private final ImmutableList.Builder<Step> steps = ImmutableList.builder();
+
+        private Builder() {
+        }
+
+        /**
+         * Click the element, with HTMLElement.click() when run in a script. Result: null.
+         */
+        public Builder click(By locator) {
+            return add(StepType.CLICK, locator, null, false);
+        }
+
+        /**
+         * Click the element with a native WebDriver click, for elements that require trusted events. Result: null.
+         */
+        public Builder nativeClick(By locator) {
+            return add(StepType.CLICK, locator, null, true);
+        }
+
+        /**
+         * Append text to the value of an input or textarea, dispatching input and change events when run in a script.
+         * Result: null.
+         */
+        public Builder inputText(By locator, String text) {
+            return add(StepType.INPUT_TEXT, locator, Preconditions.checkNotNull(text), false);
+        }
+
+        /**
+         * Send the text with native key events. Result: null.
+         */
+        public Builder nativeInputText(By locator, String text) {
+            return add(StepType.INPUT_TEXT, locator, Preconditions.checkNotNull(text), true);
+        }
+
+        /**
+         * Clear the value of an input or textarea. Result: null.
+         */
+        public Builder clearText(By locator) {
+            return add(StepType.CLEAR_TEXT, locator, null, false);
+        }
+
+        /**
+         * Result: the visible text of the element, trimmed, or "" if it isn't visible.
+         */
+        public Builder getText(By locator) {
+            return add(StepType.GET_TEXT, locator, null, false);
+        }
+
+        /**
+         * Result: the value of the property or attribute with the given name, like WebElement.getAttribute(), or null.
+         */
+        public Builder getAttribute(By locator, String attribute) {
+            return add(StepType.GET_ATTRIBUTE, locator, Preconditions.checkNotNull(attribute), false);
+        }
+
+        /**
+         * Result: whether the element is present and visible. Doesn't wait for the element.
+         */
+        public Builder isVisible(By locator) {
+            return add(StepType.IS_VISIBLE, locator, null, false);
+        }
+
+        /**
+         * Result: whether the element has the given class.
+         */
+        public Builder hasClass(By locator, String className) {
+            return add(StepType.HAS_CLASS, locator, Preconditions.checkNotNull(className), false);
+        }
+
+        /**
+         * Scroll the window so the element is in the middle of the viewable area. Result: null.
+         */
+        public Builder scrollIntoView(By locator) {
+            return add(StepType.SCROLL_INTO_VIEW, locator, null, false);
+        }
+
+        private Builder add(StepType type, By locator, @Nullable String argument, boolean nativeOnly) {
+            steps.add(new Step(type, locator, argument, nativeOnly));
+            return this;
+        }
+
+        public ActionBatch build() {
+            return new ActionBatch(steps.build());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The results of an {@link ActionBatch}, one per step in the order of the steps.
+ * See the methods of {@link ActionBatch.Builder} for the result of each type of step.
+ */
+public final class ActionBatchResult {
+    private final List<Object> results;
+
+    ActionBatchResult(List<Object> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    public List<Object> getResults() {
+        return results;
+    }
+
+    public Object get(int stepIndex) {
+        return results.get(stepIndex);
+    }
+
+    public String getString(int stepIndex) {
+        Object result = results.get(stepIndex);
+        return result == null ? null : result.toString();
+    }
+
+    public boolean getBoolean(int stepIndex) {
+        return Boolean.TRUE.equals(results.get(stepIndex));
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ActionBatchResult" + results;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Polls wait conditions on a small, shared pool of daemon threads, for the async variants of the waits in
+ * {@link SeleniumActions}. No thread is blocked between polls, so many Browsers can be waited on with a few threads.
+ *
+ * A WebDriver isn't thread-safe, so each poll holds the lock given for its Browser, and polls for the same Browser
+ * never run concurrently. A poll only tries to acquire the lock: while another thread holds it, e.g. to load a page,
+ * the poll is rescheduled instead of blocking one of the shared threads.
+ */
+final class AsyncPoller {
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(
+            POOL_SIZE, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("selenium-async-poller-%d").build());
+
+    private AsyncPoller() {
+    }
+
+    /**
+     * @return - an Executor running tasks on the shared polling threads, for chaining stages onto returned futures.
+     */
+    static Executor executor() {
+        return SCHEDULER;
+    }
+
+    /**
+     * Poll the function until it returns a non-null value that isn't Boolean.FALSE, like a FluentWait would.
+     *
+     * @return - a future completed with the function's result, or completed exceptionally with a TimeoutException
+     * after the timeout, or with any exception thrown by the function other than NotFoundException and
+     * StaleElementReferenceException. Cancelling the future stops the polling.
+     */
+    static <I, T> CompletableFuture<T> poll(final ReentrantLock lock, final I input, final Function<? super I, T> function,
+                                            @Nullable final String message, final Duration timeout, final long pollMillis) {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        final long start = System.nanoTime();
+        final long pollInterval = Math.max(1, Math.min(pollMillis, timeout.toMillis()));
+        SCHEDULER.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    T result = null;
+                    if (lock.tryLock()) {
+                        try {
+                            result = function.apply(input);
+                        } catch (NotFoundException | StaleElementReferenceException e) {
+                            // Ignored, like FluentWait in the blocking waits
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                    if (result != null && !Boolean.FALSE.equals(result)) {
+                        future.complete(result);
+                        return;
+                    }
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    if (elapsedMillis >= timeout.toMillis()) {
+                        future.completeExceptionally(new TimeoutException(
+                                message == null ? "Timed out after " + GeneralUtils.formatDuration(timeout) : message));
+                        return;
+                    }
+                    SCHEDULER.schedule(this, Math.min(pollInterval, timeout.toMillis() - elapsedMillis), TimeUnit.MILLISECONDS);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        });
+        return future;
+    }
+}
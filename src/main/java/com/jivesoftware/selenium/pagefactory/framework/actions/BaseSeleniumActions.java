@@ -1,36 +1,61 @@
 package com.jivesoftware.selenium.pagefactory.framework.actions;
 
 import com.google.common.base.Function;
+import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.jivesoftware.selenium.pagefactory.framework.browser.Browser;
 import com.jivesoftware.selenium.pagefactory.framework.browser.BrowserUtil;
+import com.jivesoftware.selenium.pagefactory.framework.browser.FatalPageDetector;
+import com.jivesoftware.selenium.pagefactory.framework.config.RefreshPolicy;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
+import com.jivesoftware.selenium.pagefactory.framework.config.WaitStatistics;
+import com.jivesoftware.selenium.pagefactory.framework.exception.ActionBatchException;
+import com.jivesoftware.selenium.pagefactory.framework.exception.FatalPageException;
 import com.jivesoftware.selenium.pagefactory.framework.exception.JiveWebDriverException;
 import com.jivesoftware.selenium.pagefactory.framework.exception.SeleniumActionsException;
-import com.jivesoftware.selenium.pagefactory.framework.pages.BaseTopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.pages.PageUtils;
 import com.jivesoftware.selenium.pagefactory.framework.pages.SubPage;
 import com.jivesoftware.selenium.pagefactory.framework.pages.TopLevelPage;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 
@@ -39,6 +64,18 @@ import static java.lang.String.format;
  */
 public abstract class BaseSeleniumActions<B extends Browser> implements SeleniumActions {
     private static final long DEFAULT_POLL_MILLIS = 100;
+    // Polling interval used by a WebDriverWait when none is specified.
+    private static final long SLOW_POLL_MILLIS = 500;
+    // Waits polling with WebDriver commands evaluate the fatal page detectors at most this often, like rt.poll
+    private static final long FATAL_PAGE_CHECK_MILLIS = SLOW_POLL_MILLIS;
+    // Loads pages for loadTopLevelPageAsync, so the blocking page load hooks don't hold the shared polling threads
+    private static final ExecutorService PAGE_LOADERS = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("selenium-page-loader-%d").build());
+    // Polling interval for scripts that poll inside the page, where a poll doesn't cost a WebDriver command
+    protected static final long IN_PAGE_POLL_MILLIS = 10;
+    // Scrolling waits up to a second in the page for smooth scrolling to settle
+    private static final Duration SCROLL_SETTLE_TIMEOUT = Duration.ofSeconds(1);
+    private static final AtomicInteger STREAM_IDS = new AtomicInteger();
     protected static Logger logger = LoggerFactory.getLogger(BaseSeleniumActions.class);
     protected final TimeoutsConfig timeoutsConfig;
     protected B browser;
@@ -147,28 +184,22 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     public void clickAndVerifyNotPresent(By locatorToClick, By locatorToVerifyNotPresent, TimeoutType timeout) {
         click(locatorToClick, timeout);
         logger.info("After click, waiting for '{}' to NOT be present.", locatorToVerifyNotPresent);
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
-        final String errorMessage = format("Failure in clickAndVerifyNotPresent: element '%s' never became removed from the DOM after %d seconds!",
-                                           locatorToVerifyNotPresent, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(ExpectedConditions.not(
-            ExpectedConditions.presenceOfAllElementsLocatedBy(locatorToVerifyNotPresent)));
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        final String errorMessage = format("Failure in clickAndVerifyNotPresent: element '%s' never became removed from the DOM after %s!",
+                                           locatorToVerifyNotPresent, GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.not(ExpectedConditions.presenceOfAllElementsLocatedBy(locatorToVerifyNotPresent)),
+                  errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     @Override
     public void clickAndVerifyNotPresent(WebElement el, By locatorToVerifyNotPresent, TimeoutType timeout) {
         click(el, timeout);
         logger.info("After click, waiting for '{}' to NOT be present.", locatorToVerifyNotPresent);
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
-        final String errorMessage = format("Failure in clickAndVerifyNotPresent: element '%s' never became removed from the DOM after %d seconds!",
-                                           locatorToVerifyNotPresent, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(ExpectedConditions.not(
-            ExpectedConditions.presenceOfAllElementsLocatedBy(locatorToVerifyNotPresent)));
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        final String errorMessage = format("Failure in clickAndVerifyNotPresent: element '%s' never became removed from the DOM after %s!",
+                                           locatorToVerifyNotPresent, GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.not(ExpectedConditions.presenceOfAllElementsLocatedBy(locatorToVerifyNotPresent)),
+                  errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     @Override
@@ -189,28 +220,22 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     public WebElement clickAndVerifyPresent(By locatorToClick, By locatorToVerifyPresent, TimeoutType timeout) {
         click(locatorToClick, timeout);
         logger.info("After click, waiting for '{}' to be present.", locatorToVerifyPresent);
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String errorMessage =
-            format("Failure in clickAndVerifyPresent: element '%s' never became present after %d seconds!",
-                   locatorToVerifyPresent, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locatorToVerifyPresent));
+            format("Failure in clickAndVerifyPresent: element '%s' never became present after %s!",
+                   locatorToVerifyPresent, GeneralUtils.formatDuration(waitTime));
+        return waitUntil(ExpectedConditions.presenceOfElementLocated(locatorToVerifyPresent), errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     @Override
     public WebElement clickAndVerifyPresent(WebElement el, By locatorToVerifyPresent, TimeoutType timeout) {
         click(el, timeout);
         logger.info("After click, waiting for '{}' to be present.", locatorToVerifyPresent);
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String errorMessage =
-            format("Failure in clickAndVerifyPresent: element '%s' never became present after %d seconds!",
-                   locatorToVerifyPresent, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locatorToVerifyPresent));
+            format("Failure in clickAndVerifyPresent: element '%s' never became present after %s!",
+                   locatorToVerifyPresent, GeneralUtils.formatDuration(waitTime));
+        return waitUntil(ExpectedConditions.presenceOfElementLocated(locatorToVerifyPresent), errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     /**
@@ -381,19 +406,17 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     @Override
     @Nonnull
     public WebElement findElementContainingChildWithWait(final By parentLocator, final By childLocator, TimeoutType timeout) {
-        final int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        final Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String msg = format("Failure in findElementContainingChildWithWait: never found element " +
-                                      "with locator '%s' having child with locator '%s' with timeout of %d seconds", parentLocator, childLocator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.ignoring(StaleElementReferenceException.class)
-            .withMessage(msg);
+                                      "with locator '%s' having child with locator '%s' with timeout of %s", parentLocator, childLocator,
+                                  GeneralUtils.formatDuration(waitTime));
 
-        return wait.until(new ExpectedCondition<WebElement>() {
+        return waitUntil(new ExpectedCondition<WebElement>() {
             @Override
             public WebElement apply(@Nullable WebDriver input) {
                 return findElementContainingChild(parentLocator, childLocator);
             }
-        });
+        }, msg, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     @Override
@@ -428,28 +451,18 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
 
     @Override
     @Nonnull
-    public WebElement findElementContainingTextWithRefresh(final By locator, final String text, boolean caseSensitive, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getPollingWithRefreshTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.ignoring(StaleElementReferenceException.class);
+    public WebElement findElementContainingTextWithRefresh(final By locator, final String text, final boolean caseSensitive, TimeoutType timeout) {
+        Duration waitTime = getTimeout(TimeoutType.POLLING_WITH_REFRESH_TIMEOUT, timeout);
 
-        logger.info("Waiting for element containing text '{}' defined by locator '{}', timeout of {} seconds", new Object[] {text, locator, waitSeconds});
+        logger.info("Waiting for element containing text '{}' defined by locator '{}', timeout of {}",
+                    new Object[] {text, locator, GeneralUtils.formatDuration(waitTime)});
         try {
-            WebElement found = wait.until(new ExpectedCondition<WebElement>() {
+            WebElement found = waitWithRefresh(new Function<WebDriver, WebElement>() {
                 @Override
                 public WebElement apply(@Nullable WebDriver input) {
-                    long start = new Date().getTime();
-                    while ((new Date().getTime() - start) / 1000 < timeoutsConfig.getPauseBetweenRefreshSeconds()) {
-                        WebElement el = findElementContainingText(locator, text, caseSensitive);
-                        if (el != null) {
-                            return el;
-                        }
-                        GeneralUtils.waitMillis(timeoutsConfig.getPauseBetweenTriesMillis());
-                    }
-                    getBrowser().refreshPage();
-                    return null;
+                    return findElementContainingTextInPage(locator, text, caseSensitive, false);
                 }
-            });
+            }, null, TimeoutType.POLLING_WITH_REFRESH_TIMEOUT, timeout);
             logger.info("Success finding element containing text '{}' defined by locator '{}'!", text, locator);
             return found;
         } catch (TimeoutException e) {
@@ -468,23 +481,18 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     @Override
     @Nonnull
     public WebElement findElementContainingTextWithWait(final By locator, final String text, boolean caseSensitive, TimeoutType timeout) {
-        final int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        final Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String msg = format("Failure in findElementContainingTextWithWait: never found text '%s' in element " +
-                                      "with locator '%s' with timeout of %d seconds", text, locator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.ignoring(StaleElementReferenceException.class)
-            .withMessage(msg);
+                                      "with locator '%s' with timeout of %s", text, locator, GeneralUtils.formatDuration(waitTime));
 
-        return wait.until(new ExpectedCondition<WebElement>() {
+        // Poll at most once per second, but never sleep past the timeout itself.
+        final long pollMillis = Math.min(TimeUnit.SECONDS.toMillis(1), waitTime.toMillis());
+        return waitUntil(new ExpectedCondition<WebElement>() {
             @Override
             public WebElement apply(@Nullable WebDriver input) {
-                WebElement el = findElementContainingText(locator, text, caseSensitive);
-                if (el == null) {
-                    GeneralUtils.waitOneSecond();
-                }
-                return el;
+                return findElementContainingText(locator, text, caseSensitive);
             }
-        });
+        }, msg, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, pollMillis);
     }
 
     @Override
@@ -514,14 +522,12 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     @Override
     @Nonnull
     public List<WebElement> findElementsContainingChildWithWait(final By parentLocator, final By childLocator, TimeoutType timeout) {
-        final int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        final Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String msg = format("Failure in findElementContainingChildWithWait: never found element " +
-                                      "with locator '%s' having child with locator '%s' with timeout of %d seconds", parentLocator, childLocator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.ignoring(StaleElementReferenceException.class)
-            .withMessage(msg);
+                                      "with locator '%s' having child with locator '%s' with timeout of %s", parentLocator, childLocator,
+                                  GeneralUtils.formatDuration(waitTime));
 
-        return wait.until(new ExpectedCondition<List<WebElement>>() {
+        return waitUntil(new ExpectedCondition<List<WebElement>>() {
             @Override
             public List<WebElement> apply(@Nullable WebDriver input) {
                 List<WebElement> parents = findElementsContainingChild(parentLocator, childLocator);
@@ -530,7 +536,7 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
                 }
                 return null;
             }
-        });
+        }, msg, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     // --------- Find visible elements (return null when no such element is present.) -------
@@ -581,27 +587,17 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     @Override
     @Nonnull
     public WebElement findVisibleElementContainingTextWithRefresh(final By locator, final String text, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getPollingWithRefreshTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.ignoring(StaleElementReferenceException.class);
+        Duration waitTime = getTimeout(TimeoutType.POLLING_WITH_REFRESH_TIMEOUT, timeout);
 
-        logger.info("Waiting for element containing text '{}' defined by locator '{}', timeout of {} seconds", new Object[] {text, locator, waitSeconds});
+        logger.info("Waiting for element containing text '{}' defined by locator '{}', timeout of {}",
+                    new Object[] {text, locator, GeneralUtils.formatDuration(waitTime)});
         try {
-            WebElement found = wait.until(new ExpectedCondition<WebElement>() {
+            WebElement found = waitWithRefresh(new Function<WebDriver, WebElement>() {
                 @Override
                 public WebElement apply(@Nullable WebDriver input) {
-                    long start = new Date().getTime();
-                    while ((new Date().getTime() - start) / 1000 < timeoutsConfig.getPauseBetweenRefreshSeconds()) {
-                        WebElement el = findVisibleElementContainingText(locator, text);
-                        if (el != null) {
-                            return el;
-                        }
-                        GeneralUtils.waitMillis(timeoutsConfig.getPauseBetweenTriesMillis());
-                    }
-                    getBrowser().refreshPage();
-                    return null;
+                    return findElementContainingTextInPage(locator, text, true, true);
                 }
-            });
+            }, null, TimeoutType.POLLING_WITH_REFRESH_TIMEOUT, timeout);
             logger.info("Success finding element containing text '{}' defined by locator '{}'!", text, locator);
             return found;
         } catch (TimeoutException e) {
@@ -620,27 +616,20 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     @Override
     @Nonnull
     public WebElement findVisibleElementContainingTextWithWait(final By locator, final String text, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String message = Strings.isNullOrEmpty(text) ?
-            String.format("Timeout waiting %d seconds to find element with locator '%s'",
-                          waitSeconds, locator.toString())
+            String.format("Timeout waiting %s to find element with locator '%s'",
+                          GeneralUtils.formatDuration(waitTime), locator.toString())
             :
-            String.format("Timeout waiting %d seconds to find element containing text '%s' with locator '%s'",
-                          waitSeconds, text, locator.toString());
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.ignoring(StaleElementReferenceException.class)
-            .withMessage(message);
+            String.format("Timeout waiting %s to find element containing text '%s' with locator '%s'",
+                          GeneralUtils.formatDuration(waitTime), text, locator.toString());
 
-        return wait.until(new ExpectedCondition<WebElement>() {
+        return waitUntil(new ExpectedCondition<WebElement>() {
             @Override
             public WebElement apply(@Nullable WebDriver input) {
-                WebElement el = findVisibleElementContainingText(locator, text);
-                if (el == null) {
-                    GeneralUtils.waitMillis(500);
-                }
-                return el;
+                return findVisibleElementContainingText(locator, text);
             }
-        });
+        }, message, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     // --------- Find lists of visible elements --------
@@ -748,6 +737,137 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
         return findElements(locator, null);
     }
 
+    @Override
+    public Stream<WebElement> streamElements(By locator) {
+        return streamElements(ElementStream.builder(locator).build());
+    }
+
+    @Override
+    public Stream<WebElement> streamElements(ElementStream elementStream) {
+        return streamItems(elementStream, "element", null, WebElement.class);
+    }
+
+    @Override
+    public Stream<String> streamText(ElementStream elementStream) {
+        return streamItems(elementStream, "text", null, String.class);
+    }
+
+    @Override
+    public Stream<String> streamAttribute(ElementStream elementStream, String attribute) {
+        return streamItems(elementStream, "attribute", Preconditions.checkNotNull(attribute), String.class);
+    }
+
+    /**
+     * Stream the items with one runtime call per batch, see {@link ElementStream}. Locators that can't be evaluated in
+     * javascript fall back to streaming the elements currently in the page, without scrolling.
+     *
+     * @param projection - "element", "text" or "attribute"
+     */
+    protected <T> Stream<T> streamItems(final ElementStream elementStream, final String projection,
+                                        @Nullable final String attribute, final Class<T> type) {
+        final Optional<List<String>> itemArguments = JavascriptLocators.locatorArguments(elementStream.getItemLocator());
+        final Optional<List<String>> containerArguments = elementStream.getScrollContainerLocator().isPresent()
+                ? JavascriptLocators.locatorArguments(elementStream.getScrollContainerLocator().get())
+                : Optional.<List<String>>empty();
+        if (!itemArguments.isPresent() || elementStream.getScrollContainerLocator().isPresent() != containerArguments.isPresent()) {
+            logger.warn("Locators of {} can't be evaluated in javascript, streaming the elements currently in the page", elementStream);
+            List<T> items = Lists.transform(getElements(elementStream.getItemLocator()), new Function<WebElement, T>() {
+                @Override
+                public T apply(WebElement el) {
+                    switch (projection) {
+                        case "text":
+                            return type.cast(el.getText());
+                        case "attribute":
+                            return type.cast(el.getAttribute(attribute));
+                        default:
+                            return type.cast(el);
+                    }
+                }
+            });
+            return items.stream();
+        }
+
+        final String streamId = "stream-" + STREAM_IDS.incrementAndGet();
+        logger.info("Streaming {}", elementStream);
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            // Allows null, for missing attributes
+            private final Queue<T> buffer = new LinkedList<>();
+            private int scrolls = 0;
+            private boolean exhausted = false;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (buffer.isEmpty()) {
+                    if (exhausted) {
+                        return false;
+                    }
+                    fetchBatch();
+                }
+                action.accept(buffer.poll());
+                return true;
+            }
+
+            private void fetchBatch() {
+                Browser<?> currentBrowser = getBrowser();
+                currentBrowser.ensureScriptTimeoutForWait(elementStream.getLoadMoreTimeout());
+                Map<?, ?> batch = (Map<?, ?>) PageRuntime.callAsync(
+                        webDriver(), "nextItems", streamId, itemArguments.get(), containerArguments.orElse(null),
+                        elementStream.getBatchSize(), projection, attribute, elementStream.getDedupAttribute().orElse(null),
+                        scrolls < elementStream.getMaxScrolls(), elementStream.getLoadMoreTimeout().toMillis());
+                if (Boolean.TRUE.equals(batch.get("scrolled"))) {
+                    scrolls++;
+                }
+                List<?> items = (List<?>) batch.get("items");
+                for (Object item : items) {
+                    buffer.add(type.cast(item));
+                }
+                // Empty only when there are no new items, even after scrolling
+                exhausted = items.isEmpty();
+                logger.debug("Fetched {} items of {}, scrolled {} times", new Object[] {items.size(), elementStream, scrolls});
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    PageRuntime.call(webDriver(), "closeStream", streamId);
+                } catch (WebDriverException e) {
+                    logger.debug("Unable to close {}: {}", elementStream, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<Map<String, String>> extractTable(TableExtraction extraction) {
+        logger.info("Extracting the records of {}", extraction);
+        List<Object> arguments = extraction.scriptArguments();
+        Map<?, ?> table = (Map<?, ?>) PageRuntime.call(webDriver(), "extractTable", arguments.toArray());
+        if (table == null) {
+            // The HTML table isn't there yet
+            verifyElementPresented(extraction.getTableLocator().get(), TimeoutType.DEFAULT);
+            table = (Map<?, ?>) PageRuntime.call(webDriver(), "extractTable", arguments.toArray());
+        }
+        List<?> names = (List<?>) table.get("names");
+        List<Map<String, String>> records = Lists.newArrayList();
+        for (Object row : (List<?>) table.get("rows")) {
+            List<?> values = (List<?>) row;
+            Map<String, String> record = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                Object value = i < values.size() ? values.get(i) : null;
+                record.put(String.valueOf(names.get(i)), value == null ? null : value.toString());
+            }
+            records.add(record);
+        }
+        logger.info("Extracted {} records of {}", records.size(), extraction);
+        return records;
+    }
+
+    @Override
+    public <T> List<T> extractTable(TableExtraction extraction, Function<Map<String, String>, T> mapper) {
+        return Lists.newArrayList(Lists.transform(extractTable(extraction), mapper));
+    }
+
     @Override
     @Nonnull
     public WebElement getParentElement(WebElement el) {
@@ -810,6 +930,10 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
 
     @Override
     public WebElement inputTextSlowly(@Nonnull WebElement el, String text) {
+        Browser<?> currentBrowser = getBrowser();
+        if (currentBrowser.getSlowTypingMode() == SlowTypingMode.IN_PAGE && typeTextInPage(el, text)) {
+            return el;
+        }
         logger.info("Inputting text {} slowly into web element {}", text, el.getTagName());
         for (Character c : text.toCharArray()) {
             el.sendKeys(String.valueOf(c));
@@ -822,6 +946,193 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
         return el;
     }
 
+    @Override
+    public void fillForm(Map<By, String> values) {
+        fillForm(FormFill.fromMap(values));
+    }
+
+    @Override
+    public void fillForm(FormFill form) {
+        List<FormFill.Field> scriptFields = Lists.newArrayList();
+        List<List<String>> locators = Lists.newArrayList();
+        List<String> values = Lists.newArrayList();
+        List<FormFill.Field> nativeFields = Lists.newArrayList();
+        for (FormFill.Field field : form.getFields()) {
+            Optional<List<String>> locatorArguments = JavascriptLocators.locatorArguments(field.getLocator());
+            if (field.getMode() == FormFill.Mode.SCRIPT && locatorArguments.isPresent()) {
+                scriptFields.add(field);
+                locators.add(locatorArguments.get());
+                values.add(field.getValue());
+            } else {
+                nativeFields.add(field);
+            }
+        }
+
+        if (!scriptFields.isEmpty()) {
+            logger.info("Filling {} form fields with a single script: {}", scriptFields.size(), scriptFields);
+            List<?> results = (List<?>) PageRuntime.call(webDriver(), "fillForm", locators, values);
+            List<String> errors = Lists.newArrayList();
+            for (int i = 0; i < scriptFields.size(); i++) {
+                String result = String.valueOf(results.get(i));
+                if (result.startsWith("error:")) {
+                    errors.add(format("%s: %s", scriptFields.get(i).getLocator(), result.substring("error:".length())));
+                } else if (!"ok".equals(result)) {
+                    // Not present yet, or a field that can't be set with a script: fill it natively, waiting for it to be present
+                    logger.debug("Falling back to filling '{}' natively: {}", scriptFields.get(i).getLocator(), result);
+                    nativeFields.add(scriptFields.get(i));
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new RuntimeException(format("Error filling form fields: %s", Joiner.on("; ").join(errors)));
+            }
+        }
+
+        for (FormFill.Field field : nativeFields) {
+            fillFieldNatively(field.getLocator(), field.getValue(), field.getMode() == FormFill.Mode.SLOW);
+        }
+    }
+
+    @Override
+    public ActionBatchResult executeBatch(ActionBatch batch) {
+        List<ActionBatch.Step> steps = batch.getSteps();
+        List<Object> results = Lists.newArrayList();
+        logger.info("Executing a batch of {} actions", steps.size());
+        int i = 0;
+        while (i < steps.size()) {
+            if (!steps.get(i).getScript().isPresent()) {
+                results.add(executeBatchStepNatively(steps.get(i), i, results));
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < steps.size() && steps.get(end).getScript().isPresent()) {
+                end++;
+            }
+            Map<?, ?> segmentResult;
+            try {
+                segmentResult = (Map<?, ?>) PageRuntime.execute(webDriver(), ActionBatch.segmentScript(steps.subList(i, end)));
+            } catch (WebDriverException e) {
+                throw new ActionBatchException(format("Error executing actions %d to %d of the batch: %s", i, end - 1, e.getMessage()),
+                                               i, results, e);
+            }
+            List<?> values = (List<?>) segmentResult.get("values");
+            results.addAll(values);
+            i += values.size();
+            if (((Number) segmentResult.get("failedIndex")).intValue() >= 0) {
+                ActionBatch.Step failed = steps.get(i);
+                if (!Boolean.TRUE.equals(segmentResult.get("retry"))) {
+                    throw new ActionBatchException(format("Error executing action %d of the batch, %s: %s", i, failed,
+                                                          segmentResult.get("error")), i, results);
+                }
+                // The element isn't ready yet: run this step natively, waiting for it, and continue the batch after it
+                logger.debug("Executing action {} of the batch natively, element {}", i, segmentResult.get("error"));
+                results.add(executeBatchStepNatively(failed, i, results));
+                i++;
+            }
+        }
+        return new ActionBatchResult(results);
+    }
+
+    protected Object executeBatchStepNatively(ActionBatch.Step step, int index, List<Object> completedResults) {
+        By locator = step.getLocator();
+        try {
+            switch (step.getType()) {
+                case CLICK:
+                    click(locator, TimeoutType.DEFAULT);
+                    return null;
+                case INPUT_TEXT:
+                    inputText(locator, step.getArgument().get());
+                    return null;
+                case CLEAR_TEXT:
+                    clearText(locator);
+                    return null;
+                case GET_TEXT:
+                    return verifyElementPresented(locator, TimeoutType.DEFAULT).getText();
+                case GET_ATTRIBUTE:
+                    return verifyElementPresented(locator, TimeoutType.DEFAULT).getAttribute(step.getArgument().get());
+                case IS_VISIBLE:
+                    return isVisible(locator);
+                case HAS_CLASS:
+                    return doesElementHaveClass(locator, step.getArgument().get());
+                case SCROLL_INTO_VIEW:
+                    scrollIntoView(locator);
+                    return null;
+                default:
+                    throw new IllegalArgumentException("Unsupported action: " + step.getType());
+            }
+        } catch (RuntimeException e) {
+            throw new ActionBatchException(format("Error executing action %d of the batch, %s: %s", index, step, e.getMessage()),
+                                           index, completedResults, e);
+        }
+    }
+
+    /**
+     * Fill a single form field with WebDriver commands, interpreting the value like {@link #fillForm(FormFill)}.
+     */
+    protected void fillFieldNatively(By locator, String value, boolean slowly) {
+        WebElement el = getElementWithWait(locator);
+        String type = Strings.nullToEmpty(el.getAttribute("type")).toLowerCase();
+        if ("select".equalsIgnoreCase(el.getTagName())) {
+            Select select = new Select(el);
+            try {
+                select.selectByValue(value);
+            } catch (NoSuchElementException e) {
+                select.selectByVisibleText(value);
+            }
+        } else if ("checkbox".equals(type)) {
+            if (el.isSelected() != Boolean.parseBoolean(value)) {
+                el.click();
+            }
+        } else if ("radio".equals(type)) {
+            for (WebElement radio : findElements(locator, null)) {
+                if ("true".equals(value) || value.equals(radio.getAttribute("value"))) {
+                    if (!radio.isSelected()) {
+                        radio.click();
+                    }
+                    return;
+                }
+            }
+            throw new RuntimeException(format("Error filling form field '%s': no radio with value '%s'", locator, value));
+        } else {
+            clearText(el);
+            if (slowly) {
+                inputTextSlowly(el, value);
+            } else {
+                inputText(el, value);
+            }
+        }
+    }
+
+    /**
+     * Type the text into the element with a single async script, pausing between keys inside the browser.
+     *
+     * @return - false if the text can't be typed in the page, and should be typed natively instead
+     */
+    protected boolean typeTextInPage(WebElement el, String text) {
+        for (char c : text.toCharArray()) {
+            if (c >= '\uE000' && c <= '\uF8FF') {
+                // Special keys from org.openqa.selenium.Keys only work as native key events
+                return false;
+            }
+        }
+        if (!(webDriver() instanceof JavascriptExecutor)) {
+            return false;
+        }
+        long pauseMillis = timeoutsConfig.getPauseBetweenKeysMillis();
+        Browser<?> currentBrowser = getBrowser();
+        currentBrowser.ensureScriptTimeoutForWait(Duration.ofMillis(pauseMillis * text.length()));
+        logger.info("Inputting text {} slowly in the page into web element {}", text, el.getTagName());
+        Object result = PageRuntime.callAsync(webDriver(), "typeText", el, text, pauseMillis);
+        if ("unsupported".equals(result)) {
+            logger.debug("Can't type into web element {} in the page, typing natively", el.getTagName());
+            return false;
+        }
+        if (!"ok".equals(result)) {
+            throw new WebDriverException(format("Error typing text '%s' into web element %s: %s", text, el.getTagName(), result));
+        }
+        return true;
+    }
+
     @Override
     public WebElement inputTextSlowlyAndSelectFromList(WebElement inputField, String value, By popoverLocator) throws SeleniumActionsException {
         return inputTextSlowlyAndSelectFromList(inputField, value, popoverLocator, 0);      // default is no retries
@@ -836,7 +1147,7 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     @Override
     public void inputTinyMceText(String text) {
         waitForTinyMceToBeReady();
-        ((JavascriptExecutor) webDriver()).executeScript(format("tinyMCE.activeEditor.setContent(\"%s\")", text));
+        PageRuntime.call(webDriver(), "setTinyMceContent", text);
     }
 
     @Override
@@ -910,54 +1221,114 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
         return (T) browser.loadTopLevelPage(pageClass);
     }
 
+    @Override
+    public <T extends TopLevelPage> CompletableFuture<T> loadTopLevelPageAsync(Class<T> pageClass) {
+        return loadTopLevelPageAsync(pageClass, PAGE_LOADERS);
+    }
+
+    @Override
+    public <T extends TopLevelPage> CompletableFuture<T> loadTopLevelPageAsync(final Class<T> pageClass, Executor executor) {
+        Preconditions.checkNotNull(executor);
+        // Only used to get the page identifier, the page is loaded with the Browser once the identifier is present
+        T page = PageFactory.initElements(webDriver(), pageClass);
+        page.setActions(this);
+        final By pageIdentifier = page.getPageIdentifier();
+        CompletableFuture<?> identifierPresent;
+        if (pageIdentifier == null) {
+            identifierPresent = CompletableFuture.completedFuture(null);
+        } else {
+            Duration waitTime = getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT, TimeoutType.DEFAULT);
+            String errorMessage = format("Failure in loadTopLevelPageAsync: page identifier '%s' of page %s never became presented after %s!",
+                                         pageIdentifier, pageClass.getSimpleName(), GeneralUtils.formatDuration(waitTime));
+            identifierPresent = waitUntilAsync(ExpectedConditions.presenceOfElementLocated(pageIdentifier), errorMessage,
+                                               TimeoutType.PAGE_LOAD_TIMEOUT, TimeoutType.DEFAULT, SLOW_POLL_MILLIS);
+        }
+        final B currentBrowser = getBrowser();
+        // B is a raw Browser type, so go through Browser<?> to keep the generic type of the Supplier.
+        // The page load hooks run on the executor, with the deadline of the calling thread
+        Browser<?> deadlineBrowser = currentBrowser;
+        final Supplier<T> load = deadlineBrowser.bindDeadline(new Supplier<T>() {
+            @Override
+            public T get() {
+                return (T) currentBrowser.loadTopLevelPage(pageClass);
+            }
+        });
+        return identifierPresent.thenApplyAsync(new java.util.function.Function<Object, T>() {
+            @Override
+            public T apply(Object ignored) {
+                // Polls of async waits on this Browser are rescheduled while the page loads, see AsyncPoller
+                currentBrowser.getWebDriverLock().lock();
+                try {
+                    // The identifier was just found, so the page load hooks don't wait for it again
+                    return PageUtils.loadWithPageIdentifierPresent(pageIdentifier, load);
+                } finally {
+                    currentBrowser.getWebDriverLock().unlock();
+                }
+            }
+        }, executor);
+    }
+
     @Override
     public void scrollToTop() {
-        executeJavascript("window.scrollTo(0, 0)");
+        PageRuntime.call(webDriver(), "scrollToTop");
     }
 
     @Override
     public void scrollIntoView(By locator) {
+        Optional<List<String>> locatorArguments = JavascriptLocators.locatorArguments(locator);
+        if (locatorArguments.isPresent() && scrollIntoViewInPage(locatorArguments.get(), null)) {
+            return;
+        }
         WebElement el = verifyElementPresented(locator, TimeoutType.DEFAULT);
         scrollIntoView(el);
     }
 
     @Override
     public void scrollIntoView(WebElement el) {
-        int scrollHeight = getWindowInnerHeight();
-        int y = Math.max(0, el.getLocation().getY() - scrollHeight / 2); //Subtract half the window height so its in the middle of the viewable area.
-        executeJavascript(format("window.scrollTo(%d, %d)", 0, y));
+        scrollIntoViewInPage(el, null);
     }
 
     @Override
     public void scrollIntoView(By scrollContainerLocator, By locator) {
+        Optional<List<String>> containerArguments = JavascriptLocators.locatorArguments(scrollContainerLocator);
+        Optional<List<String>> locatorArguments = JavascriptLocators.locatorArguments(locator);
+        if (containerArguments.isPresent() && locatorArguments.isPresent()
+            && scrollIntoViewInPage(locatorArguments.get(), containerArguments.get())) {
+            return;
+        }
         WebElement parent = verifyElementPresented(scrollContainerLocator, TimeoutType.DEFAULT);
         WebElement el = verifyElementPresented(locator, TimeoutType.DEFAULT);
-        int currentScrollTop = ((Long) executeJavascript(format("return $('%s').scrollTop()", scrollContainerLocator))).intValue();
-        int y = el.getLocation().getY();
-        int parentY = parent.getLocation().getY();
-        int scrollTo = Math.max(0, y - parentY + currentScrollTop);
-        executeJavascript(format("$('%s').scrollTop(%d)", scrollContainerLocator, scrollTo));
+        scrollIntoViewInPage(el, parent);
     }
 
     @Override
     public void scrollIntoView(By scrollContainerLocator, WebElement el) {
+        Optional<List<String>> containerArguments = JavascriptLocators.locatorArguments(scrollContainerLocator);
+        if (containerArguments.isPresent() && scrollIntoViewInPage(el, containerArguments.get())) {
+            return;
+        }
         WebElement parent = verifyElementPresented(scrollContainerLocator, TimeoutType.DEFAULT);
-        int currentScrollTop = ((Long) executeJavascript(format("return $('%s').scrollTop()", scrollContainerLocator))).intValue();
-        int y = el.getLocation().getY();
-        int parentY = parent.getLocation().getY();
-        int scrollTo = Math.max(0, y - parentY + currentScrollTop);
-        executeJavascript(format("$('%s').scrollTop(%d)", scrollContainerLocator, scrollTo));
+        scrollIntoViewInPage(el, parent);
+    }
+
+    /**
+     * Scroll the target into the middle of the container, or of its scrollable ancestors and the window, with a single
+     * async script that waits for smooth scrolling to settle.
+     *
+     * @param target - a WebElement, or the locator arguments from {@link JavascriptLocators#locatorArguments(By)}
+     * @param container - a WebElement, locator arguments, or null to scroll the nearest scroll containers and the window
+     * @return - false if the target or the container isn't present
+     */
+    protected boolean scrollIntoViewInPage(Object target, @Nullable Object container) {
+        getBrowser().ensureScriptTimeoutForWait(SCROLL_SETTLE_TIMEOUT);
+        return "ok".equals(PageRuntime.callAsync(webDriver(), "scrollIntoView", target, container, SCROLL_SETTLE_TIMEOUT.toMillis()));
     }
 
     @Override
     public void verifyElementContainsText(final By locator, final String text, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
         final String errorMessage = format("Failure in verifyElementContainsText: an element with Locator '%s' was never found containing text '%s'!",
                                            locator, text);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        waitUntil(ExpectedConditions.textToBePresentInElementLocated(locator, text), errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         logger.info("SUCCESS: Verified element with Locator '{}' contains text '{}'", locator, text);
     }
 
@@ -1001,85 +1372,85 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
 
     @Override
     public void verifyElementNotPresented(By locator, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
-        final String errorMessage = format("Failure in verifyElementNotPresented: element '%s' never became not presented after %d seconds!",
-                                           locator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        final String errorMessage = format("Failure in verifyElementNotPresented: element '%s' never became not presented after %s!",
+                                           locator, GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.invisibilityOfElementLocated(locator), errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         logger.trace("SUCCESS: Verified element with locator '{}' is NOT present", locator);
     }
 
     @Override
     public WebElement verifyElementNotSelected(By locator, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getClickTimeoutSeconds(), timeout);
-        final String errorMessage = format("Failure in verifyElementNotSelected: Element '%s' never became deselected after %d seconds!",
-                                           locator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(ExpectedConditions.elementSelectionStateToBe(locator, false));
+        Duration waitTime = getTimeout(TimeoutType.CLICK_TIMEOUT, timeout);
+        final String errorMessage = format("Failure in verifyElementNotSelected: Element '%s' never became deselected after %s!",
+                                           locator, GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.elementSelectionStateToBe(locator, false), errorMessage, TimeoutType.CLICK_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         logger.info("SUCCESS: Verified element with locator '{}' is NOT selected", locator);
         return webDriver().findElement(locator);
     }
 
     @Override
     public WebElement verifyElementNotSelected(WebElement el, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getClickTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.until(ExpectedConditions.elementSelectionStateToBe(el, false));
+        waitUntil(ExpectedConditions.elementSelectionStateToBe(el, false), null, TimeoutType.CLICK_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         logger.info("SUCCESS: Verified element <{}> is NOT selected", el.getTagName());
         return el;
     }
 
     @Override
     public WebElement verifyElementPresented(By locator, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
         final String errorMessage =
-            format("Failure in verifyElementPresented: element '%s' never became presented after %d seconds!",
-                   locator.toString(), waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage).ignoring(StaleElementReferenceException.class);
-        WebElement el = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            format("Failure in verifyElementPresented: element '%s' never became presented after %s!",
+                   locator.toString(), GeneralUtils.formatDuration(waitTime));
+        WebElement el = waitUntil(ExpectedConditions.presenceOfElementLocated(locator), errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         logger.trace("SUCCESS: Verified element with Locator '{}' is present", locator.toString());
         return el;
     }
 
     @Override
     public void verifyElementRemoved(WebElement element, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout);
-        logger.info("Waiting for element to become stale (removed from the DOM) using timeout of {} seconds", waitSeconds);
-        waitOnExpectedConditionForSeconds(ExpectedConditions.stalenessOf(element),
-                                          "Timeout waiting for web element to become stale (removed from the DOM).",
-                                          waitSeconds);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        logger.info("Waiting for element to become stale (removed from the DOM) using timeout of {}", GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.stalenessOf(element),
+                  "Timeout waiting for web element to become stale (removed from the DOM).",
+                  TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, DEFAULT_POLL_MILLIS);
         logger.info("Verified web element became stale (removed from the DOM).");
     }
 
     @Override
     public WebElement verifyElementSelected(By locator, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getClickTimeoutSeconds(), timeout);
-        final String errorMessage = format("Failure in verifyElementSelected: Element '%s' never became selected after %d seconds!",
-                                           locator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(ExpectedConditions.elementToBeSelected(locator));
+        Duration waitTime = getTimeout(TimeoutType.CLICK_TIMEOUT, timeout);
+        final String errorMessage = format("Failure in verifyElementSelected: Element '%s' never became selected after %s!",
+                                           locator, GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.elementToBeSelected(locator), errorMessage, TimeoutType.CLICK_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         return webDriver().findElement(locator);
     }
 
     @Override
     public WebElement verifyElementSelected(WebElement el, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getClickTimeoutSeconds(), timeout);
-        final String errorMessage = format("Failure in verifyElementSelected: Element '%s' never became selected after %d seconds!",
-                                           el.getTagName(), waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage);
-        wait.until(ExpectedConditions.elementToBeSelected(el));
+        Duration waitTime = getTimeout(TimeoutType.CLICK_TIMEOUT, timeout);
+        final String errorMessage = format("Failure in verifyElementSelected: Element '%s' never became selected after %s!",
+                                           el.getTagName(), GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.elementToBeSelected(el), errorMessage, TimeoutType.CLICK_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         logger.info("SUCCESS: Verified element <{}> is selected", el.getTagName());
         return el;
     }
 
+    @Override
+    public CompletableFuture<WebElement> verifyElementPresentedAsync(By locator, TimeoutType timeout) {
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        final String errorMessage =
+            format("Failure in verifyElementPresentedAsync: element '%s' never became presented after %s!",
+                   locator.toString(), GeneralUtils.formatDuration(waitTime));
+        return waitUntilAsync(ExpectedConditions.presenceOfElementLocated(locator), errorMessage, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, SLOW_POLL_MILLIS);
+    }
+
+    @Override
+    public CompletableFuture<WebElement> verifyElementVisibleAsync(By locator, TimeoutType timeout) {
+        final String errorMessage = format("Error in verifyElementVisibleAsync: element with locator '%s' never became visible", locator);
+        return waitOnExpectedConditionAsync(ExpectedConditions.visibilityOfElementLocated(locator), errorMessage, timeout);
+    }
+
     @Override
     public WebElement verifyElementVisible(final By locator, TimeoutType timeout) {
         final String errorMessage = format("Error in verifyElementVisible: element with locator '%s' never became visible", locator);
@@ -1115,11 +1486,12 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
 
     @Override
     public WebElement verifyPageRefreshed(WebElement elementFromBeforeRefresh, By locatorAfterRefresh, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getPageRefreshTimeoutSeconds(), timeout);
-        logger.info("Waiting for locator '{}' to be present after page refreshes, using timeout of {} seconds", locatorAfterRefresh, waitSeconds);
-        waitOnExpectedConditionForSeconds(ExpectedConditions.stalenessOf(elementFromBeforeRefresh),
-                                          "Timeout waiting for web element to become stale (waiting for page to reload).",
-                                          waitSeconds);
+        Duration waitTime = getTimeout(TimeoutType.PAGE_REFRESH_TIMEOUT, timeout);
+        logger.info("Waiting for locator '{}' to be present after page refreshes, using timeout of {}",
+                    locatorAfterRefresh, GeneralUtils.formatDuration(waitTime));
+        waitUntil(ExpectedConditions.stalenessOf(elementFromBeforeRefresh),
+                  "Timeout waiting for web element to become stale (waiting for page to reload).",
+                  TimeoutType.PAGE_REFRESH_TIMEOUT, timeout, DEFAULT_POLL_MILLIS);
         logger.info("Verified web element became stale (page is reloading).");
         WebElement el = verifyElementPresented(locatorAfterRefresh, TimeoutType.DEFAULT);
         logger.info("Successfully verified page refreshed by finding web element with locator '{}'.", locatorAfterRefresh);
@@ -1129,133 +1501,155 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
 
     @Override
     public void waitForJavascriptSymbolToBeDefined(final String symbol, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getPageLoadTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds, DEFAULT_POLL_MILLIS); //Check every 100ms
-        wait.ignoring(StaleElementReferenceException.class);
+        Duration waitTime = getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
         try {
-            wait.until(new ExpectedCondition<Object>() {
-                @Nullable
-                @Override
-                public Object apply(@Nullable WebDriver input) {
-                    Object jsResult = executeJavascript(format("return (typeof %s != 'undefined') && (%s != null)", symbol, symbol));
-                    logger.trace("javascript result: " + jsResult);
-                    return jsResult;
-                }
-            });
+            waitForJavascriptCondition(format("(typeof %s != 'undefined') && (%s != null)", symbol, symbol),
+                                       null, TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
         } catch (TimeoutException e) {
             throw new RuntimeException(
-                format("Timeout waiting for javascript symbol '%s' to be defined with %d seconds timeout used", symbol, waitSeconds), e);
+                format("Timeout waiting for javascript symbol '%s' to be defined with %s timeout used", symbol,
+                       GeneralUtils.formatDuration(waitTime)), e);
         }
         logger.info("Success verifying javascript symbol '{}' is defined!", symbol);
     }
 
     @Override
     public void waitForJavascriptSymbolToHaveValue(final String symbol, final String value, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getPageLoadTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds, DEFAULT_POLL_MILLIS); //Check every 100ms
-        wait.ignoring(StaleElementReferenceException.class);
+        Duration waitTime = getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
         try {
-            wait.until(new ExpectedCondition<Object>() {
-                @Nullable
-                @Override
-                public Object apply(@Nullable WebDriver input) {
-                    Object jsResult = executeJavascript(format("return (%s) === (%s)", symbol, value));
-                    logger.trace("javascript result: " + jsResult);
-                    return jsResult;
-                }
-            });
+            waitForJavascriptCondition(format("(%s) === (%s)", symbol, value), null, TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
         } catch (TimeoutException e) {
             throw new RuntimeException(
-                format("Timeout waiting for javascript symbol '%s' to have value '%s' with %d seconds timeout used", symbol, value, waitSeconds), e);
+                format("Timeout waiting for javascript symbol '%s' to have value '%s' with %s timeout used", symbol, value,
+                       GeneralUtils.formatDuration(waitTime)), e);
         }
         logger.info("Success verifying javascript symbol '{}' has value '{}'!", symbol, value);
     }
 
     @Override
     public void waitForPageToBeStable(TimeoutType timeout) {
-        int waitSeconds = getTimeout(BrowserUtil.DEFAULT_TIMEOUT_SECONDS, timeout);
-        BrowserUtil.waitForPageHtmlToBeStable(getBrowser(), waitSeconds);
+        Duration waitTime = getTimeout(Duration.ofSeconds(BrowserUtil.DEFAULT_TIMEOUT_SECONDS), timeout);
+        Optional<Duration> remaining = getBrowser().getRemainingDeadline();
+        if (remaining.isPresent() && remaining.get().compareTo(waitTime) < 0) {
+            waitTime = remaining.get();
+        }
+        BrowserUtil.waitForPageHtmlToBeStable(getBrowser(), waitTime);
     }
 
     @Override
     public void waitForTinyMceToBeReady() {
-        waitForJavascriptSymbolToBeDefined("tinyMCE", TimeoutType.DEFAULT);
-        waitForJavascriptSymbolToBeDefined("tinyMCE.activeEditor", TimeoutType.DEFAULT);
-        waitForJavascriptSymbolToHaveValue("tinyMCE.activeEditor.initialized", "true", TimeoutType.DEFAULT);
+        // One wait for the whole chain, instead of waiting for each symbol in turn
+        Duration waitTime = getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT, TimeoutType.DEFAULT);
+        try {
+            waitForJavascriptCondition("(typeof tinyMCE != 'undefined') && (tinyMCE != null) && (tinyMCE.activeEditor != null)"
+                                       + " && (tinyMCE.activeEditor.initialized === true)",
+                                       null, TimeoutType.PAGE_LOAD_TIMEOUT, TimeoutType.DEFAULT);
+        } catch (TimeoutException e) {
+            throw new RuntimeException(
+                format("Timeout waiting for tinyMCE.activeEditor to be initialized with %s timeout used",
+                       GeneralUtils.formatDuration(waitTime)), e);
+        }
+        logger.info("Success verifying tinyMCE.activeEditor is initialized!");
     }
 
     @Override
     public void waitForWebPageReadyStateToBeComplete() {
-        final int waitSeconds = timeoutsConfig.getPageLoadTimeoutSeconds();
-        waitOnPredicate(new Predicate() {
-                            @Override
-                            public boolean apply(@Nullable Object o) {
-                                try {
-                                    String readyState = getWebPageReadyState();
-                                    return Objects.equals(readyState, "complete");
-                                } catch (Exception e) {
-                                    return false;
-                                }
-                            }
-                        },
-                        String.format("Error - web page never reached document.readyState='complete' after %d seconds", waitSeconds),
-                        TimeoutType.PAGE_LOAD_TIMEOUT);
-        logger.info("Success - Waited for document.readyState to be 'complete' on page: " + webDriver().getCurrentUrl());
+        waitForWebPageReadyStateToBeComplete(false);
+    }
+
+    @Override
+    public Duration waitForWebPageReadyStateToBeComplete(boolean waitForFontsAndFirstFrame) {
+        // Report the wait time actually used, which an enclosing deadline may have shortened
+        Duration waitTime = getWaitTime(TimeoutType.PAGE_LOAD_TIMEOUT, "Error - web page never reached document.readyState='complete'");
+        String message = format("Error - web page never reached document.readyState='complete' after %s",
+                                GeneralUtils.formatDuration(waitTime));
+        long start = System.nanoTime();
+        Object result;
+        try {
+            getBrowser().ensureScriptTimeoutForWait(waitTime);
+            result = PageRuntime.callAsync(webDriver(), "waitForReadyState", waitTime.toMillis(), waitForFontsAndFirstFrame);
+        } catch (WebDriverException | ClassCastException e) {
+            // E.g. the document unloaded while waiting, because the page is still navigating
+            logger.info("Unable to wait for document.readyState with an async script, falling back to polling: {}", e.getMessage());
+            Duration remaining = waitTime.minus(Duration.ofNanos(System.nanoTime() - start));
+            // Not recorded on its own, the whole wait is recorded below
+            pollUntil(webDriver(), new Function<WebDriver, Boolean>() {
+                @Override
+                public Boolean apply(@Nullable WebDriver input) {
+                    try {
+                        return Objects.equals(getWebPageReadyState(), "complete");
+                    } catch (Exception e) {
+                        return false;
+                    }
+                }
+            }, message, remaining.isNegative() ? Duration.ZERO : remaining, DEFAULT_POLL_MILLIS);
+            result = true;
+        }
+        if (!Boolean.TRUE.equals(result)) {
+            throw new TimeoutException(message);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Optional<WaitStatistics> waitStatistics = getBrowser().getWaitStatistics();
+        if (waitStatistics.isPresent()) {
+            waitStatistics.get().record(TimeoutType.PAGE_LOAD_TIMEOUT, elapsed);
+        }
+        logger.info("Success - Waited {} ms for document.readyState to be 'complete' on page: {}", elapsed.toMillis(), webDriver().getCurrentUrl());
+        return elapsed;
     }
 
     @Override
     public <T> T waitOnExpectedCondition(ExpectedCondition<T> expectedCondition, String message, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getWebElementPresenceTimeoutSeconds(), timeout); //Default of web element presence timeout
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds, DEFAULT_POLL_MILLIS);
-        wait.withMessage(message)
-            .ignoring(StaleElementReferenceException.class);
-        logger.info("Waiting on expected condition, using timeout of {} seconds", waitSeconds);
-        return wait.until(expectedCondition);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout); //Default of web element presence timeout
+        logger.info("Waiting on expected condition, using timeout of {}", GeneralUtils.formatDuration(waitTime));
+        return waitUntil(expectedCondition, message, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, DEFAULT_POLL_MILLIS);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> waitOnExpectedConditionAsync(ExpectedCondition<T> expectedCondition, String message, TimeoutType timeout) {
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        logger.info("Waiting asynchronously on expected condition, using timeout of {}", GeneralUtils.formatDuration(waitTime));
+        return waitUntilAsync(expectedCondition, message, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, DEFAULT_POLL_MILLIS);
+    }
+
+    @Override
+    public <T, V> CompletableFuture<V> waitOnFunctionAsync(Function<T, V> function, T input, String message, TimeoutType timeout) {
+        return waitUntilAsync(input, function, message, TimeoutType.LONG, timeout, DEFAULT_POLL_MILLIS);
     }
 
     @Override
     public <T, V> V waitOnFunction(Function<T, V> function, T input, String message, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getLongTimeoutSeconds(), timeout);
-        FluentWait<T> fluentWait = new FluentWait<T>(input)
-            .withTimeout(waitSeconds, TimeUnit.SECONDS)
-            .pollingEvery(DEFAULT_POLL_MILLIS, TimeUnit.MILLISECONDS)
-            .withMessage(message)
-            .ignoring(NotFoundException.class)
-            .ignoring(StaleElementReferenceException.class);
-        return fluentWait.until(function);
+        return waitUntil(input, function, message, TimeoutType.LONG, timeout, DEFAULT_POLL_MILLIS);
     }
 
     public <T extends TopLevelPage> T waitOnPagePredicateWithRefresh(final Predicate<T> predicate, final Class<T> pageClass, String message, TimeoutType timeout) {
-        int timeoutSeconds = getTimeout(timeoutsConfig.getPageLoadTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), timeoutSeconds, DEFAULT_POLL_MILLIS);
-        wait.withMessage(message)
-            .ignoring(StaleElementReferenceException.class);
-
-        logger.info("Waiting on Predicate for page {}, using timeout of {} seconds", pageClass.getSimpleName(), timeoutSeconds);
-        return wait.until(new Function<WebDriver, T>() {
+        Duration waitTime = getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
 
+        logger.info("Waiting on Predicate for page {}, using timeout of {}", pageClass.getSimpleName(), GeneralUtils.formatDuration(waitTime));
+        // Reuse the page loaded by the last refresh, instead of loading the page again on every poll
+        final List<T> currentPage = Lists.newArrayList(loadTopLevelPage(pageClass));
+        return waitWithRefresh(new Function<WebDriver, T>() {
             @Override
             public T apply(@Nullable WebDriver webDriver) {
-                T page = loadTopLevelPage(pageClass);
-                if (predicate.apply(page)) {
-                    return page;
-                }
-                getBrowser().refreshPage(pageClass);
-                return null;
+                T page = currentPage.get(0);
+                return predicate.apply(page) ? page : null;
             }
-        });
+        }, new Runnable() {
+            @Override
+            public void run() {
+                Browser<?> currentBrowser = getBrowser();
+                currentPage.set(0, currentBrowser.refreshPage(pageClass));
+            }
+        }, message, TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
     }
 
     @Override
-    public <T> void waitOnPredicate(Predicate<T> predicate, T input, String message, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getLongTimeoutSeconds(), timeout);
-        FluentWait<T> fluentWait = new FluentWait<T>(input)
-            .withTimeout(waitSeconds, TimeUnit.SECONDS)
-            .pollingEvery(DEFAULT_POLL_MILLIS, TimeUnit.MILLISECONDS)
-            .withMessage(message)
-            .ignoring(NotFoundException.class)
-            .ignoring(StaleElementReferenceException.class);
-        fluentWait.until(predicate);
+    public <T> void waitOnPredicate(final Predicate<T> predicate, T input, String message, TimeoutType timeout) {
+        waitUntil(input, new Function<T, Boolean>() {
+            @Override
+            public Boolean apply(@Nullable T input) {
+                return predicate.apply(input);
+            }
+        }, message, TimeoutType.LONG, timeout, DEFAULT_POLL_MILLIS);
     }
 
     @Override
@@ -1265,22 +1659,15 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
 
     @Override
     public <T> void waitOnPredicateWithRefresh(final Predicate<T> predicate, final T input, String message, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getPageLoadTimeoutSeconds(), timeout);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds, DEFAULT_POLL_MILLIS);
-        wait.withMessage(message)
-            .ignoring(StaleElementReferenceException.class);
+        Duration waitTime = getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
 
-        logger.info("Waiting on expected condition, using timeout of {} seconds", waitSeconds);
-        wait.until(new Predicate<WebDriver>() {
+        logger.info("Waiting on expected condition, using timeout of {}", GeneralUtils.formatDuration(waitTime));
+        waitWithRefresh(new Function<WebDriver, Boolean>() {
             @Override
-            public boolean apply(@Nullable WebDriver webDriver) {
-                if (predicate.apply(input)) {
-                    return true;
-                }
-                browser.refreshPage(BaseTopLevelPage.class);
-                return false;
+            public Boolean apply(@Nullable WebDriver webDriver) {
+                return predicate.apply(input);
             }
-        });
+        }, message, TimeoutType.PAGE_LOAD_TIMEOUT, timeout);
     }
 
     @Override
@@ -1288,25 +1675,67 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
         waitOnPredicateWithRefresh(predicate, new Object(), message, timeout);
     }
 
+    @Override
+    public List<WaitCondition> waitForAny(List<WaitCondition> conditions, TimeoutType timeout) {
+        return waitForConditions(conditions, false, timeout);
+    }
+
+    @Override
+    public List<WaitCondition> waitForAny(WaitCondition... conditions) {
+        return waitForAny(Arrays.asList(conditions), TimeoutType.DEFAULT);
+    }
+
+    @Override
+    public List<WaitCondition> waitForAll(List<WaitCondition> conditions, TimeoutType timeout) {
+        return waitForConditions(conditions, true, timeout);
+    }
+
+    @Override
+    public List<WaitCondition> waitForAll(WaitCondition... conditions) {
+        return waitForAll(Arrays.asList(conditions), TimeoutType.DEFAULT);
+    }
+
+    private List<WaitCondition> waitForConditions(final List<WaitCondition> conditions, final boolean requireAll, TimeoutType timeout) {
+        Preconditions.checkArgument(conditions != null && !conditions.isEmpty(), "Error: at least one WaitCondition is required");
+        final List<List<String>> conditionArguments = WaitCondition.runtimeArguments(conditions);
+        Duration waitTime = getTimeout(TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout);
+        final String message = format("Timeout waiting for %s of the conditions %s after %s",
+                                      requireAll ? "all" : "any", conditions, GeneralUtils.formatDuration(waitTime));
+        logger.info("Waiting for {} of the conditions {}, using timeout of {}",
+                    new Object[] {requireAll ? "all" : "any", conditions, GeneralUtils.formatDuration(waitTime)});
+        List<WaitCondition> matched = waitUntil(new Function<WebDriver, List<WaitCondition>>() {
+            @Override
+            public List<WaitCondition> apply(@Nullable WebDriver webDriver) {
+                List<?> results = (List<?>) PageRuntime.call(webDriver, "checkConditions", conditionArguments);
+                List<WaitCondition> satisfied = Lists.newArrayList();
+                for (int i = 0; i < conditions.size(); i++) {
+                    if (Boolean.TRUE.equals(results.get(i))) {
+                        satisfied.add(conditions.get(i));
+                    }
+                }
+                if (satisfied.isEmpty() || (requireAll && satisfied.size() < conditions.size())) {
+                    return null;
+                }
+                return satisfied;
+            }
+        }, message, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, timeout, DEFAULT_POLL_MILLIS);
+        logger.info("Success waiting for conditions, satisfied: {}", matched);
+        return matched;
+    }
+
     @Override
     public WebElement waitUntilClickable(By locator, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getClickTimeoutSeconds(), timeout);
-        final String errorMessage = format("Element '%s' never became clickable after '%d' seconds", locator, waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(errorMessage)
-            .ignoring(StaleElementReferenceException.class);
-        logger.info("Waiting for locator element '{}' to be clickable, using timeout of {} seconds", locator, waitSeconds);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        Duration waitTime = getTimeout(TimeoutType.CLICK_TIMEOUT, timeout);
+        final String errorMessage = format("Element '%s' never became clickable after %s", locator, GeneralUtils.formatDuration(waitTime));
+        logger.info("Waiting for locator element '{}' to be clickable, using timeout of {}", locator, GeneralUtils.formatDuration(waitTime));
+        return waitUntil(ExpectedConditions.elementToBeClickable(locator), errorMessage, TimeoutType.CLICK_TIMEOUT, timeout, SLOW_POLL_MILLIS);
     }
 
     @Override
     public WebElement waitUntilClickable(final WebElement el, TimeoutType timeout) {
-        int waitSeconds = getTimeout(timeoutsConfig.getClickTimeoutSeconds(), timeout);
-        final String message = format("Element never became clickable after '%d' seconds", waitSeconds);
-        WebDriverWait wait = new WebDriverWait(webDriver(), waitSeconds);
-        wait.withMessage(message)
-            .ignoring(StaleElementReferenceException.class);
-        wait.until(new ExpectedCondition<WebElement>() {
+        Duration waitTime = getTimeout(TimeoutType.CLICK_TIMEOUT, timeout);
+        final String message = format("Element never became clickable after %s", GeneralUtils.formatDuration(waitTime));
+        waitUntil(new ExpectedCondition<WebElement>() {
             @Override
             public WebElement apply(WebDriver webDriver) {
                 if (isClickable(el)) {
@@ -1314,7 +1743,7 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
                 }
                 return null;
             }
-        });
+        }, message, TimeoutType.CLICK_TIMEOUT, timeout, SLOW_POLL_MILLIS);
         return el;
     }
 
@@ -1395,10 +1824,380 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
         }
     }
 
+    /**
+     * Resolve the timeout to use for a method.
+     *
+     * @param defaultTimeout - the TimeoutType to use when DEFAULT is given, i.e. the default for the method's context
+     * @param timeout - the TimeoutType given by the caller
+     * @return - the resolved timeout
+     */
+    protected Duration getTimeout(TimeoutType defaultTimeout, TimeoutType timeout) {
+        return timeoutsConfig.getTimeout(timeout == TimeoutType.DEFAULT ? defaultTimeout : timeout);
+    }
+
+    protected Duration getTimeout(Duration defaultTimeout, TimeoutType timeout) {
+        return timeout == TimeoutType.DEFAULT ? defaultTimeout : timeoutsConfig.getTimeout(timeout);
+    }
+
+    /**
+     * @deprecated - timeouts are no longer whole seconds, use {@link #getTimeout(TimeoutType, TimeoutType)}
+     */
+    @Deprecated
     protected int getTimeout(int defaultTimeout, TimeoutType timeout) {
         return timeout == TimeoutType.DEFAULT ? defaultTimeout : timeoutsConfig.getTimeoutInSeconds(timeout);
     }
 
+    /**
+     * Resolve the TimeoutType to use for a method.
+     *
+     * @param defaultTimeout - the TimeoutType to use when DEFAULT is given, i.e. the default for the method's context
+     * @param timeout - the TimeoutType given by the caller
+     * @return - the resolved TimeoutType, never DEFAULT
+     */
+    protected TimeoutType resolveTimeoutType(TimeoutType defaultTimeout, TimeoutType timeout) {
+        return timeout == TimeoutType.DEFAULT ? defaultTimeout : timeout;
+    }
+
+    /**
+     * Wait until the given function returns a non-null value that isn't Boolean.FALSE, polling every pollMillis.
+     * All waiting in this class should go through this method.
+     *
+     * If the Browser has {@link WaitStatistics}, the time it took for a successful wait is recorded against
+     * the resolved TimeoutType.
+     *
+     * @param input - the input passed to the function on each poll
+     * @param function - the condition to wait for
+     * @param message - the message for the TimeoutException, or null for the default message
+     * @param defaultTimeout - the TimeoutType to use when DEFAULT is given
+     * @param timeout - the TimeoutType given by the caller
+     * @param pollMillis - how long to sleep between polls. Never sleeps longer than the timeout itself.
+     * @return - the last return value of the function
+     */
+    protected <I, T> T waitUntil(I input, Function<? super I, T> function, @Nullable String message,
+                                 TimeoutType defaultTimeout, TimeoutType timeout, long pollMillis) {
+        TimeoutType timeoutType = resolveTimeoutType(defaultTimeout, timeout);
+        Duration waitTime = getWaitTime(timeoutType, message);
+        if (waitTime.compareTo(timeoutsConfig.getTimeout(timeoutType)) < 0) {
+            message = limitedByDeadlineMessage(message, waitTime);
+        }
+        long start = System.nanoTime();
+        T result = pollUntil(input, function, message, waitTime, pollMillis);
+        Optional<WaitStatistics> waitStatistics = getBrowser().getWaitStatistics();
+        if (waitStatistics.isPresent()) {
+            waitStatistics.get().record(timeoutType, Duration.ofNanos(System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    /**
+     * Poll the function like {@link #waitUntil(Object, Function, String, TimeoutType, TimeoutType, long)} for exactly
+     * the given wait time, without recording it in the {@link WaitStatistics}, e.g. for a part of a longer wait that
+     * is recorded as a whole.
+     */
+    protected <I, T> T pollUntil(I input, Function<? super I, T> function, @Nullable String message,
+                                 Duration waitTime, long pollMillis) {
+        FluentWait<I> fluentWait = new FluentWait<I>(input)
+            .withTimeout(waitTime.toMillis(), TimeUnit.MILLISECONDS)
+            .pollingEvery(Math.max(1, Math.min(pollMillis, waitTime.toMillis())), TimeUnit.MILLISECONDS)
+            .withMessage(message)
+            .ignoring(NotFoundException.class)
+            .ignoring(StaleElementReferenceException.class);
+        return fluentWait.until(failFastOnFatalPage(function));
+    }
+
+    /**
+     * Same as {@link #waitUntil(Object, Function, String, TimeoutType, TimeoutType, long)}, but polls on a shared
+     * scheduler instead of blocking the calling thread.
+     *
+     * @return - a future completed with the last return value of the function, or completed exceptionally with
+     * a TimeoutException or FatalPageException. Cancelling the future stops the polling.
+     */
+    protected <I, T> CompletableFuture<T> waitUntilAsync(I input, final Function<? super I, T> function, @Nullable String message,
+                                                         TimeoutType defaultTimeout, TimeoutType timeout, long pollMillis) {
+        final TimeoutType timeoutType = resolveTimeoutType(defaultTimeout, timeout);
+        // The deadline is per thread, so the remaining budget is applied here, before polling on the shared threads
+        Duration waitTime;
+        try {
+            waitTime = getWaitTime(timeoutType, message);
+        } catch (TimeoutException e) {
+            CompletableFuture<T> expired = new CompletableFuture<T>();
+            expired.completeExceptionally(e);
+            return expired;
+        }
+        if (waitTime.compareTo(timeoutsConfig.getTimeout(timeoutType)) < 0) {
+            message = limitedByDeadlineMessage(message, waitTime);
+        }
+        final Function<? super I, T> condition = failFastOnFatalPage(function);
+        final Optional<WaitStatistics> waitStatistics = getBrowser().getWaitStatistics();
+        final long start = System.nanoTime();
+        return AsyncPoller.poll(getBrowser().getWebDriverLock(), input, new Function<I, T>() {
+            @Override
+            public T apply(@Nullable I input) {
+                T result = condition.apply(input);
+                if (result != null && !Boolean.FALSE.equals(result) && waitStatistics.isPresent()) {
+                    waitStatistics.get().record(timeoutType, Duration.ofNanos(System.nanoTime() - start));
+                }
+                return result;
+            }
+        }, message, waitTime, pollMillis);
+    }
+
+    protected <T> CompletableFuture<T> waitUntilAsync(Function<? super WebDriver, T> condition, @Nullable String message,
+                                                      TimeoutType defaultTimeout, TimeoutType timeout, long pollMillis) {
+        return waitUntilAsync(webDriver(), condition, message, defaultTimeout, timeout, pollMillis);
+    }
+
+    /**
+     * Wait until the given javascript expression is truthy, with a single executeAsyncScript call that polls
+     * inside the page every {@link #IN_PAGE_POLL_MILLIS} ms, rather than a WebDriver command per poll.
+     *
+     * The Browser's {@link FatalPageDetector}s are evaluated in the page as well. If the async script can't be used,
+     * e.g. because the page navigated away while waiting, falls back to polling with executeScript
+     * for the remaining time.
+     *
+     * @param expression - a javascript expression. Errors while evaluating it count as false.
+     * @param message - the message for the TimeoutException, or null for a default message
+     * @throws TimeoutException - if the expression wasn't truthy before the timeout
+     */
+    protected void waitForJavascriptCondition(final String expression, @Nullable String message,
+                                              TimeoutType defaultTimeout, TimeoutType timeout) {
+        final TimeoutType timeoutType = resolveTimeoutType(defaultTimeout, timeout);
+        if (message == null) {
+            message = format("Timeout waiting for javascript expression '%s' to be true", expression);
+        }
+        Duration waitTime = getWaitTime(timeoutType, message);
+        Browser<?> currentBrowser = getBrowser();
+        Optional<String> fatalPageScript = currentBrowser.getFatalPageScript();
+        String script = "rt.poll(function() { return (" + expression + "); }, arguments[0], " + IN_PAGE_POLL_MILLIS + ","
+                        + (fatalPageScript.isPresent() ? " function() { " + fatalPageScript.get() + " }," : " null,")
+                        + " " + (SLOW_POLL_MILLIS / IN_PAGE_POLL_MILLIS) + ", arguments[arguments.length - 1]);";
+        long start = System.nanoTime();
+        Object result;
+        try {
+            currentBrowser.ensureScriptTimeoutForWait(waitTime);
+            result = PageRuntime.executeAsync(webDriver(), script, waitTime.toMillis());
+        } catch (WebDriverException | ClassCastException e) {
+            logger.info("Unable to wait for javascript expression with an async script, falling back to polling: {}", e.getMessage());
+            Duration remaining = waitTime.minus(Duration.ofNanos(System.nanoTime() - start));
+            final String pollingMessage = message;
+            currentBrowser.runWithDeadline(remaining.isNegative() ? Duration.ZERO : remaining, new Runnable() {
+                @Override
+                public void run() {
+                    waitUntil(new ExpectedCondition<Object>() {
+                        @Nullable
+                        @Override
+                        public Object apply(@Nullable WebDriver input) {
+                            return executeJavascript(format("try { return !!(%s); } catch (e) { return false; }", expression));
+                        }
+                    }, pollingMessage, timeoutType, TimeoutType.DEFAULT, DEFAULT_POLL_MILLIS);
+                }
+            });
+            return;
+        }
+        if (result instanceof String) {
+            String currentUrl = webDriver().getCurrentUrl();
+            logger.error("Aborting wait, detected a fatal error page at {}: {}", currentUrl, result);
+            throw new FatalPageException(format("Aborting wait, detected a fatal error page at '%s': %s", currentUrl, result));
+        }
+        if (!Boolean.TRUE.equals(result)) {
+            throw new TimeoutException(message);
+        }
+        Optional<WaitStatistics> waitStatistics = getBrowser().getWaitStatistics();
+        if (waitStatistics.isPresent()) {
+            waitStatistics.get().record(timeoutType, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Poll the check every {@link TimeoutsConfig#getPauseBetweenTriesMillis()} ms, refreshing the page (keeping the
+     * cached page) according to the {@link RefreshPolicy} of the TimeoutsConfig.
+     */
+    protected <T> T waitWithRefresh(Function<WebDriver, T> check, @Nullable String message, TimeoutType defaultTimeout, TimeoutType timeout) {
+        return waitWithRefresh(check, new Runnable() {
+            @Override
+            public void run() {
+                getBrowser().refreshPage();
+            }
+        }, message, defaultTimeout, timeout);
+    }
+
+    /**
+     * Poll the check every {@link TimeoutsConfig#getPauseBetweenTriesMillis()} ms, running refresh according to the
+     * {@link RefreshPolicy} of the TimeoutsConfig: after the policy's pause, growing by its backoff multiplier after each
+     * refresh. If the policy probes for changes, a refresh is skipped when the server's response for the current URL
+     * hasn't changed since the last one.
+     *
+     * @param check - the condition, satisfied when it returns a non-null value that isn't Boolean.FALSE
+     * @param refresh - refreshes the page
+     * @return - the last return value of the check
+     */
+    protected <T> T waitWithRefresh(final Function<WebDriver, T> check, final Runnable refresh, @Nullable String message,
+                                    TimeoutType defaultTimeout, TimeoutType timeout) {
+        final RefreshPolicy policy = timeoutsConfig.getRefreshPolicy();
+        return waitUntil(new Function<WebDriver, T>() {
+            private int refreshCount = 0;
+            private long lastRefreshNanos = System.nanoTime();
+            private Optional<String> contentFingerprint = policy.isProbeForChanges() ? probeContentFingerprint() : Optional.<String>empty();
+
+            @Override
+            public T apply(@Nullable WebDriver webDriver) {
+                T result = check.apply(webDriver);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    return result;
+                }
+                if (System.nanoTime() - lastRefreshNanos < policy.getPause(refreshCount).toNanos()) {
+                    return null;
+                }
+                refreshCount++;
+                if (policy.isProbeForChanges()) {
+                    Optional<String> currentFingerprint = probeContentFingerprint();
+                    if (currentFingerprint.isPresent() && currentFingerprint.equals(contentFingerprint)) {
+                        logger.debug("Skipping refresh, the content of the page hasn't changed: {}", currentFingerprint.get());
+                        lastRefreshNanos = System.nanoTime();
+                        return null;
+                    }
+                    contentFingerprint = currentFingerprint;
+                }
+                refresh.run();
+                lastRefreshNanos = System.nanoTime();
+                return null;
+            }
+        }, message, defaultTimeout, timeout, timeoutsConfig.getPauseBetweenTriesMillis());
+    }
+
+    /**
+     * Fetch the current URL in the background with javascript, and return a fingerprint of the response:
+     * its ETag and Last-Modified headers, or its length if it has neither.
+     *
+     * @return - the fingerprint, or empty if the page couldn't be fetched
+     */
+    protected Optional<String> probeContentFingerprint() {
+        try {
+            getBrowser().ensureScriptTimeout(timeoutsConfig.getPageRefreshTimeout());
+            Object fingerprint = PageRuntime.callAsync(webDriver(), "contentFingerprint");
+            return fingerprint == null ? Optional.<String>empty() : Optional.of(fingerprint.toString());
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("Unable to probe the page for changes: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Find the first element matching the locator whose text contains the given text, scanning all elements in a single
+     * javascript call. Falls back to {@link #findElementContainingText(By, String, boolean)} and
+     * {@link #findVisibleElementContainingText(By, String, boolean)} for locators that can't be evaluated in javascript.
+     */
+    @Nullable
+    protected WebElement findElementContainingTextInPage(By locator, String text, boolean caseSensitive, boolean visibleOnly) {
+        Optional<List<String>> locatorArguments = JavascriptLocators.locatorArguments(locator);
+        if (!locatorArguments.isPresent() || !(webDriver() instanceof JavascriptExecutor)) {
+            return visibleOnly ? findVisibleElementContainingText(locator, text, caseSensitive)
+                               : findElementContainingText(locator, text, caseSensitive);
+        }
+        WebElement el = (WebElement) PageRuntime.call(webDriver(), "findElementContainingText", locatorArguments.get().get(0),
+                                                      locatorArguments.get().get(1), Strings.nullToEmpty(text), caseSensitive, visibleOnly);
+        if (el != null) {
+            logger.info("SUCCESS: Found {}web element containing text '{}' with locator '{}'",
+                        new Object[] {visibleOnly ? "visible " : "", text, locator});
+        }
+        return el;
+    }
+
+    /**
+     * @return - the timeout for the given TimeoutType, limited to the time remaining before the enclosing deadline, if any.
+     * @throws TimeoutException - if the enclosing deadline has already passed.
+     */
+    protected Duration getWaitTime(TimeoutType timeoutType, @Nullable String message) {
+        Duration waitTime = timeoutsConfig.getTimeout(timeoutType);
+        Optional<Duration> remaining = getBrowser().getRemainingDeadline();
+        if (remaining.isPresent() && remaining.get().compareTo(waitTime) < 0) {
+            if (remaining.get().isZero()) {
+                throw new TimeoutException(format("Deadline exceeded before waiting: %s", Strings.nullToEmpty(message)));
+            }
+            return remaining.get();
+        }
+        return waitTime;
+    }
+
+    private static String limitedByDeadlineMessage(@Nullable String message, Duration waitTime) {
+        return format("%s (wait limited to %s by the enclosing deadline)", Strings.nullToEmpty(message),
+                      GeneralUtils.formatDuration(waitTime));
+    }
+
+    /**
+     * Wrap a wait condition so that, when it isn't satisfied yet, the Browser's {@link FatalPageDetector}s are
+     * checked in the same poll, and the wait is aborted with a FatalPageException if the page is an error page.
+     * The detectors cost a javascript call, so they're checked on the first unsatisfied poll, then at most every
+     * {@link #FATAL_PAGE_CHECK_MILLIS} ms.
+     */
+    protected <I, T> Function<I, T> failFastOnFatalPage(final Function<? super I, T> function) {
+        return new Function<I, T>() {
+            // System.nanoTime() of the last check, or empty before the first one
+            private volatile Optional<Long> lastCheckNanos = Optional.empty();
+
+            @Override
+            public T apply(@Nullable I input) {
+                T result;
+                try {
+                    result = function.apply(input);
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    throwIfFatalPageCheckIsDue();
+                    throw e;
+                }
+                if (result == null || Boolean.FALSE.equals(result)) {
+                    throwIfFatalPageCheckIsDue();
+                }
+                return result;
+            }
+
+            private void throwIfFatalPageCheckIsDue() {
+                long now = System.nanoTime();
+                if (lastCheckNanos.isPresent() && now - lastCheckNanos.get() < TimeUnit.MILLISECONDS.toNanos(FATAL_PAGE_CHECK_MILLIS)) {
+                    return;
+                }
+                lastCheckNanos = Optional.of(now);
+                throwIfFatalPage();
+            }
+        };
+    }
+
+    protected void throwIfFatalPage() {
+        Browser<?> currentBrowser = getBrowser();
+        Optional<String> fatalPageReason = currentBrowser.detectFatalPage();
+        if (fatalPageReason.isPresent()) {
+            String currentUrl = webDriver().getCurrentUrl();
+            logger.error("Aborting wait, detected a fatal error page at {}: {}", currentUrl, fatalPageReason.get());
+            throw new FatalPageException(format("Aborting wait, detected a fatal error page at '%s': %s", currentUrl, fatalPageReason.get()));
+        }
+    }
+
+    protected <T> T waitUntil(Function<? super WebDriver, T> condition, @Nullable String message,
+                              TimeoutType defaultTimeout, TimeoutType timeout, long pollMillis) {
+        return waitUntil(webDriver(), condition, message, defaultTimeout, timeout, pollMillis);
+    }
+
+    @Override
+    public <T> T withDeadline(Duration budget, Supplier<T> block) {
+        // B is a raw Browser type, so go through Browser<?> to keep the generic return type
+        Browser<?> deadlineBrowser = getBrowser();
+        return deadlineBrowser.withDeadline(budget, block);
+    }
+
+    @Override
+    public <T> T withDeadline(TimeoutType budget, Supplier<T> block) {
+        return withDeadline(timeoutsConfig.getTimeout(budget), block);
+    }
+
+    @Override
+    public void runWithDeadline(Duration budget, Runnable block) {
+        getBrowser().runWithDeadline(budget, block);
+    }
+
+    @Override
+    public void runWithDeadline(TimeoutType budget, Runnable block) {
+        getBrowser().runWithDeadline(timeoutsConfig.getTimeout(budget), block);
+    }
+
     protected void invokeMenuItemAndSelect(WebElement clickable, By popoverLocator) {
         Preconditions.checkNotNull(clickable, "Input WebElement cannot be null");
         waitUntilClickable(clickable, TimeoutType.DEFAULT);
@@ -1412,28 +2211,4 @@ public abstract class BaseSeleniumActions<B extends Browser> implements Selenium
     protected WebDriver webDriver() {
         return browser.getWebDriver();
     }
-
-    private <T> T waitOnExpectedConditionForSeconds(ExpectedCondition<T> expectedCondition, String message, int timeout) {
-        WebDriverWait wait = new WebDriverWait(webDriver(), timeout, DEFAULT_POLL_MILLIS);
-        wait.withMessage(message)
-            .ignoring(StaleElementReferenceException.class);
-        logger.info("Waiting on expected condition, using timeout of {} seconds", timeout);
-        return wait.until(expectedCondition);
-    }
-
-    /**
-     * Get the window inner height in a cross-browser compatible way.
-     * @see <a href="http://www.w3schools.com/jsref/prop_win_innerheight.asp">Window innerWidth and innerHeight Properties</a>
-     * @return the inner height of the current window.
-     */
-    private int getWindowInnerHeight() {
-        Object innerHeight = executeJavascript(
-            "return window.innerHeight || document.documentElement.clientHeight || document.body.clientHeight;");
-        if (!(innerHeight instanceof Long)) {
-            logger.warn("Error getting the inner height, a null value was returned from Javascript. Using outer window height.");
-            return webDriver().manage().window().getSize().getHeight();
-        }
-
-        return ((Long) innerHeight).intValue();
-    }
 }
@@ -0,0 +1,146 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Preconditions;
+import org.openqa.selenium.By;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * <p>Describes a lazily loaded list of elements, such as an infinite-scroll activity stream, for
+ * {@link SeleniumActions#streamElements(ElementStream)}, {@link SeleniumActions#streamText(ElementStream)} and
+ * {@link SeleniumActions#streamAttribute(ElementStream, String)}.</p>
+ *
+ * <p>The returned java.util.stream.Stream fetches the items in batches with one javascript call per batch. When all
+ * the items currently in the page have been consumed, the scroll container (or the window) is scrolled to the bottom
+ * to load more, until no new items appear within the load-more timeout, or the maximum number of scrolls is reached.
+ * Items already returned are skipped, by element or by the value of a key attribute, so virtualized lists that
+ * re-render their rows don't return duplicates. Nothing is fetched beyond what the consumer of the stream needs,
+ * so short-circuiting operations like findFirst() or limit() stop scrolling early.</p>
+ *
+ * Example:
+ * <pre>
+ *     Optional&lt;String&gt; mine = a.streamText(ElementStream.builder(By.cssSelector(".j-act-entry"))
+ *             .scrollContainer(By.id("j-activity-stream"))
+ *             .dedupByAttribute("data-object-id")
+ *             .build())
+ *         .filter(text -&gt; text.contains("My status update"))
+ *         .findFirst();
+ * </pre>
+ */
+public final class ElementStream {
+    private final By itemLocator;
+    private final Optional<By> scrollContainerLocator;
+    private final Optional<String> dedupAttribute;
+    private final int batchSize;
+    private final int maxScrolls;
+    private final Duration loadMoreTimeout;
+
+    private ElementStream(By itemLocator, Optional<By> scrollContainerLocator, Optional<String> dedupAttribute,
+                          int batchSize, int maxScrolls, Duration loadMoreTimeout) {
+        this.itemLocator = itemLocator;
+        this.scrollContainerLocator = scrollContainerLocator;
+        this.dedupAttribute = dedupAttribute;
+        this.batchSize = batchSize;
+        this.maxScrolls = maxScrolls;
+        this.loadMoreTimeout = loadMoreTimeout;
+    }
+
+    public static Builder builder(By itemLocator) {
+        return new Builder(itemLocator);
+    }
+
+    public By getItemLocator() {
+        return itemLocator;
+    }
+
+    public Optional<By> getScrollContainerLocator() {
+        return scrollContainerLocator;
+    }
+
+    public Optional<String> getDedupAttribute() {
+        return dedupAttribute;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxScrolls() {
+        return maxScrolls;
+    }
+
+    public Duration getLoadMoreTimeout() {
+        return loadMoreTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ElementStream of '%s'%s", itemLocator,
+                             scrollContainerLocator.isPresent() ? " in '" + scrollContainerLocator.get() + "'" : "");
+    }
+
+    public static final class Builder {
+        private final By itemLocator;
+        private Optional<By> scrollContainerLocator = Optional.empty();
+        private Optional<String> dedupAttribute = Optional.empty();
+        private int batchSize = 20;
+        private int maxScrolls = 50;
+        private Duration loadMoreTimeout = Duration.ofSeconds(3);
+
+        private Builder(By itemLocator) {
+            this.itemLocator = Preconditions.checkNotNull(itemLocator);
+        }
+
+        /**
+         * Set the element that scrolls to load more items. By default, the window is scrolled.
+         */
+        public Builder scrollContainer(@Nullable By scrollContainerLocator) {
+            this.scrollContainerLocator = Optional.ofNullable(scrollContainerLocator);
+            return this;
+        }
+
+        /**
+         * Skip items whose value for the attribute was already returned, instead of skipping the same elements.
+         * Use it for virtualized lists that recycle or re-create the elements of the rows.
+         */
+        public Builder dedupByAttribute(@Nullable String attribute) {
+            this.dedupAttribute = Optional.ofNullable(attribute);
+            return this;
+        }
+
+        /**
+         * Set the maximum number of items fetched per javascript call. The default is 20.
+         */
+        public Builder batchSize(int batchSize) {
+            Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of times to scroll to load more items. The default is 50.
+         */
+        public Builder maxScrolls(int maxScrolls) {
+            Preconditions.checkArgument(maxScrolls >= 0, "The maximum number of scrolls cannot be negative");
+            this.maxScrolls = maxScrolls;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for new items after scrolling, before the list is considered fully loaded.
+         * The default is 3 seconds.
+         */
+        public Builder loadMoreTimeout(Duration loadMoreTimeout) {
+            Preconditions.checkNotNull(loadMoreTimeout);
+            Preconditions.checkArgument(!loadMoreTimeout.isNegative(), "The timeout cannot be negative: %s", loadMoreTimeout);
+            this.loadMoreTimeout = loadMoreTimeout;
+            return this;
+        }
+
+        public ElementStream build() {
+            return new ElementStream(itemLocator, scrollContainerLocator, dedupAttribute, batchSize, maxScrolls, loadMoreTimeout);
+        }
+    }
+}
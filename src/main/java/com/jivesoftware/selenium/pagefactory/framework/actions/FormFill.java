@@ -0,0 +1,133 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Describes the values to fill into a form with {@link SeleniumActions#fillForm(FormFill)}.</p>
+ *
+ * <p>Fields filled with {@link Mode#SCRIPT} (the default) are all set in a single javascript call, using the native
+ * value setters and dispatching input, change and blur events so that javascript frameworks notice the new values.
+ * Fields that need real key events, e.g. autocompletes, can be filled with {@link Mode#NATIVE} (clear + sendKeys)
+ * or {@link Mode#SLOW} (clear + inputTextSlowly) instead.</p>
+ *
+ * <p>Values are interpreted by the type of the field:</p>
+ * <ul>
+ *     <li>text inputs and textareas: the new value, replacing the current one</li>
+ *     <li>selects: the value or the visible text of the option to select</li>
+ *     <li>checkboxes: "true" or "false"</li>
+ *     <li>radios: the value attribute of the radio to select among the elements matching the locator,
+ *         or "true" to select the first one</li>
+ * </ul>
+ *
+ * Example:
+ * <pre>
+ *     a.fillForm(FormFill.builder()
+ *         .field(By.id("title"), "My document")
+ *         .field(By.name("category"), "Engineering")
+ *         .checkbox(By.id("notify"), true)
+ *         .slowField(By.id("tags"), "selenium")
+ *         .build());
+ * </pre>
+ */
+public final class FormFill {
+    public enum Mode {
+        /** Set the value in a single script for all fields, dispatching input/change/blur events. */
+        SCRIPT,
+        /** Clear the field and send the keys with WebDriver. */
+        NATIVE,
+        /** Clear the field and send the keys one at a time, like inputTextSlowly(). */
+        SLOW
+    }
+
+    public static final class Field {
+        private final By locator;
+        private final String value;
+        private final Mode mode;
+
+        private Field(By locator, String value, Mode mode) {
+            this.locator = locator;
+            this.value = value;
+            this.mode = mode;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("'%s' = '%s' (%s)", locator, value, mode);
+        }
+    }
+
+    private final List<Field> fields;
+
+    private FormFill(List<Field> fields) {
+        this.fields = fields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return - a FormFill setting all the given fields with {@link Mode#SCRIPT}, in the iteration order of the Map.
+     */
+    public static FormFill fromMap(Map<By, String> values) {
+        Builder builder = builder();
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    public static final class Builder {
+        private final ImmutableList.Builder<Field> fields = ImmutableList.builder();
+
+        private Builder() {
+        }
+
+        public Builder field(By locator, String value) {
+            return field(locator, value, Mode.SCRIPT);
+        }
+
+        public Builder nativeField(By locator, String value) {
+            return field(locator, value, Mode.NATIVE);
+        }
+
+        public Builder slowField(By locator, String value) {
+            return field(locator, value, Mode.SLOW);
+        }
+
+        public Builder checkbox(By locator, boolean checked) {
+            return field(locator, String.valueOf(checked), Mode.SCRIPT);
+        }
+
+        public Builder field(By locator, String value, Mode mode) {
+            fields.add(new Field(Preconditions.checkNotNull(locator), Preconditions.checkNotNull(value, "Error: value for '%s' cannot be null", locator),
+                                 Preconditions.checkNotNull(mode)));
+            return this;
+        }
+
+        public FormFill build() {
+            return new FormFill(fields.build());
+        }
+    }
+}
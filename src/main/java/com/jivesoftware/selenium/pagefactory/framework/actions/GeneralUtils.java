@@ -1,5 +1,7 @@
 package com.jivesoftware.selenium.pagefactory.framework.actions;
 
+import java.time.Duration;
+
 /**
  * General Utilities.
  *
@@ -31,4 +33,16 @@ public class GeneralUtils {
     public static void waitFiveSeconds() {
         waitSeconds(5);
     }
+
+    /**
+     * Format a timeout for log and error messages, e.g. "5 seconds" or "250 ms".
+     */
+    public static String formatDuration(Duration duration) {
+        long millis = duration.toMillis();
+        if (millis % 1000 != 0) {
+            return millis + " ms";
+        }
+        long seconds = millis / 1000;
+        return seconds == 1 ? "1 second" : seconds + " seconds";
+    }
 }
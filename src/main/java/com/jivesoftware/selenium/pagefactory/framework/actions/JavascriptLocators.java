@@ -0,0 +1,133 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.collect.ImmutableSet;
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Translates Selenium {@link By} locators into javascript expressions, so that elements can be looked up inside
+ * scripts that run in the page, without a WebDriver round trip per element.
+ *
+ * Only the standard locators (id, name, class name, tag name, CSS selector, XPath, link text and partial link text)
+ * can be translated. Custom By implementations, ByChained, ByIdOrName, etc. aren't supported.
+ */
+public final class JavascriptLocators {
+    private static final Set<String> STRATEGIES = ImmutableSet.of(
+            "id", "name", "className", "tagName", "cssSelector", "xpath", "linkText", "partialLinkText");
+
+    private JavascriptLocators() {
+    }
+
+    /**
+     * Return a javascript expression that evaluates to an array of the elements matching the locator in the document.
+     *
+     * @param locator - the locator to translate
+     * @return - the expression, or empty if the locator can't be translated
+     */
+    public static Optional<String> findAllExpression(By locator) {
+        return findAllExpression(locator, "document");
+    }
+
+    /**
+     * Return a javascript expression that evaluates to an array of the elements matching the locator,
+     * searching under the given root.
+     *
+     * @param locator - the locator to translate
+     * @param rootExpression - a javascript expression evaluating to a Document or Element to search under
+     * @return - the expression, or empty if the locator can't be translated
+     */
+    public static Optional<String> findAllExpression(By locator, String rootExpression) {
+        Optional<List<String>> arguments = locatorArguments(locator);
+        if (!arguments.isPresent()) {
+            return Optional.empty();
+        }
+        String type = arguments.get().get(0);
+        String value = arguments.get().get(1);
+        String root = "(" + rootExpression + ")";
+        switch (type) {
+            case "id":
+                return Optional.of(toArray(root + ".querySelectorAll('[id=' + " + quote(quote(value)) + " + ']')"));
+            case "name":
+                return Optional.of(toArray(root + ".querySelectorAll('[name=' + " + quote(quote(value)) + " + ']')"));
+            case "className":
+                return Optional.of(toArray(root + ".getElementsByClassName(" + quote(value) + ")"));
+            case "tagName":
+                return Optional.of(toArray(root + ".getElementsByTagName(" + quote(value) + ")"));
+            case "cssSelector":
+                return Optional.of(toArray(root + ".querySelectorAll(" + quote(value) + ")"));
+            case "xpath":
+                return Optional.of("(function(r) { var s = (r.ownerDocument || r).evaluate(" + quote(value)
+                                   + ", r, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), a = [];"
+                                   + " for (var i = 0; i < s.snapshotLength; i++) { a.push(s.snapshotItem(i)); } return a; })" + root);
+            case "linkText":
+                return Optional.of("Array.prototype.filter.call(" + root + ".getElementsByTagName('a'), function(a) {"
+                                   + " return (a.innerText || a.textContent).trim() === " + quote(value) + "; })");
+            case "partialLinkText":
+                return Optional.of("Array.prototype.filter.call(" + root + ".getElementsByTagName('a'), function(a) {"
+                                   + " return (a.innerText || a.textContent).indexOf(" + quote(value) + ") >= 0; })");
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Translate the locator into the arguments of the runtime's findAll(strategy, value) function, see {@link PageRuntime}.
+     *
+     * @return - a list with the strategy, e.g. "cssSelector", and the value of the locator,
+     * or empty if the locator can't be translated
+     */
+    public static Optional<List<String>> locatorArguments(By locator) {
+        String description = locator.toString();
+        int separator = description.indexOf(": ");
+        if (separator < 0 || !description.startsWith("By.")) {
+            return Optional.empty();
+        }
+        String strategy = description.substring("By.".length(), separator);
+        if (!STRATEGIES.contains(strategy)) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.asList(strategy, description.substring(separator + 2)));
+    }
+
+    /**
+     * Quote a String as a javascript string literal.
+     */
+    public static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static String toArray(String listExpression) {
+        return "Array.prototype.slice.call(" + listExpression + ")";
+    }
+}
@@ -0,0 +1,115 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * <p>A library of javascript helper functions, installed into each document on first use as window.__jspfRuntime,
+ * so that the framework's scripts only send a function name and its arguments instead of the full script text.</p>
+ *
+ * <p>Each call checks that the runtime is installed in the current document. When it isn't, e.g. after a navigation,
+ * or it's a different version, the call is retried with the runtime prepended to the script, installing it.
+ * So the first call in each document costs an extra command, and the following calls are small.</p>
+ *
+ * <p>The runtime's functions are defined in page-runtime.js next to this class. Scripts run with
+ * {@link #execute(WebDriver, String, Object...)} can use them through the variable rt.</p>
+ */
+public final class PageRuntime {
+    private static final Logger logger = LoggerFactory.getLogger(PageRuntime.class);
+
+    private static final String MISSING_KEY = "__jspfRuntimeMissing";
+    private static final String SOURCE;
+    public static final String VERSION;
+
+    static {
+        String source;
+        try {
+            source = Resources.toString(Resources.getResource(PageRuntime.class, "page-runtime.js"), Charsets.UTF_8);
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        VERSION = Hashing.murmur3_32().hashString(source, Charsets.UTF_8).toString();
+        SOURCE = source.replace("%VERSION%", VERSION);
+    }
+
+    private static final String CHECK_INSTALLED =
+            "var rt = window.__jspfRuntime;"
+            + " if (!rt || rt.version !== '" + VERSION + "') { return {" + MISSING_KEY + ": true}; }";
+    private static final String CHECK_INSTALLED_ASYNC =
+            "var rt = window.__jspfRuntime;"
+            + " if (!rt || rt.version !== '" + VERSION + "') { arguments[arguments.length - 1]({" + MISSING_KEY + ": true}); return; }";
+    // Calls the runtime function named arguments[0] with the rest of the arguments, including the async callback
+    private static final String CALL_FUNCTION = " return rt[arguments[0]].apply(rt, Array.prototype.slice.call(arguments, 1));";
+
+    private PageRuntime() {
+    }
+
+    /**
+     * Call a function of the runtime.
+     *
+     * @param function - the name of the function
+     * @param args - the arguments of the function, converted like the arguments of JavascriptExecutor.executeScript()
+     * @return - the return value of the function, converted like the result of JavascriptExecutor.executeScript()
+     */
+    public static Object call(WebDriver driver, String function, Object... args) {
+        return execute(driver, CALL_FUNCTION, prepend(function, args));
+    }
+
+    /**
+     * Call an asynchronous function of the runtime, whose last argument is a callback, like
+     * JavascriptExecutor.executeAsyncScript(). The script timeout must be long enough for the function to call back.
+     *
+     * @param function - the name of the function
+     * @param args - the arguments of the function, before the callback
+     * @return - the value the function called back with
+     */
+    public static Object callAsync(WebDriver driver, String function, Object... args) {
+        return executeAsync(driver, CALL_FUNCTION, prepend(function, args));
+    }
+
+    /**
+     * Execute a script that uses the runtime's functions through the variable rt.
+     */
+    public static Object execute(WebDriver driver, String script, Object... args) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        Object result = executor.executeScript(CHECK_INSTALLED + " " + script, args);
+        if (isMissing(result)) {
+            logger.debug("Installing the javascript runtime version {} in the page", VERSION);
+            result = executor.executeScript(SOURCE + "\nvar rt = window.__jspfRuntime; " + script, args);
+        }
+        return result;
+    }
+
+    /**
+     * Execute an asynchronous script that uses the runtime's functions through the variable rt, like
+     * JavascriptExecutor.executeAsyncScript().
+     */
+    public static Object executeAsync(WebDriver driver, String script, Object... args) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        Object result = executor.executeAsyncScript(CHECK_INSTALLED_ASYNC + " " + script, args);
+        if (isMissing(result)) {
+            logger.debug("Installing the javascript runtime version {} in the page", VERSION);
+            result = executor.executeAsyncScript(SOURCE + "\nvar rt = window.__jspfRuntime; " + script, args);
+        }
+        return result;
+    }
+
+    private static boolean isMissing(Object result) {
+        return result instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) result).get(MISSING_KEY));
+    }
+
+    private static Object[] prepend(String function, Object[] args) {
+        Object[] all = new Object[args.length + 1];
+        all[0] = function;
+        System.arraycopy(args, 0, all, 1, args.length);
+        return all;
+    }
+}
@@ -2,6 +2,7 @@ package com.jivesoftware.selenium.pagefactory.framework.actions;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import com.jivesoftware.selenium.pagefactory.framework.browser.Browser;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
@@ -17,7 +18,12 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -382,8 +388,44 @@ public interface SeleniumActions {
 
     List<WebElement> getElements(By locator);
 
+    /**
+     * Stream the elements matching the locator, scrolling the window to load more. See {@link ElementStream}.
+     */
+    Stream<WebElement> streamElements(By locator);
+
+    /**
+     * Stream the elements of a lazily loaded list, fetching them in batches and scrolling to load more items only as the
+     * stream is consumed. See {@link ElementStream}. Close the stream to release its state in the page early.
+     */
+    Stream<WebElement> streamElements(ElementStream elementStream);
+
+    /**
+     * Like {@link #streamElements(ElementStream)}, but streams the trimmed visible text of the items, computed in the page.
+     */
+    Stream<String> streamText(ElementStream elementStream);
+
+    /**
+     * Like {@link #streamElements(ElementStream)}, but streams the value of the given property or attribute of the
+     * items, like WebElement.getAttribute(), computed in the page. Values may be null.
+     */
+    Stream<String> streamAttribute(ElementStream elementStream, String attribute);
+
     WebElement getParentElement(WebElement el);
 
+    /**
+     * Extract the records of a table or a repeated list structure with a single javascript call.
+     * See {@link TableExtraction}.
+     *
+     * @return - a record per row, mapping each column name to its value, in the order of the columns
+     */
+    List<Map<String, String>> extractTable(TableExtraction extraction);
+
+    /**
+     * Extract the records of a table or a repeated list structure with a single javascript call, converting each one
+     * with the given mapper, e.g. into a value object.
+     */
+    <T> List<T> extractTable(TableExtraction extraction, Function<Map<String, String>, T> mapper);
+
     //////////////////////////////////////Timeouts//////////////////////////////////////////////
     TimeoutsConfig getTimeoutsConfig();
 
@@ -399,12 +441,43 @@ public interface SeleniumActions {
 
     WebElement inputTextSlowly(By locator, String text);
 
+    /**
+     * Type the text one key at a time, pausing {@link TimeoutsConfig#getPauseBetweenKeysMillis()} between keys,
+     * e.g. for autocompletes that need to see each key. With {@link SlowTypingMode#IN_PAGE} set on the Browser,
+     * the whole string is typed in a single command.
+     */
     WebElement inputTextSlowly(WebElement el, String text);
 
     WebElement inputTextSlowlyAndSelectFromList(WebElement inputField, String value, By popoverLocator) throws SeleniumActionsException;
 
     WebElement inputTextSlowlyAndSelectFromList(WebElement inputField, String value, By popoverLocator, int withRetryCount) throws SeleniumActionsException;
 
+    /**
+     * Fill many form fields at once. See {@link #fillForm(FormFill)}.
+     *
+     * @param values - the value for each field, filled in the iteration order of the Map
+     */
+    void fillForm(Map<By, String> values);
+
+    /**
+     * Fill many form fields at once. Text inputs, textareas, selects, checkboxes and radios filled in
+     * {@link FormFill.Mode#SCRIPT} mode are all set in a single javascript call, dispatching input, change and blur
+     * events. Fields in NATIVE or SLOW mode, fields that aren't present yet and fields that can't be set with a script
+     * are filled with WebDriver commands afterwards, waiting for them to be present.
+     *
+     * @throws RuntimeException - if a field can't be filled, e.g. it's disabled or there's no option with the value
+     */
+    void fillForm(FormFill form);
+
+    /**
+     * Execute a sequence of actions, compiling consecutive steps into a single javascript call. See {@link ActionBatch}.
+     *
+     * @return - the results of the steps, in order
+     * @throws com.jivesoftware.selenium.pagefactory.framework.exception.ActionBatchException - at the first step that
+     * fails, with the results of the steps before it. The steps after it aren't executed.
+     */
+    ActionBatchResult executeBatch(ActionBatch batch);
+
     /**
      * Enter text into the active tiny MCE editor.
      */
@@ -443,20 +516,35 @@ public interface SeleniumActions {
      */
     <T extends TopLevelPage> T loadTopLevelPage(Class<T> pageClass);
 
+    /**
+     * Non-blocking variant of {@link #loadTopLevelPage(Class)}. Waits asynchronously for the page identifier to be present,
+     * then loads the page with the Browser on a dedicated page loading thread, running the page load hooks without
+     * waiting for the identifier again.
+     */
+    <T extends TopLevelPage> CompletableFuture<T> loadTopLevelPageAsync(Class<T> pageClass);
+
+    /**
+     * Like {@link #loadTopLevelPageAsync(Class)}, but loads the page with the Browser on the given Executor once the page
+     * identifier is present, e.g. a direct Executor to load it on the thread completing the wait.
+     */
+    <T extends TopLevelPage> CompletableFuture<T> loadTopLevelPageAsync(Class<T> pageClass, Executor executor);
+
     /**
      * Scroll to the top of the page
      */
     void scrollToTop();
 
     /**
-     * Scroll so that the element is in the middle of the page.
+     * Scroll so that the element is in the middle of the page, and of any scroll containers it's in.
+     * Each scroll is a single javascript call that waits for smooth scrolling to settle.
      */
     void scrollIntoView(By locator);
 
     void scrollIntoView(WebElement el);
 
     /**
-     * Scroll the given element with a scroll bar defined by parentCSS so that the web element given by css is in view
+     * Scroll the given element with a scroll bar defined by parentCSS so that the web element given by css is in view,
+     * in the middle of the scroll container. Doesn't require jQuery on the page.
      */
     void scrollIntoView(By scrollContainerLocator, By locator);
 
@@ -502,6 +590,12 @@ public interface SeleniumActions {
      */
     WebElement verifyElementVisible(By locator, TimeoutType timeout);
 
+    /* Non-blocking variant of verifyElementPresented(), see waitOnExpectedConditionAsync(). */
+    CompletableFuture<WebElement> verifyElementPresentedAsync(By locator, TimeoutType timeout);
+
+    /* Non-blocking variant of verifyElementVisible(), see waitOnExpectedConditionAsync(). */
+    CompletableFuture<WebElement> verifyElementVisibleAsync(By locator, TimeoutType timeout);
+
     /**
      * Verifies that there exists any element on the page that matches the given By, and is visible.
      * Returns the first such element found.
@@ -541,8 +635,34 @@ public interface SeleniumActions {
 
     void waitForWebPageReadyStateToBeComplete();
 
+    /**
+     * Wait for document.readyState to be 'complete', with a single async script that resolves on the readystatechange
+     * and load events, or immediately if the document is already complete.
+     *
+     * @param waitForFontsAndFirstFrame - also wait for document.fonts.ready and the first animation frame after it,
+     *                                  i.e. until the page has rendered with its web fonts.
+     * @return - how long the wait took
+     */
+    Duration waitForWebPageReadyStateToBeComplete(boolean waitForFontsAndFirstFrame);
+
     <T> T waitOnExpectedCondition(ExpectedCondition<T> expectedCondition, String message, TimeoutType timeout);
 
+    /**
+     * Non-blocking variant of {@link #waitOnExpectedCondition(ExpectedCondition, String, TimeoutType)}.
+     * The condition is polled on a small shared pool of threads, so many Browsers can be waited on from one thread and
+     * the futures combined with CompletableFuture.allOf()/anyOf().
+     *
+     * Polls for the same Browser are serialized on the Browser, but don't use the Browser from other threads
+     * while it has pending async waits.
+     *
+     * @return - a future completed with the condition's value, or exceptionally with a TimeoutException.
+     * Cancelling the future stops the polling.
+     */
+    <T> CompletableFuture<T> waitOnExpectedConditionAsync(ExpectedCondition<T> expectedCondition, String message, TimeoutType timeout);
+
+    /* Non-blocking variant of waitOnFunction(), see waitOnExpectedConditionAsync(). */
+    <T, V> CompletableFuture<V> waitOnFunctionAsync(Function<T, V> function, T input, String message, TimeoutType timeout);
+
     /**
      * Method to simplify general waiting code in Pages and Keywords. Takes a function and waits until the return value is non-null.
      **/
@@ -568,7 +688,50 @@ public interface SeleniumActions {
     /* Same, but no input is required. */
     void waitOnPredicateWithRefresh(Predicate<Object> predicate, String message, TimeoutType timeout);
 
+    /**
+     * Wait until at least one of the conditions is satisfied. All conditions are evaluated together in a single
+     * javascript call per poll.
+     *
+     * @param conditions - the conditions to wait for
+     * @param timeout - defaults to WEB_ELEMENT_PRESENCE_TIMEOUT
+     * @return - the conditions that were satisfied on the last poll, in the order given (never empty)
+     * @throws TimeoutException - if none of the conditions was satisfied before the timeout
+     */
+    List<WaitCondition> waitForAny(List<WaitCondition> conditions, TimeoutType timeout);
+
+    List<WaitCondition> waitForAny(WaitCondition... conditions);
+
+    /**
+     * Wait until all of the conditions are satisfied at the same time. All conditions are evaluated together in a single
+     * javascript call per poll.
+     *
+     * @param conditions - the conditions to wait for
+     * @param timeout - defaults to WEB_ELEMENT_PRESENCE_TIMEOUT
+     * @return - the conditions, all of which were satisfied on the last poll
+     * @throws TimeoutException - if the conditions weren't all satisfied before the timeout
+     */
+    List<WaitCondition> waitForAll(List<WaitCondition> conditions, TimeoutType timeout);
+
+    List<WaitCondition> waitForAll(WaitCondition... conditions);
+
     WebElement waitUntilClickable(By locator, TimeoutType timeout);
 
     WebElement waitUntilClickable(WebElement el, TimeoutType timeout);
+
+    /**
+     * Run a block with a total time budget. All waits inside the block, including page load hooks,
+     * use the minimum of their own timeout and the time remaining in the budget.
+     * If the budget is already spent when a wait starts, it throws a TimeoutException immediately.
+     *
+     * @see Browser#withDeadline(Duration, Supplier)
+     */
+    <T> T withDeadline(Duration budget, Supplier<T> block);
+
+    /* Same, but the budget is the timeout configured for the given TimeoutType. */
+    <T> T withDeadline(TimeoutType budget, Supplier<T> block);
+
+    /* Same, but for a block that doesn't return a value. */
+    void runWithDeadline(Duration budget, Runnable block);
+
+    void runWithDeadline(TimeoutType budget, Runnable block);
 }
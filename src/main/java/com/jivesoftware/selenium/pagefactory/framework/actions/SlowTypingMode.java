@@ -0,0 +1,22 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+/**
+ * How {@link SeleniumActions#inputTextSlowly(org.openqa.selenium.WebElement, String)} types text one key at a time,
+ * set per Browser with {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setSlowTypingMode(SlowTypingMode)}.
+ */
+public enum SlowTypingMode {
+    /**
+     * Send each key with its own WebDriver command, sleeping {@link
+     * com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig#getPauseBetweenKeysMillis()} between keys.
+     * Slow, but the keys are real native key events. This is the default.
+     */
+    NATIVE,
+
+    /**
+     * Type the whole string in a single asynchronous script, dispatching keydown, keypress, input and keyup events for
+     * each character with the same pause between keys inside the browser. Much faster for long strings, since there's
+     * one WebDriver command instead of one per key. Falls back to NATIVE for elements that aren't text inputs, textareas
+     * or contenteditable, and for text containing special keys from {@link org.openqa.selenium.Keys}.
+     */
+    IN_PAGE
+}
@@ -0,0 +1,202 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.openqa.selenium.By;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>Describes the data to extract from a table or a repeated list structure with
+ * {@link SeleniumActions#extractTable(TableExtraction)}, in a single javascript call.</p>
+ *
+ * <p>With {@link #rows(By)}, each element matching the row locator is a record, and each column is the trimmed text
+ * (or an attribute) of the first element matching the column's locator inside the row. Column locators are evaluated
+ * relative to the row, so XPath column locators should start with ".//". A column with no matching element is null.</p>
+ *
+ * <p>With {@link #htmlTable(By)}, each body row of the HTML table is a record, keyed by the text of the table's header
+ * cells, optionally renamed with {@link Builder#header(String, String)}.</p>
+ *
+ * <p>All locators must be standard Selenium locators that can be evaluated in javascript (id, name, class name,
+ * tag name, CSS selector, XPath or link text).</p>
+ *
+ * Example:
+ * <pre>
+ *     List&lt;Map&lt;String, String&gt;&gt; members = a.extractTable(TableExtraction.rows(By.cssSelector(".j-member-row"))
+ *         .column("name", By.cssSelector(".j-name"))
+ *         .column("email", By.cssSelector("a.j-email"), "href")
+ *         .build());
+ *
+ *     List&lt;Map&lt;String, String&gt;&gt; report = a.extractTable(TableExtraction.htmlTable(By.id("report"))
+ *         .header("Page Views", "views")
+ *         .build());
+ * </pre>
+ */
+public final class TableExtraction {
+    public static final class Column {
+        private final String name;
+        private final By locator;
+        private final Optional<String> attribute;
+
+        private Column(String name, By locator, Optional<String> attribute) {
+            this.name = name;
+            this.locator = locator;
+            this.attribute = attribute;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public Optional<String> getAttribute() {
+            return attribute;
+        }
+    }
+
+    private final Optional<By> rowLocator;
+    private final Optional<By> tableLocator;
+    private final List<Column> columns;
+    private final Map<String, String> headerNames;
+    private final boolean visibleRowsOnly;
+
+    private TableExtraction(Optional<By> rowLocator, Optional<By> tableLocator, List<Column> columns,
+                            Map<String, String> headerNames, boolean visibleRowsOnly) {
+        this.rowLocator = rowLocator;
+        this.tableLocator = tableLocator;
+        this.columns = columns;
+        this.headerNames = headerNames;
+        this.visibleRowsOnly = visibleRowsOnly;
+    }
+
+    /**
+     * Extract a record per element matching the row locator, with the columns added to the builder.
+     */
+    public static Builder rows(By rowLocator) {
+        return new Builder(Optional.of(checkLocator(rowLocator)), Optional.<By>empty());
+    }
+
+    /**
+     * Extract a record per body row of an HTML table, keyed by the text of its header cells.
+     */
+    public static Builder htmlTable(By tableLocator) {
+        return new Builder(Optional.<By>empty(), Optional.of(checkLocator(tableLocator)));
+    }
+
+    public Optional<By> getRowLocator() {
+        return rowLocator;
+    }
+
+    public Optional<By> getTableLocator() {
+        return tableLocator;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return - the names to use instead of the header texts of an HTML table, by header text
+     */
+    public Map<String, String> getHeaderNames() {
+        return headerNames;
+    }
+
+    public boolean isVisibleRowsOnly() {
+        return visibleRowsOnly;
+    }
+
+    @Override
+    public String toString() {
+        return rowLocator.isPresent() ? String.format("rows '%s'", rowLocator.get())
+                                      : String.format("HTML table '%s'", tableLocator.get());
+    }
+
+    /**
+     * @return - the arguments of the runtime's extractTable function: the table or row locator, the columns as
+     * [name, strategy, value, attribute] and the header names as [header, name].
+     */
+    List<Object> scriptArguments() {
+        ImmutableList.Builder<List<String>> columnArguments = ImmutableList.builder();
+        for (Column column : columns) {
+            List<String> locatorArguments = JavascriptLocators.locatorArguments(column.getLocator()).get();
+            columnArguments.add(Arrays.asList(column.getName(), locatorArguments.get(0), locatorArguments.get(1),
+                                              column.getAttribute().orElse(null)));
+        }
+        ImmutableList.Builder<List<String>> headerArguments = ImmutableList.builder();
+        for (Map.Entry<String, String> header : headerNames.entrySet()) {
+            headerArguments.add(Arrays.asList(header.getKey(), header.getValue()));
+        }
+        By locator = rowLocator.isPresent() ? rowLocator.get() : tableLocator.get();
+        return Arrays.<Object>asList(tableLocator.isPresent(), JavascriptLocators.locatorArguments(locator).get(),
+                                     columnArguments.build(), headerArguments.build(), visibleRowsOnly);
+    }
+
+    private static By checkLocator(By locator) {
+        Preconditions.checkNotNull(locator);
+        Preconditions.checkArgument(JavascriptLocators.locatorArguments(locator).isPresent(),
+                                    "Locator %s can't be evaluated in javascript for a TableExtraction", locator);
+        return locator;
+    }
+
+    public static final class Builder {
+        private final Optional<By> rowLocator;
+        private final Optional<By> tableLocator;
+        private final ImmutableList.Builder<Column> columns = ImmutableList.builder();
+        private final ImmutableMap.Builder<String, String> headerNames = ImmutableMap.builder();
+        private boolean visibleRowsOnly = false;
+
+        private Builder(Optional<By> rowLocator, Optional<By> tableLocator) {
+            this.rowLocator = rowLocator;
+            this.tableLocator = tableLocator;
+        }
+
+        /**
+         * Add a column with the trimmed text of the first element matching the locator in the row.
+         */
+        public Builder column(String name, By cellLocator) {
+            return column(name, cellLocator, null);
+        }
+
+        /**
+         * Add a column with the value of the given property or attribute of the first element matching the locator in
+         * the row, like WebElement.getAttribute(), or its trimmed text if attribute is null.
+         */
+        public Builder column(String name, By cellLocator, @Nullable String attribute) {
+            Preconditions.checkState(rowLocator.isPresent(), "Columns can only be added when extracting rows");
+            columns.add(new Column(Preconditions.checkNotNull(name), checkLocator(cellLocator), Optional.ofNullable(attribute)));
+            return this;
+        }
+
+        /**
+         * Use the given name for the column of an HTML table whose header text is headerText.
+         */
+        public Builder header(String headerText, String name) {
+            Preconditions.checkState(tableLocator.isPresent(), "Headers can only be renamed when extracting an HTML table");
+            headerNames.put(Preconditions.checkNotNull(headerText), Preconditions.checkNotNull(name));
+            return this;
+        }
+
+        /**
+         * Skip rows that aren't visible. By default, all rows are extracted.
+         */
+        public Builder visibleRowsOnly(boolean visibleRowsOnly) {
+            this.visibleRowsOnly = visibleRowsOnly;
+            return this;
+        }
+
+        public TableExtraction build() {
+            List<Column> builtColumns = columns.build();
+            Preconditions.checkState(tableLocator.isPresent() || !builtColumns.isEmpty(), "At least one column is required");
+            return new TableExtraction(rowLocator, tableLocator, builtColumns, headerNames.build(), visibleRowsOnly);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.jivesoftware.selenium.pagefactory.framework.actions;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * <p>A condition on the DOM that can be evaluated inside the browser, used with
+ * {@link SeleniumActions#waitForAny(List, com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType)} and
+ * {@link SeleniumActions#waitForAll(List, com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType)}.</p>
+ *
+ * <p>All conditions of a wait are evaluated together with a single call of the {@link PageRuntime} per poll. Each
+ * condition is true when ANY element matching its locator satisfies it.</p>
+ *
+ * Example:
+ * <pre>
+ *     WaitCondition success = WaitCondition.visible(By.cssSelector(".j-success-toast"));
+ *     WaitCondition error = WaitCondition.containsText(By.id("error-dialog"), "failed");
+ *     List&lt;WaitCondition&gt; matched = a.waitForAny(Arrays.asList(success, error), TimeoutType.DEFAULT);
+ *     if (matched.contains(error)) { ... }
+ * </pre>
+ */
+public final class WaitCondition {
+    private final String description;
+    // The kind of condition, evaluated by the runtime's checkConditions()
+    private final String kind;
+    private final List<String> locatorArguments;
+    private final String argument;
+
+    private WaitCondition(String description, String kind, By locator, String argument) {
+        this.description = description;
+        this.kind = kind;
+        this.locatorArguments = locatorArguments(locator);
+        this.argument = argument;
+    }
+
+    /**
+     * True when an element matching the locator is present in the DOM.
+     */
+    public static WaitCondition present(By locator) {
+        return new WaitCondition(format("element '%s' is present", locator), "present", locator, "");
+    }
+
+    /**
+     * True when an element matching the locator is visible.
+     */
+    public static WaitCondition visible(By locator) {
+        return new WaitCondition(format("element '%s' is visible", locator), "visible", locator, "");
+    }
+
+    /**
+     * True when no element matching the locator is visible, including when none is present.
+     */
+    public static WaitCondition invisible(By locator) {
+        return new WaitCondition(format("element '%s' is invisible", locator), "invisible", locator, "");
+    }
+
+    /**
+     * True when the visible text of an element matching the locator contains the given text.
+     */
+    public static WaitCondition containsText(By locator, String text) {
+        Preconditions.checkNotNull(text);
+        return new WaitCondition(format("element '%s' contains text '%s'", locator, text), "containsText", locator, text);
+    }
+
+    /**
+     * True when an element matching the locator has the given class.
+     */
+    public static WaitCondition hasClass(By locator, String className) {
+        Preconditions.checkNotNull(className);
+        return new WaitCondition(format("element '%s' has class '%s'", locator, className), "hasClass", locator, className);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * @return - the arguments of the runtime's checkConditions() function for the conditions: for each condition, its
+     * kind, the strategy and value of its locator, and the text or class name it checks for.
+     */
+    static List<List<String>> runtimeArguments(List<WaitCondition> conditions) {
+        List<List<String>> arguments = new ArrayList<>();
+        for (WaitCondition condition : conditions) {
+            arguments.add(ImmutableList.<String>builder()
+                                  .add(condition.kind)
+                                  .addAll(condition.locatorArguments)
+                                  .add(condition.argument)
+                                  .build());
+        }
+        return arguments;
+    }
+
+    private static List<String> locatorArguments(By locator) {
+        Preconditions.checkNotNull(locator);
+        Optional<List<String>> arguments = JavascriptLocators.locatorArguments(locator);
+        Preconditions.checkArgument(arguments.isPresent(), "Locator %s can't be evaluated in javascript for a WaitCondition", locator);
+        return arguments.get();
+    }
+}
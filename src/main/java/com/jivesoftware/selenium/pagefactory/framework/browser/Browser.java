@@ -1,37 +1,90 @@
 package com.jivesoftware.selenium.pagefactory.framework.browser;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.jivesoftware.selenium.pagefactory.framework.actions.PageRuntime;
 import com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions;
+import com.jivesoftware.selenium.pagefactory.framework.actions.SlowTypingMode;
 import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowserType;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
+import com.jivesoftware.selenium.pagefactory.framework.config.WaitStatistics;
+import com.jivesoftware.selenium.pagefactory.framework.exception.InvalidPageUrlException;
 import com.jivesoftware.selenium.pagefactory.framework.exception.JiveWebDriverException;
+import com.jivesoftware.selenium.pagefactory.framework.exception.PageBudgetExceededException;
+import com.jivesoftware.selenium.pagefactory.framework.pages.BaseTopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.pages.PageRouter;
 import com.jivesoftware.selenium.pagefactory.framework.pages.PageUtils;
 import com.jivesoftware.selenium.pagefactory.framework.pages.SubPage;
 import com.jivesoftware.selenium.pagefactory.framework.pages.TopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageBudget;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageBudgetEnforcement;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageBudgetReport;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageBudgetViolation;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageLoadTiming;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageTimingSink;
+import com.jivesoftware.selenium.pagefactory.framework.performance.WebVitals;
+import com.jivesoftware.selenium.pagefactory.framework.performance.WebVitalsReport;
 import org.apache.commons.io.FileUtils;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Created by shirand on 8/12/14.
  */
 public abstract class Browser<D extends WebDriver> {
     private static final Logger logger = LoggerFactory.getLogger(Browser.class);
+    // Time for an async script to call back after its wait in the page timed out, see ensureScriptTimeoutForWait()
+    public static final Duration ASYNC_SCRIPT_MARGIN = Duration.ofSeconds(5);
     protected D webDriver;
     protected String baseTestUrl;
     protected TimeoutsConfig timeouts;
     protected Optional<CachedPage> optionalCachedPage = Optional.empty();
+    protected Optional<WaitStatistics> waitStatistics = Optional.empty();
+    // System.nanoTime() value by which all waits of the thread must finish, if running inside withDeadline()
+    protected final ThreadLocal<Optional<Long>> deadlineNanos = new ThreadLocal<Optional<Long>>() {
+        @Override
+        protected Optional<Long> initialValue() {
+            return Optional.empty();
+        }
+    };
+    protected final List<FatalPageDetector> fatalPageDetectors = new CopyOnWriteArrayList<>();
+    private volatile String fatalPageScript = FatalPageDetector.combinedScript(fatalPageDetectors);
+    // Last script timeout set on the WebDriver, to avoid a command per async script
+    protected Optional<Duration> scriptTimeout = Optional.empty();
+    protected SlowTypingMode slowTypingMode = SlowTypingMode.NATIVE;
+    protected Optional<DomSnapshot> lastDomSnapshot = Optional.empty();
+    protected Optional<PageRouter> pageRouter = Optional.empty();
+    protected Optional<PageTimingSink> pageTimingSink = Optional.empty();
+    protected Optional<PageLoadTiming> lastPageLoadTiming = Optional.empty();
+    protected PageBudgetEnforcement pageBudgetEnforcement = PageBudgetEnforcement.WARN;
+    protected Optional<PageBudgetReport> pageBudgetReport = Optional.empty();
+    protected Optional<WebVitalsReport> webVitalsReport = Optional.empty();
     protected static final PageUtils PAGE_UTILS = new PageUtils();
+    // Held by threads other than the test thread while they use the WebDriver, see getWebDriverLock()
+    private final ReentrantLock webDriverLock = new ReentrantLock();
 
     protected Browser(String baseTestUrl, TimeoutsConfig timeoutsConfig) {
         this.baseTestUrl = Preconditions.checkNotNull(baseTestUrl);
@@ -54,10 +107,391 @@ public abstract class Browser<D extends WebDriver> {
         this.baseTestUrl = baseTestUrl;
     }
 
+    /**
+     * A WebDriver isn't thread-safe. The async waits and loads of SeleniumActions, and other helpers using the WebDriver
+     * from another thread, hold this lock while they send WebDriver commands, so they never run concurrently.
+     * Polling threads only try to acquire it, and poll again later if it's busy.
+     */
+    public ReentrantLock getWebDriverLock() {
+        return webDriverLock;
+    }
+
     public TimeoutsConfig getTimeouts() {
         return timeouts;
     }
 
+    public Optional<WaitStatistics> getWaitStatistics() {
+        return waitStatistics;
+    }
+
+    /**
+     * Record how long successful waits take in the given {@link WaitStatistics}.
+     * Use {@link TimeoutsConfig#fromWaitStatistics(WaitStatistics)} on the next run to derive timeouts from them.
+     *
+     * @param waitStatistics - the statistics to record into, or null to stop recording
+     */
+    public void setWaitStatistics(@Nullable WaitStatistics waitStatistics) {
+        this.waitStatistics = Optional.ofNullable(waitStatistics);
+    }
+
+    public SlowTypingMode getSlowTypingMode() {
+        return slowTypingMode;
+    }
+
+    /**
+     * Set how inputTextSlowly() types text, see {@link SlowTypingMode}. The default is {@link SlowTypingMode#NATIVE}.
+     */
+    public void setSlowTypingMode(SlowTypingMode slowTypingMode) {
+        this.slowTypingMode = Preconditions.checkNotNull(slowTypingMode);
+    }
+
+    public Optional<PageRouter> getPageRouter() {
+        return pageRouter;
+    }
+
+    /**
+     * Set the router resolving the current URL to a page class in {@link #loadCurrentTopLevelPage()}.
+     *
+     * @param pageRouter - the router, or null to remove it
+     */
+    public void setPageRouter(@Nullable PageRouter pageRouter) {
+        this.pageRouter = Optional.ofNullable(pageRouter);
+    }
+
+    public Optional<PageTimingSink> getPageTimingSink() {
+        return pageTimingSink;
+    }
+
+    /**
+     * Capture a {@link PageLoadTiming} after each top level page is loaded, by openPageByURL(), loadTopLevelPage() or
+     * refreshPage(), and record it into the sink. Capturing costs one javascript call per page load.
+     *
+     * @param pageTimingSink - the sink to record into, or null to stop capturing (the default)
+     */
+    public void setPageTimingSink(@Nullable PageTimingSink pageTimingSink) {
+        this.pageTimingSink = Optional.ofNullable(pageTimingSink);
+    }
+
+    /**
+     * @return - the timing of the last page load captured while a {@link PageTimingSink} was set.
+     */
+    public Optional<PageLoadTiming> getLastPageLoadTiming() {
+        return lastPageLoadTiming;
+    }
+
+    public PageBudgetEnforcement getPageBudgetEnforcement() {
+        return pageBudgetEnforcement;
+    }
+
+    /**
+     * Set what happens when a page annotated with {@link PageBudget} exceeds its budget. The default is
+     * {@link PageBudgetEnforcement#WARN}.
+     */
+    public void setPageBudgetEnforcement(PageBudgetEnforcement pageBudgetEnforcement) {
+        this.pageBudgetEnforcement = Preconditions.checkNotNull(pageBudgetEnforcement);
+    }
+
+    public Optional<PageBudgetReport> getPageBudgetReport() {
+        return pageBudgetReport;
+    }
+
+    /**
+     * @param pageBudgetReport - the report to record the page budget checks into, or null to stop recording
+     */
+    public void setPageBudgetReport(@Nullable PageBudgetReport pageBudgetReport) {
+        this.pageBudgetReport = Optional.ofNullable(pageBudgetReport);
+    }
+
+    public Optional<WebVitalsReport> getWebVitalsReport() {
+        return webVitalsReport;
+    }
+
+    /**
+     * Collect {@link WebVitals} for each top level page: the collector is started in the page after each navigation,
+     * and drained into the report when leaving the page, or with {@link #drainWebVitals()}.
+     *
+     * @param webVitalsReport - the report to record into, or null to stop collecting (the default)
+     */
+    public void setWebVitalsReport(@Nullable WebVitalsReport webVitalsReport) {
+        this.webVitalsReport = Optional.ofNullable(webVitalsReport);
+    }
+
+    /**
+     * Drain the web vitals collected on the current page since it was loaded or last drained, and record them into the
+     * {@link WebVitalsReport}, e.g. after the test interacted with a page of a single-page app.
+     *
+     * @return - the metrics, attributed to the cached page, or empty if nothing was collected
+     */
+    public Optional<WebVitals> drainWebVitals() {
+        if (!webVitalsReport.isPresent() || getBrowserType() == WebBrowserType.MOBILE) {
+            return Optional.empty();
+        }
+        String pageName = optionalCachedPage.isPresent()
+                ? optionalCachedPage.get().getCachedPage().getClass().getSimpleName()
+                : String.valueOf(webDriver.getCurrentUrl());
+        Optional<WebVitals> vitals;
+        try {
+            vitals = WebVitals.drain(webDriver, pageName);
+        } catch (WebDriverException e) {
+            logger.info("Unable to drain the web vitals of {}: {}", pageName, e.getMessage());
+            return Optional.empty();
+        }
+        if (vitals.isPresent()) {
+            logger.debug("Drained {}", vitals.get());
+            webVitalsReport.get().record(vitals.get());
+        }
+        return vitals;
+    }
+
+    /**
+     * Run the given block with a total time budget. Every wait inside the block uses the minimum of its own timeout
+     * and the time remaining in the budget, so the block fails within a predictable time even when it chains many waits.
+     *
+     * Deadlines can be nested, but a nested deadline can only shorten the enclosing one. The deadline only applies to
+     * waits on the calling thread. Blocks run later on other threads, e.g. async page loads, keep the deadline of the
+     * thread that started them with {@link #bindDeadline(Supplier)}.
+     *
+     * @param budget - the total time the block may spend waiting
+     * @param block - the block to run
+     * @return - the value returned by the block
+     */
+    public <T> T withDeadline(Duration budget, Supplier<T> block) {
+        Preconditions.checkNotNull(budget, "Error: the deadline budget cannot be null");
+        Preconditions.checkArgument(!budget.isNegative(), "Error: the deadline budget cannot be negative: %s", budget);
+        Preconditions.checkNotNull(block);
+        Optional<Long> previousDeadline = deadlineNanos.get();
+        long requestedDeadline = System.nanoTime() + budget.toNanos();
+        if (!previousDeadline.isPresent() || requestedDeadline - previousDeadline.get() < 0) {
+            deadlineNanos.set(Optional.of(requestedDeadline));
+        }
+        try {
+            return block.get();
+        } finally {
+            deadlineNanos.set(previousDeadline);
+        }
+    }
+
+    /**
+     * Capture the deadline of the calling thread, for a block that will run on another thread.
+     *
+     * @return - a Supplier running the block with the captured deadline, or without a deadline if the calling thread
+     * wasn't running inside {@link #withDeadline(Duration, Supplier)}.
+     */
+    public <T> Supplier<T> bindDeadline(final Supplier<T> block) {
+        Preconditions.checkNotNull(block);
+        final Optional<Long> capturedDeadline = deadlineNanos.get();
+        return new Supplier<T>() {
+            @Override
+            public T get() {
+                Optional<Long> previousDeadline = deadlineNanos.get();
+                deadlineNanos.set(capturedDeadline);
+                try {
+                    return block.get();
+                } finally {
+                    deadlineNanos.set(previousDeadline);
+                }
+            }
+        };
+    }
+
+    public void runWithDeadline(Duration budget, final Runnable block) {
+        withDeadline(budget, new Supplier<Void>() {
+            @Override
+            public Void get() {
+                block.run();
+                return null;
+            }
+        });
+    }
+
+    /**
+     * @return - the time remaining before the deadline of the calling thread (zero if it has passed),
+     * or empty if not running inside {@link #withDeadline(Duration, Supplier)}.
+     */
+    public Optional<Duration> getRemainingDeadline() {
+        Optional<Long> deadline = deadlineNanos.get();
+        if (!deadline.isPresent()) {
+            return Optional.empty();
+        }
+        long remainingNanos = deadline.get() - System.nanoTime();
+        return Optional.of(Duration.ofNanos(Math.max(0, remainingNanos)));
+    }
+
+    /**
+     * Register a detector for fatal error pages. Waits abort immediately with a
+     * {@link com.jivesoftware.selenium.pagefactory.framework.exception.FatalPageException} when a detector matches.
+     */
+    public void addFatalPageDetector(FatalPageDetector detector) {
+        fatalPageDetectors.add(Preconditions.checkNotNull(detector));
+        fatalPageScript = FatalPageDetector.combinedScript(fatalPageDetectors);
+    }
+
+    public void removeFatalPageDetector(FatalPageDetector detector) {
+        fatalPageDetectors.remove(detector);
+        fatalPageScript = FatalPageDetector.combinedScript(fatalPageDetectors);
+    }
+
+    public List<FatalPageDetector> getFatalPageDetectors() {
+        return Collections.unmodifiableList(fatalPageDetectors);
+    }
+
+    /**
+     * @return - the body of a javascript function evaluating all registered {@link FatalPageDetector}s, returning a
+     * description of the problem or null. Empty if there are no detectors. Used to check for fatal pages inside
+     * scripts that poll in the page.
+     */
+    public Optional<String> getFatalPageScript() {
+        return fatalPageDetectors.isEmpty() ? Optional.<String>empty() : Optional.of(fatalPageScript);
+    }
+
+    /**
+     * Make sure an async script that waits up to the given time in the page, and then calls back with its own timeout
+     * result, can call back before the WebDriver gives up on it: the script timeout is raised to the wait plus a margin
+     * of {@link #ASYNC_SCRIPT_MARGIN} for the round trip.
+     */
+    public void ensureScriptTimeoutForWait(Duration inPageWait) {
+        ensureScriptTimeout(inPageWait.plus(ASYNC_SCRIPT_MARGIN));
+    }
+
+    /**
+     * Make sure the WebDriver's script timeout, used by executeAsyncScript, is at least the given timeout.
+     * The timeout last set is cached, so this only sends a command to the WebDriver when it needs to be raised.
+     */
+    public void ensureScriptTimeout(Duration minimumTimeout) {
+        if (scriptTimeout.isPresent() && scriptTimeout.get().compareTo(minimumTimeout) >= 0) {
+            return;
+        }
+        getWebDriver().manage().timeouts().setScriptTimeout(minimumTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        scriptTimeout = Optional.of(minimumTimeout);
+    }
+
+    /**
+     * Capture the DOM of the current page with a single WebDriver command, to answer read-only queries in-process.
+     * See {@link DomSnapshot}.
+     */
+    public DomSnapshot takeDomSnapshot() {
+        DomSnapshot snapshot = DomSnapshot.capture(getWebDriver());
+        lastDomSnapshot = Optional.of(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * @return - the last DomSnapshot taken, if the DOM hasn't changed since, or a new snapshot otherwise
+     */
+    public DomSnapshot getFreshDomSnapshot() {
+        if (lastDomSnapshot.isPresent() && !lastDomSnapshot.get().isStale()) {
+            return lastDomSnapshot.get();
+        }
+        return takeDomSnapshot();
+    }
+
+    /**
+     * Capture the cookies of the browser, and the localStorage and sessionStorage of the current page's origin,
+     * e.g. right after logging in. See {@link SessionState}.
+     */
+    public SessionState captureSessionState() {
+        WebDriver driver = getWebDriver();
+        String origin = originOf(driver.getCurrentUrl());
+        List<SessionState.StoredCookie> cookies = Lists.newArrayList();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(SessionState.StoredCookie.fromCookie(cookie));
+        }
+        Map<?, ?> storage = (Map<?, ?>) PageRuntime.call(driver, "readStorage");
+        SessionState state = new SessionState(origin, cookies, toStringMap(storage.get("local")),
+                                              toStringMap(storage.get("session")), System.currentTimeMillis());
+        logger.info("Captured {}", state);
+        return state;
+    }
+
+    /**
+     * Replace the cookies and web storage of the browser with a captured {@link SessionState}, e.g. in a fresh browser
+     * before opening the first page. If the browser isn't on the session's origin, it first navigates to the root of
+     * the origin, because cookies and storage can only be set for the current page's origin. Invalidates the cached page.
+     */
+    public void restoreSessionState(SessionState state) {
+        WebDriver driver = getWebDriver();
+        if (!state.getOrigin().equals(originOf(driver.getCurrentUrl()))) {
+            logger.info("Navigating to {} to restore the session", state.getOrigin());
+            driver.get(state.getOrigin() + "/");
+        }
+        invalidateCachedPage();
+        driver.manage().deleteAllCookies();
+        for (SessionState.StoredCookie storedCookie : state.getCookies()) {
+            Cookie cookie = storedCookie.toCookie();
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                // Some drivers reject a cookie domain that doesn't exactly match the current host
+                logger.debug("Unable to add cookie {} for domain {}, adding it for the current host: {}",
+                             new Object[] {cookie.getName(), cookie.getDomain(), e.getMessage()});
+                driver.manage().addCookie(new Cookie(cookie.getName(), cookie.getValue(), null, cookie.getPath(),
+                                                     cookie.getExpiry(), cookie.isSecure(), cookie.isHttpOnly()));
+            }
+        }
+        if (state.getOrigin().equals(originOf(driver.getCurrentUrl()))) {
+            PageRuntime.call(driver, "writeStorage", state.getLocalStorage(), state.getSessionStorage());
+        } else {
+            logger.warn("Unable to restore web storage: {} redirected to {}", state.getOrigin(), driver.getCurrentUrl());
+        }
+        logger.info("Restored {}", state);
+    }
+
+    /**
+     * Clear the localStorage and sessionStorage of the current page's origin.
+     */
+    public void clearWebStorage() {
+        try {
+            PageRuntime.call(getWebDriver(), "writeStorage", Collections.emptyMap(), Collections.emptyMap());
+        } catch (WebDriverException e) {
+            logger.debug("Unable to clear web storage: {}", e.getMessage());
+        }
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return "";
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static Map<String, String> toStringMap(Object entries) {
+        Map<String, String> map = Maps.newLinkedHashMap();
+        if (entries instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) entries).entrySet()) {
+                map.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : entry.getValue().toString());
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Evaluate all registered {@link FatalPageDetector}s in a single javascript call, with the {@link PageRuntime}.
+     *
+     * @return - a description of the problem if the current page is a fatal error page, otherwise empty.
+     * Also empty if there are no detectors, or the detectors can't be evaluated (e.g. in a native mobile context).
+     */
+    public Optional<String> detectFatalPage() {
+        if (fatalPageDetectors.isEmpty()) {
+            return Optional.empty();
+        }
+        WebDriver driver = getWebDriver();
+        if (!(driver instanceof JavascriptExecutor)) {
+            return Optional.empty();
+        }
+        try {
+            Object reason = PageRuntime.execute(driver, fatalPageScript);
+            return reason == null ? Optional.<String>empty() : Optional.of(reason.toString());
+        } catch (WebDriverException e) {
+            logger.debug("Unable to evaluate fatal page detectors: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     protected abstract D createWebDriver() throws JiveWebDriverException;
 
     public D getWebDriver() {
@@ -120,6 +554,7 @@ public abstract class Browser<D extends WebDriver> {
         // If the page wasn't valid, then invalidate the cache.
         runLeavePageHook();
         invalidateCachedPage();
+        startWebVitals();
 
         // First load the page without the page load hook so that we can store the failing page in the cache
         T page = PAGE_UTILS.loadCurrentPageWithoutPageLoadHook(pageClass, webDriver, getActions());
@@ -129,10 +564,34 @@ public abstract class Browser<D extends WebDriver> {
         page.pageLoadHook();
         PAGE_UTILS.runPageLoadHooksForSubPages(page, getActions());
 
+        recordPageLoadTiming(page);
         return page;
     }
 
 
+    /**
+     * Load the top level page the browser is currently showing, resolving its class from the current URL with the
+     * {@link PageRouter} set with {@link #setPageRouter(PageRouter)}. Uses the page cache like
+     * {@link #loadTopLevelPage(Class)}.
+     *
+     * @throws IllegalStateException - if no PageRouter is set
+     * @throws InvalidPageUrlException - if no registered page class matches the current URL
+     */
+    public TopLevelPage loadCurrentTopLevelPage() {
+        Preconditions.checkState(pageRouter.isPresent(), "Error: a PageRouter must be set to load the current page");
+        String currentURL = webDriver.getCurrentUrl();
+        Optional<Class<? extends TopLevelPage>> pageClass = currentURL == null
+                ? Optional.<Class<? extends TopLevelPage>>empty()
+                : pageRouter.get().resolve(currentURL);
+        if (!pageClass.isPresent()) {
+            throw new InvalidPageUrlException(String.format("None of the %d page classes of the PageRouter matches the current URL %s",
+                                                            pageRouter.get().getPageClasses().size(), currentURL));
+        }
+        logger.info("Resolved the current URL {} to page {}", currentURL, pageClass.get().getSimpleName());
+        return loadTopLevelPage(pageClass.get());
+    }
+
+
     /**
      * Save a screenshot in PNG format to given file name.
      *
@@ -168,6 +627,71 @@ public abstract class Browser<D extends WebDriver> {
         }
     }
 
+    /**
+     * Capture the timing of the page that was just loaded, if a sink is set or the page has a {@link PageBudget}. Attach
+     * it to the page, record it into the sink, and check it against the page's budget. Errors capturing or recording
+     * the timing are logged, so that collecting timings never fails a test. Only an exceeded budget does, with
+     * {@link PageBudgetEnforcement#FAIL}.
+     *
+     * @throws PageBudgetExceededException - if the page exceeded its budget and the enforcement is FAIL
+     */
+    protected void recordPageLoadTiming(TopLevelPage page) {
+        recordPageLoadTiming(page, false);
+    }
+
+    /**
+     * Like {@link #recordPageLoadTiming(TopLevelPage)}, for a page that may have been loaded ahead of time in a
+     * background window, whose timing then has no ready time.
+     */
+    protected void recordPageLoadTiming(TopLevelPage page, boolean prefetched) {
+        PageBudget budget = page.getClass().getAnnotation(PageBudget.class);
+        boolean checkBudget = budget != null && pageBudgetEnforcement != PageBudgetEnforcement.IGNORE;
+        if ((!pageTimingSink.isPresent() && !checkBudget) || getBrowserType() == WebBrowserType.MOBILE) {
+            return;
+        }
+        Optional<PageLoadTiming> timing;
+        try {
+            timing = PageLoadTiming.capture(webDriver, page.getClass().getSimpleName(), prefetched);
+        } catch (WebDriverException e) {
+            logger.info("Unable to capture the page load timing of {}: {}", page.getClass().getSimpleName(), e.getMessage());
+            return;
+        }
+        if (!timing.isPresent()) {
+            return;
+        }
+        lastPageLoadTiming = timing;
+        if (page instanceof BaseTopLevelPage) {
+            ((BaseTopLevelPage) page).setPageLoadTiming(timing.get());
+        }
+        logger.debug("Captured {}", timing.get());
+        if (pageTimingSink.isPresent()) {
+            try {
+                pageTimingSink.get().record(timing.get());
+            } catch (RuntimeException e) {
+                logger.warn("Error recording the page load timing of {}: {}", page.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        if (checkBudget && !timing.get().isSoftNavigation()) {
+            checkPageBudget(budget, timing.get());
+        }
+    }
+
+    private void checkPageBudget(PageBudget budget, PageLoadTiming timing) {
+        List<PageBudgetViolation> violations = PageBudgetViolation.check(budget, timing);
+        if (pageBudgetReport.isPresent()) {
+            pageBudgetReport.get().record(timing, violations);
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        if (pageBudgetEnforcement == PageBudgetEnforcement.FAIL) {
+            throw new PageBudgetExceededException(violations);
+        }
+        for (PageBudgetViolation violation : violations) {
+            logger.warn("Page budget exceeded: {}", violation);
+        }
+    }
+
     private <T extends TopLevelPage> boolean shouldUseCachedPage(Class<T> pageClass) {
         if (!optionalCachedPage.isPresent()) {
             return false;
@@ -203,10 +727,26 @@ public abstract class Browser<D extends WebDriver> {
 
     public void runLeavePageHook() {
         if (optionalCachedPage.isPresent()) {
+            drainWebVitals();
             optionalCachedPage.get().getCachedPage().leavePageHook();
         }
     }
 
+    /**
+     * Start collecting web vitals in the current document, if a {@link WebVitalsReport} is set. Called right after
+     * navigating, so that the collector is installed as early as possible.
+     */
+    protected void startWebVitals() {
+        if (!webVitalsReport.isPresent() || getBrowserType() == WebBrowserType.MOBILE) {
+            return;
+        }
+        try {
+            WebVitals.start(webDriver);
+        } catch (WebDriverException e) {
+            logger.info("Unable to start collecting web vitals: {}", e.getMessage());
+        }
+    }
+
     /**
      * Refresh the current page, without giving back a newly initialized Page object.
      */
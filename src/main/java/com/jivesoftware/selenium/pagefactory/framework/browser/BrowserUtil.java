@@ -20,8 +20,8 @@ import org.slf4j.LoggerFactory;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Created by charles.capps on 10/1/14.
@@ -38,7 +38,11 @@ public class BrowserUtil {
      * @param browser - this will probably only be useful for a {@link com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser}
      */
     public static void waitForPageHtmlToBeStable(Browser browser, int timeoutSeconds) {
-        final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        waitForPageHtmlToBeStable(browser, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    public static void waitForPageHtmlToBeStable(Browser browser, Duration timeout) {
+        final long TIMEOUT_MILLIS = timeout.toMillis();
         final long START = System.currentTimeMillis();
         WaitForPageToLoad waitForPageToLoad = new WaitForPageToLoad();
         Wait lengthWait = waitForPageToLoad.getLengthCheckingWait(browser.getWebDriver());
@@ -0,0 +1,271 @@
+package com.jivesoftware.selenium.pagefactory.framework.browser;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.jivesoftware.selenium.pagefactory.framework.actions.JavascriptLocators;
+import com.jivesoftware.selenium.pagefactory.framework.actions.PageRuntime;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * <p>A copy of the DOM of the current page, captured with a single WebDriver command by
+ * {@link Browser#takeDomSnapshot()}, that answers read-only queries with the same {@link By} locators entirely in-process,
+ * without a WebDriver command per query.</p>
+ *
+ * <p>The visibility of each element is computed in the browser when the snapshot is taken, and the current values of
+ * form fields are copied into their value, checked and selected attributes. Text is the visible text, with whitespace
+ * normalized. Attributes are the HTML attributes, not DOM properties, except for those of form fields.</p>
+ *
+ * <p>The snapshot doesn't change when the page does. {@link #isStale()} tells whether the DOM changed since it was taken,
+ * by comparing a counter of DOM mutations maintained in the page. CSS selectors are evaluated by jsoup, which supports
+ * most, but not all, CSS selectors.</p>
+ *
+ * Example:
+ * <pre>
+ *     DomSnapshot snapshot = browser.takeDomSnapshot();
+ *     for (String name : expectedNames) {
+ *         assertTrue(snapshot.exists(By.linkText(name)));
+ *     }
+ *     assertEquals(snapshot.count(By.cssSelector(".j-member-row")), expectedNames.size());
+ * </pre>
+ */
+public final class DomSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(DomSnapshot.class);
+    // Set on every element by the runtime's snapshot function
+    static final String VISIBLE_ATTRIBUTE = "data-jspf-visible";
+
+    private final WebDriver webDriver;
+    private final Document document;
+    private final String url;
+    private final String documentId;
+    private final long epoch;
+    private final Instant capturedAt;
+
+    private DomSnapshot(WebDriver webDriver, Document document, String url, String documentId, long epoch, Instant capturedAt) {
+        this.webDriver = webDriver;
+        this.document = document;
+        this.url = url;
+        this.documentId = documentId;
+        this.epoch = epoch;
+        this.capturedAt = capturedAt;
+    }
+
+    static DomSnapshot capture(WebDriver webDriver) {
+        long start = System.currentTimeMillis();
+        Map<?, ?> snapshot = (Map<?, ?>) PageRuntime.call(webDriver, "snapshot");
+        String html = (String) snapshot.get("html");
+        String url = (String) snapshot.get("url");
+        Document document = Jsoup.parse(html, url);
+        logger.info("Captured a DOM snapshot of {} ({} characters) in {} ms",
+                    new Object[] {url, html.length(), System.currentTimeMillis() - start});
+        return new DomSnapshot(webDriver, document, url, (String) snapshot.get("documentId"),
+                               ((Number) snapshot.get("epoch")).longValue(), Instant.now());
+    }
+
+    /**
+     * @return - true if the page navigated or its DOM changed since the snapshot was taken, or if that can't be checked.
+     * Costs one small WebDriver command.
+     */
+    public boolean isStale() {
+        try {
+            Map<?, ?> current = (Map<?, ?>) PageRuntime.call(webDriver, "domEpoch");
+            return !documentId.equals(current.get("documentId"))
+                   || epoch != ((Number) current.get("epoch")).longValue();
+        } catch (WebDriverException e) {
+            logger.debug("Unable to check whether the DOM snapshot is stale: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * @return - the parsed snapshot, for queries not covered by the methods of this class
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * @return - all elements matching the locator, in document order
+     * @throws IllegalArgumentException - if the locator isn't a standard Selenium locator, or jsoup can't parse it
+     */
+    public Elements findAll(By locator) {
+        Preconditions.checkNotNull(locator);
+        Optional<List<String>> arguments = JavascriptLocators.locatorArguments(locator);
+        Preconditions.checkArgument(arguments.isPresent(), "Locator %s isn't supported by DomSnapshot", locator);
+        String value = arguments.get().get(1);
+        try {
+            switch (arguments.get().get(0)) {
+                case "id":
+                    return document.getElementsByAttributeValue("id", value);
+                case "name":
+                    return document.getElementsByAttributeValue("name", value);
+                case "className":
+                    return document.getElementsByClass(value);
+                case "tagName":
+                    return document.getElementsByTag(value);
+                case "cssSelector":
+                    return document.select(value);
+                case "xpath":
+                    return document.selectXpath(value);
+                case "linkText":
+                case "partialLinkText":
+                    boolean partial = arguments.get().get(0).equals("partialLinkText");
+                    Elements links = new Elements();
+                    for (Element link : document.getElementsByTag("a")) {
+                        String text = visibleText(link);
+                        if (partial ? text.contains(value) : text.equals(value)) {
+                            links.add(link);
+                        }
+                    }
+                    return links;
+                default:
+                    throw new IllegalArgumentException(format("Locator %s isn't supported by DomSnapshot", locator));
+            }
+        } catch (Selector.SelectorParseException e) {
+            throw new IllegalArgumentException(format("Locator %s can't be evaluated in a DomSnapshot: %s", locator, e.getMessage()), e);
+        }
+    }
+
+    public boolean exists(By locator) {
+        return !findAll(locator).isEmpty();
+    }
+
+    public int count(By locator) {
+        return findAll(locator).size();
+    }
+
+    /**
+     * @return - the number of visible elements matching the locator
+     */
+    public int countVisible(By locator) {
+        int count = 0;
+        for (Element el : findAll(locator)) {
+            if (isVisible(el)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return - true if the first element matching the locator is visible, like SeleniumActions.isVisible()
+     */
+    public boolean isVisible(By locator) {
+        Element first = findAll(locator).first();
+        return first != null && isVisible(first);
+    }
+
+    /**
+     * @return - the visible text of the first element matching the locator, or empty if there's none
+     */
+    public Optional<String> getText(By locator) {
+        Element first = findAll(locator).first();
+        return first == null ? Optional.<String>empty() : Optional.of(visibleText(first));
+    }
+
+    /**
+     * @return - the visible text of each element matching the locator
+     */
+    public List<String> getTexts(By locator) {
+        List<String> texts = Lists.newArrayList();
+        for (Element el : findAll(locator)) {
+            texts.add(visibleText(el));
+        }
+        return texts;
+    }
+
+    /**
+     * @return - the value of the attribute of the first element matching the locator, or empty if there's no such
+     * element or attribute
+     */
+    public Optional<String> getAttribute(By locator, String attribute) {
+        Element first = findAll(locator).first();
+        return first == null || !first.hasAttr(attribute) ? Optional.<String>empty() : Optional.of(first.attr(attribute));
+    }
+
+    /**
+     * @return - true if the first element matching the locator has the class
+     */
+    public boolean hasClass(By locator, String className) {
+        Element first = findAll(locator).first();
+        return first != null && first.hasClass(className);
+    }
+
+    /**
+     * @return - true if the text of the page contains the given text
+     */
+    public boolean containsText(String text) {
+        return visibleText(document.body() == null ? document : document.body()).contains(text);
+    }
+
+    public static boolean isVisible(Element el) {
+        return Objects.equals(el.attr(VISIBLE_ATTRIBUTE), "1");
+    }
+
+    /**
+     * @return - the text of the element and its visible descendants, with whitespace normalized, or "" if the element
+     * isn't visible
+     */
+    public static String visibleText(Element el) {
+        if (el.hasAttr(VISIBLE_ATTRIBUTE) && !isVisible(el)) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        appendVisibleText(el, sb);
+        return sb.toString().replaceAll("[\\s\\u00a0]+", " ").trim();
+    }
+
+    private static void appendVisibleText(Element el, StringBuilder sb) {
+        for (Node child : el.childNodes()) {
+            if (child instanceof TextNode) {
+                sb.append(((TextNode) child).getWholeText());
+            } else if (child instanceof Element) {
+                Element childElement = (Element) child;
+                if (childElement.tagName().equals("br")) {
+                    // A <br> may have no client rects, so it isn't always marked visible
+                    sb.append(' ');
+                } else if (isVisible(childElement) || !childElement.hasAttr(VISIBLE_ATTRIBUTE)) {
+                    // Separate the text of blocks like WebElement.getText() does with line breaks
+                    sb.append(childElement.isBlock() ? " " : "");
+                    appendVisibleText(childElement, sb);
+                    sb.append(childElement.isBlock() ? " " : "");
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format("DomSnapshot of %s at epoch %d", url, epoch);
+    }
+}
@@ -0,0 +1,198 @@
+package com.jivesoftware.selenium.pagefactory.framework.browser;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.jivesoftware.selenium.pagefactory.framework.actions.JavascriptLocators;
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.jivesoftware.selenium.pagefactory.framework.actions.JavascriptLocators.quote;
+import static java.lang.String.format;
+
+/**
+ * <p>Detects that the browser is showing a fatal error page, e.g. a server error page or an error banner in the app.</p>
+ *
+ * <p>Register detectors with {@link Browser#addFatalPageDetector(FatalPageDetector)}. While a wait in
+ * {@link com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions} is polling and the condition
+ * isn't true yet, all registered detectors are evaluated in a single javascript call, at most every half second.
+ * Waits polling inside the page evaluate them in the same script. If one of them matches, the wait
+ * is aborted immediately with a {@link com.jivesoftware.selenium.pagefactory.framework.exception.FatalPageException},
+ * instead of running to its full timeout.</p>
+ *
+ * Example:
+ * <pre>
+ *     browser.addFatalPageDetector(FatalPageDetector.byHttpStatus(500));
+ *     browser.addFatalPageDetector(FatalPageDetector.byLocator(By.cssSelector(".j-fatal-error")));
+ *     browser.addFatalPageDetector(FatalPageDetector.byTitlePattern(Pattern.compile("Service Unavailable")));
+ * </pre>
+ */
+public final class FatalPageDetector {
+    // Global used by byJavascriptErrorCount to count uncaught errors in the page
+    private static final String JS_ERRORS_GLOBAL = "__jspfJavascriptErrors";
+    // Titles of error pages with the status number next to a status phrase, e.g. "HTTP Status 404 - /docs" or "Error 503"
+    private static final String STATUS_PHRASE_TITLE = "\\b(?:HTTP\\s+Status|HTTP\\s+Error|Error)\\s*:?\\s*([1-5]\\d\\d)\\b";
+    // Titles that are only a status line, e.g. "500 Internal Server Error" or "HTTP/1.1 404 Not Found"
+    private static final String STATUS_LINE_TITLE = "^\\s*(?:HTTP(?:/\\d(?:\\.\\d)?)?\\s+)?([1-5]\\d\\d)\\s*[-:]?\\s*"
+            + "(?:Bad Request|Unauthorized|Payment Required|Forbidden|Not Found|Method Not Allowed|Not Acceptable"
+            + "|Proxy Authentication Required|Request Time-?out|Conflict|Gone|Length Required|Precondition Failed"
+            + "|(?:Request Entity|Payload) Too Large|Request-URI Too Long|URI Too Long|Unsupported Media Type"
+            + "|Too Many Requests|Internal Server Error|Not Implemented|Bad Gateway|Service (?:Temporarily )?Unavailable"
+            + "|Gateway Time-?out|HTTP Version Not Supported)\\s*$";
+    private static final List<Pattern> STATUS_TITLE_PATTERNS = ImmutableList.of(
+            Pattern.compile(STATUS_PHRASE_TITLE, Pattern.CASE_INSENSITIVE),
+            Pattern.compile(STATUS_LINE_TITLE, Pattern.CASE_INSENSITIVE));
+
+    private final String description;
+    private final String script;
+
+    private FatalPageDetector(String description, String script) {
+        this.description = description;
+        this.script = script;
+    }
+
+    /**
+     * Detect a fatal page by the presence of a visible element, e.g. an error banner.
+     *
+     * @param locator - a standard Selenium locator (id, name, class name, tag name, CSS selector, XPath or link text)
+     * @throws IllegalArgumentException - if the locator can't be evaluated in javascript
+     */
+    public static FatalPageDetector byLocator(By locator) {
+        Preconditions.checkNotNull(locator);
+        Optional<List<String>> locatorArguments = JavascriptLocators.locatorArguments(locator);
+        Preconditions.checkArgument(locatorArguments.isPresent(), "Locator %s isn't supported for fatal page detection", locator);
+        String description = format("visible element '%s'", locator);
+        String script = "return rt.findAll(" + quote(locatorArguments.get().get(0)) + ", " + quote(locatorArguments.get().get(1)) + ")"
+                        + ".some(rt.isVisible) ? " + quote("Found " + description) + " : null;";
+        return new FatalPageDetector(description, script);
+    }
+
+    /**
+     * Detect a fatal page by its title. Only the CASE_INSENSITIVE and MULTILINE flags of the Pattern are honored,
+     * and the pattern must also be a valid javascript regular expression.
+     *
+     * @param titlePattern - matched against any part of document.title
+     */
+    public static FatalPageDetector byTitlePattern(Pattern titlePattern) {
+        Preconditions.checkNotNull(titlePattern);
+        String flags = ((titlePattern.flags() & Pattern.CASE_INSENSITIVE) != 0 ? "i" : "")
+                       + ((titlePattern.flags() & Pattern.MULTILINE) != 0 ? "m" : "");
+        String description = format("page title matching '%s'", titlePattern.pattern());
+        String script = "return new RegExp(" + quote(titlePattern.pattern()) + ", " + quote(flags) + ").test(document.title)"
+                        + " ? " + quote("Page title matches '" + titlePattern.pattern() + "': ") + " + document.title : null;";
+        return new FatalPageDetector(description, script);
+    }
+
+    /**
+     * Detect a fatal page by the HTTP status of the document.
+     *
+     * The status is read from the Navigation Timing API where the browser supports responseStatus. Otherwise, it falls
+     * back to a heuristic on the page title, matching the titles of typical server error pages: a status number after
+     * "HTTP Status", "HTTP Error" or "Error", e.g. "HTTP Status 404 - /docs" or "Error 503", or a title that is only
+     * a status number and an error reason phrase, e.g. "500 Internal Server Error". Other titles starting with a
+     * number, e.g. "200 Best Recipes", don't match.
+     *
+     * @param minimumStatus - the lowest HTTP status that is fatal, e.g. 500 for server errors or 400 for all errors.
+     */
+    public static FatalPageDetector byHttpStatus(int minimumStatus) {
+        Preconditions.checkArgument(minimumStatus >= 100 && minimumStatus < 600, "Invalid HTTP status: %s", minimumStatus);
+        String description = format("HTTP status >= %d", minimumStatus);
+        String script = "var nav = window.performance && performance.getEntriesByType ? performance.getEntriesByType('navigation')[0] : null;"
+                        + " var status = nav && nav.responseStatus;"
+                        + " if (!status) {"
+                        + "   var m = new RegExp(" + quote(STATUS_PHRASE_TITLE) + ", 'i').exec(document.title)"
+                        + "     || new RegExp(" + quote(STATUS_LINE_TITLE) + ", 'i').exec(document.title);"
+                        + "   status = m ? parseInt(m[1], 10) : 0;"
+                        + " }"
+                        + " return status >= " + minimumStatus + " ? 'HTTP status ' + status + ' for ' + location.href : null;";
+        return new FatalPageDetector(description, script);
+    }
+
+    /**
+     * The heuristic of {@link #byHttpStatus(int)} for browsers without responseStatus, evaluated in Java.
+     *
+     * @return - the HTTP status shown in the title of an error page, or empty if the title doesn't look like one.
+     */
+    public static Optional<Integer> httpStatusFromTitle(String title) {
+        Preconditions.checkNotNull(title);
+        for (Pattern pattern : STATUS_TITLE_PATTERNS) {
+            Matcher m = pattern.matcher(title);
+            if (m.find()) {
+                return Optional.of(Integer.parseInt(m.group(1)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Detect a fatal page by the number of uncaught javascript errors.
+     *
+     * A listener counting uncaught errors is installed in the page the first time the detectors are evaluated on it,
+     * so errors thrown before that aren't counted.
+     *
+     * @param maxErrors - the number of errors that is still tolerated. The page is fatal once there are more.
+     */
+    public static FatalPageDetector byJavascriptErrorCount(int maxErrors) {
+        Preconditions.checkArgument(maxErrors >= 0, "The maximum number of javascript errors cannot be negative");
+        String description = format("more than %d javascript errors", maxErrors);
+        String script = "if (!window." + JS_ERRORS_GLOBAL + ") {"
+                        + "   var errors = window." + JS_ERRORS_GLOBAL + " = {count: 0, last: null};"
+                        + "   window.addEventListener('error', function(e) { errors.count++; errors.last = e.message; });"
+                        + " }"
+                        + " var counted = window." + JS_ERRORS_GLOBAL + ";"
+                        + " return counted.count > " + maxErrors
+                        + "   ? counted.count + ' javascript errors on the page, the last one: ' + counted.last : null;";
+        return new FatalPageDetector(description, script);
+    }
+
+    /**
+     * Detect a fatal page with a custom script.
+     *
+     * @param description - describes what's detected, for logging
+     * @param script - the body of a javascript function, returning a String describing the problem if the page is fatal,
+     *               or null otherwise. It can use the functions of the
+     *               {@link com.jivesoftware.selenium.pagefactory.framework.actions.PageRuntime} through the variable rt.
+     */
+    public static FatalPageDetector byScript(String description, String script) {
+        return new FatalPageDetector(Preconditions.checkNotNull(description), Preconditions.checkNotNull(script));
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return - the body of a javascript function returning a String describing the problem, or null.
+     */
+    public String getScript() {
+        return script;
+    }
+
+    @Override
+    public String toString() {
+        return "FatalPageDetector: " + description;
+    }
+
+    /**
+     * Combine detectors into a single script, returning the description of the first match, or null.
+     * A detector that throws an error is skipped.
+     */
+    static String combinedScript(List<FatalPageDetector> detectors) {
+        StringBuilder sb = new StringBuilder("var checks = [");
+        for (int i = 0; i < detectors.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("function() { ").append(detectors.get(i).getScript()).append(" }");
+        }
+        sb.append("];")
+          .append(" for (var i = 0; i < checks.length; i++) {")
+          .append("   try { var reason = checks[i](); if (reason) { return String(reason); } } catch (e) { }")
+          .append(" }")
+          .append(" return null;");
+        return sb.toString();
+    }
+}
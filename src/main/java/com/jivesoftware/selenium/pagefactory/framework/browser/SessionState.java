@@ -0,0 +1,162 @@
+package com.jivesoftware.selenium.pagefactory.framework.browser;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.codehaus.jackson.annotate.JsonCreator;
+import org.codehaus.jackson.annotate.JsonIgnore;
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.openqa.selenium.Cookie;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>The state of a logged-in session: the cookies of the browser, and the localStorage and sessionStorage of an
+ * origin. Capture it with {@link Browser#captureSessionState()} after logging in, and restore it into a fresh browser
+ * with {@link Browser#restoreSessionState(SessionState)} to skip logging in through the UI.</p>
+ *
+ * <p>Session states can be cached per user or role with a {@link SessionStateCache}, and are serialized to JSON
+ * for the on-disk cache.</p>
+ */
+public final class SessionState {
+    private final String origin;
+    private final List<StoredCookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long capturedAtMillis;
+
+    @JsonCreator
+    public SessionState(@JsonProperty("origin") String origin,
+                        @JsonProperty("cookies") List<StoredCookie> cookies,
+                        @JsonProperty("localStorage") Map<String, String> localStorage,
+                        @JsonProperty("sessionStorage") Map<String, String> sessionStorage,
+                        @JsonProperty("capturedAtMillis") long capturedAtMillis) {
+        this.origin = Preconditions.checkNotNull(origin);
+        this.cookies = ImmutableList.copyOf(cookies);
+        this.localStorage = ImmutableMap.copyOf(localStorage);
+        this.sessionStorage = ImmutableMap.copyOf(sessionStorage);
+        this.capturedAtMillis = capturedAtMillis;
+    }
+
+    /**
+     * @return - the scheme, host and port of the page the storage was captured from, e.g. "https://example.com:8443"
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public List<StoredCookie> getCookies() {
+        return cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    /**
+     * @return - true if the session was captured longer ago than the given time to live, or if one of its cookies expired
+     */
+    @JsonIgnore
+    public boolean isExpired(Duration timeToLive) {
+        long now = System.currentTimeMillis();
+        if (Instant.ofEpochMilli(capturedAtMillis).plus(timeToLive).toEpochMilli() <= now) {
+            return true;
+        }
+        for (StoredCookie cookie : cookies) {
+            if (cookie.getExpiryMillis() != null && cookie.getExpiryMillis() <= now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SessionState of %s with %d cookies, %d localStorage and %d sessionStorage entries",
+                             origin, cookies.size(), localStorage.size(), sessionStorage.size());
+    }
+
+    /**
+     * A browser cookie, in a form that can be serialized to JSON.
+     */
+    public static final class StoredCookie {
+        private final String name;
+        private final String value;
+        private final String domain;
+        private final String path;
+        private final Long expiryMillis;
+        private final boolean secure;
+        private final boolean httpOnly;
+
+        @JsonCreator
+        public StoredCookie(@JsonProperty("name") String name,
+                            @JsonProperty("value") String value,
+                            @JsonProperty("domain") @Nullable String domain,
+                            @JsonProperty("path") @Nullable String path,
+                            @JsonProperty("expiryMillis") @Nullable Long expiryMillis,
+                            @JsonProperty("secure") boolean secure,
+                            @JsonProperty("httpOnly") boolean httpOnly) {
+            this.name = Preconditions.checkNotNull(name);
+            this.value = Preconditions.checkNotNull(value);
+            this.domain = domain;
+            this.path = path;
+            this.expiryMillis = expiryMillis;
+            this.secure = secure;
+            this.httpOnly = httpOnly;
+        }
+
+        public static StoredCookie fromCookie(Cookie cookie) {
+            return new StoredCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                                    cookie.getExpiry() == null ? null : cookie.getExpiry().getTime(),
+                                    cookie.isSecure(), cookie.isHttpOnly());
+        }
+
+        public Cookie toCookie() {
+            return new Cookie(name, value, domain, path, expiryMillis == null ? null : new Date(expiryMillis), secure, httpOnly);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Nullable
+        public String getDomain() {
+            return domain;
+        }
+
+        @Nullable
+        public String getPath() {
+            return path;
+        }
+
+        @Nullable
+        public Long getExpiryMillis() {
+            return expiryMillis;
+        }
+
+        public boolean isSecure() {
+            return secure;
+        }
+
+        public boolean isHttpOnly() {
+            return httpOnly;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.jivesoftware.selenium.pagefactory.framework.browser;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Caches {@link SessionState}s by key, e.g. the user name or role a session is logged in as, for a limited time.
+ * Used by {@link com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser#openPageWithSession}
+ * to log in through the UI only once per user and time to live.</p>
+ *
+ * <p>States are kept in memory, and optionally in a directory as one JSON file per key, so that they survive across
+ * runs. Instances are thread-safe and can be shared by many Browsers.</p>
+ */
+public final class SessionStateCache {
+    private static final Logger logger = LoggerFactory.getLogger(SessionStateCache.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, SessionState> states = Maps.newHashMap();
+    private final Optional<File> directory;
+    private final Duration timeToLive;
+
+    private SessionStateCache(Optional<File> directory, Duration timeToLive) {
+        Preconditions.checkArgument(!timeToLive.isNegative() && !timeToLive.isZero(), "The time to live must be positive");
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return - a cache that only keeps session states in memory, for the given time
+     */
+    public static SessionStateCache inMemory(Duration timeToLive) {
+        return new SessionStateCache(Optional.<File>empty(), timeToLive);
+    }
+
+    /**
+     * @param directory - the directory to store the session states in. It's created if it doesn't exist.
+     * @return - a cache that keeps session states in memory and in the given directory, for the given time
+     */
+    public static SessionStateCache forDirectory(File directory, Duration timeToLive) {
+        Preconditions.checkNotNull(directory, "Error: the directory for the SessionStateCache cannot be null");
+        return new SessionStateCache(Optional.of(directory), timeToLive);
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @return - the session state cached for the key, or empty if there's none or it expired
+     */
+    public synchronized Optional<SessionState> get(String key) {
+        SessionState state = states.get(key);
+        if (state == null && directory.isPresent()) {
+            state = load(key);
+        }
+        if (state == null) {
+            return Optional.empty();
+        }
+        if (state.isExpired(timeToLive)) {
+            logger.info("The cached session for '{}' expired", key);
+            invalidate(key);
+            return Optional.empty();
+        }
+        states.put(key, state);
+        return Optional.of(state);
+    }
+
+    public synchronized void put(String key, SessionState state) {
+        Preconditions.checkNotNull(state);
+        states.put(key, state);
+        if (directory.isPresent()) {
+            File file = fileFor(key);
+            try {
+                if (!directory.get().isDirectory() && !directory.get().mkdirs()) {
+                    throw new IOException("Unable to create the directory " + directory.get().getAbsolutePath());
+                }
+                objectMapper.writeValue(file, state);
+            } catch (IOException e) {
+                logger.warn("Error saving the session for '{}' to {}: {}", new Object[] {key, file.getAbsolutePath(), e.getMessage()});
+            }
+        }
+    }
+
+    /**
+     * Remove the session state for the key, e.g. because the app rejected it.
+     */
+    public synchronized void invalidate(String key) {
+        states.remove(key);
+        if (directory.isPresent()) {
+            File file = fileFor(key);
+            if (file.exists() && !file.delete()) {
+                logger.warn("Unable to delete the cached session file {}", file.getAbsolutePath());
+            }
+        }
+    }
+
+    private SessionState load(String key) {
+        File file = fileFor(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file, SessionState.class);
+        } catch (IOException e) {
+            logger.warn("Error loading the cached session for '{}' from {}: {}", new Object[] {key, file.getAbsolutePath(), e.getMessage()});
+            return null;
+        }
+    }
+
+    private File fileFor(String key) {
+        // Sanitized for the file system, with a hash to keep keys that sanitize to the same name apart
+        return new File(directory.get(), format("%s-%s.session.json", key.replaceAll("[^A-Za-z0-9._-]", "_"),
+                                                Hashing.murmur3_32().hashString(key, Charsets.UTF_8)));
+    }
+}
@@ -0,0 +1,21 @@
+package com.jivesoftware.selenium.pagefactory.framework.browser.web;
+
+/**
+ * How {@link WebBrowser#prefetch(String, PrefetchMode)} loads the next page ahead of {@link WebBrowser#openPageByURL}.
+ */
+public enum PrefetchMode {
+    /**
+     * Open the URL in a new tab, in the background, while the test keeps running on the current page. When the same URL
+     * is opened with openPageByURL, the browser switches to that tab instead of loading the URL again, and closes the
+     * window it was prefetched from if that's still the current one. So the server render and the page load overlap
+     * with the test. This is the default.
+     */
+    BACKGROUND_WINDOW,
+
+    /**
+     * Add a &lt;link rel="prefetch"&gt; for the URL to the current page. The browser fetches the document into its HTTP
+     * cache when idle, and openPageByURL still loads the page, but the document is served from the cache if it's
+     * cacheable. Lighter than BACKGROUND_WINDOW, but only saves the download of the document.
+     */
+    LINK
+}
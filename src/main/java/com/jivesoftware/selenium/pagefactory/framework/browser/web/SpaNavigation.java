@@ -0,0 +1,204 @@
+package com.jivesoftware.selenium.pagefactory.framework.browser.web;
+
+import com.google.common.base.Preconditions;
+import com.jivesoftware.selenium.pagefactory.framework.actions.JavascriptLocators;
+import org.openqa.selenium.By;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Opens pages of a single-page app with its client-side router instead of loading a new document, set per browser
+ * with {@link WebBrowser#setSpaNavigation(SpaNavigation)}.</p>
+ *
+ * <p>When {@link WebBrowser#openPageByURL(String, Class)} opens a URL with the same origin as the current page, that
+ * matches the routes pattern, and the current document is the app shell, the router script is run in the page and the
+ * browser waits for the route change to complete. The page object is then loaded exactly like after a full page load,
+ * including the @WebPagePath verification and the page cache. Otherwise, or if routing fails or times out, the URL is
+ * loaded with WebDriver#get().</p>
+ *
+ * <p>The scripts are bodies of javascript functions, called with the absolute URL as the variable url, and its path,
+ * query and fragment as the variable path. The default router pushes the URL to the history and fires a popstate
+ * event, which is what most routers listen to.</p>
+ *
+ * <p>The route change is complete when the routeChangeEvent is fired on window, or if none is configured, once the URL
+ * changed and the DOM hasn't changed for the quiet period.</p>
+ *
+ * Example:
+ * <pre>
+ *     browser.setSpaNavigation(SpaNavigation.builder()
+ *         .appShell(By.id("app-root"))
+ *         .routes(Pattern.compile("^/app/"))
+ *         .routerScript("window.appRouter.navigate(path);")
+ *         .routeChangeEvent("app:route-rendered")
+ *         .build());
+ * </pre>
+ */
+public final class SpaNavigation {
+    public static final String DEFAULT_ROUTER_SCRIPT =
+            "history.pushState(null, '', url); window.dispatchEvent(new PopStateEvent('popstate', {state: null}));";
+
+    private final String routerScript;
+    private final String appShellScript;
+    private final Optional<Pattern> routes;
+    private final Optional<String> routeChangeEvent;
+    private final Duration quietPeriod;
+    private final Duration routeTimeout;
+
+    private SpaNavigation(String routerScript, String appShellScript, Optional<Pattern> routes,
+                          Optional<String> routeChangeEvent, Duration quietPeriod, Duration routeTimeout) {
+        this.routerScript = routerScript;
+        this.appShellScript = appShellScript;
+        this.routes = routes;
+        this.routeChangeEvent = routeChangeEvent;
+        this.quietPeriod = quietPeriod;
+        this.routeTimeout = routeTimeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getRouterScript() {
+        return routerScript;
+    }
+
+    public String getAppShellScript() {
+        return appShellScript;
+    }
+
+    public Optional<Pattern> getRoutes() {
+        return routes;
+    }
+
+    public Optional<String> getRouteChangeEvent() {
+        return routeChangeEvent;
+    }
+
+    public Duration getQuietPeriod() {
+        return quietPeriod;
+    }
+
+    public Duration getRouteTimeout() {
+        return routeTimeout;
+    }
+
+    /**
+     * @return - whether the target can be routed to from the current URL: it has the same origin, a different URL,
+     * and a path matching the routes pattern.
+     */
+    boolean canRoute(URI currentURI, URI targetURI) {
+        if (!currentURI.isAbsolute() || currentURI.equals(targetURI)) {
+            return false;
+        }
+        if (!Objects.equals(currentURI.getScheme(), targetURI.getScheme())
+            || !Objects.equals(currentURI.getHost(), targetURI.getHost())
+            || currentURI.getPort() != targetURI.getPort()) {
+            return false;
+        }
+        String path = targetURI.getPath() == null ? "" : targetURI.getPath();
+        return !routes.isPresent() || routes.get().matcher(path).find();
+    }
+
+    /**
+     * @return - an asynchronous PageRuntime script routing to arguments[0], with the route change event, quiet period
+     * and timeout as the next arguments.
+     */
+    String routeScript() {
+        return "var args = arguments;"
+               + " rt.routeTo(args[0],"
+               + " function(url, path) { " + appShellScript + " },"
+               + " function(url, path) { " + routerScript + " },"
+               + " args[1], args[2], args[3], args[args.length - 1]);";
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SpaNavigation with router '%s'", routerScript);
+    }
+
+    public static final class Builder {
+        private String routerScript = DEFAULT_ROUTER_SCRIPT;
+        private String appShellScript = "return true;";
+        private Optional<Pattern> routes = Optional.empty();
+        private Optional<String> routeChangeEvent = Optional.empty();
+        private Duration quietPeriod = Duration.ofMillis(200);
+        private Duration routeTimeout = Duration.ofSeconds(10);
+
+        private Builder() {
+        }
+
+        /**
+         * Set the body of a function that starts the route change to url (or path). Defaults to
+         * {@link #DEFAULT_ROUTER_SCRIPT}.
+         */
+        public Builder routerScript(String routerScript) {
+            this.routerScript = Preconditions.checkNotNull(routerScript);
+            return this;
+        }
+
+        /**
+         * Set the body of a function returning whether the current document is the app shell that can route to url.
+         * By default, any page with the same origin is assumed to be the app shell.
+         */
+        public Builder appShellScript(String appShellScript) {
+            this.appShellScript = Preconditions.checkNotNull(appShellScript);
+            return this;
+        }
+
+        /**
+         * Only route in the page when an element matching the locator, e.g. the root element of the app, is present.
+         *
+         * @throws IllegalArgumentException - if the locator can't be evaluated in javascript
+         */
+        public Builder appShell(By locator) {
+            Preconditions.checkNotNull(locator);
+            Optional<String> findAll = JavascriptLocators.findAllExpression(locator);
+            Preconditions.checkArgument(findAll.isPresent(), "Locator %s can't be evaluated in javascript for the app shell", locator);
+            return appShellScript("return " + findAll.get() + ".length > 0;");
+        }
+
+        /**
+         * Only route in the page to paths where the pattern is found, e.g. "^/app/". By default, all paths are routed.
+         */
+        public Builder routes(Pattern routes) {
+            this.routes = Optional.of(routes);
+            return this;
+        }
+
+        /**
+         * Set the name of an event fired on window by the app when it finished rendering a route.
+         */
+        public Builder routeChangeEvent(String routeChangeEvent) {
+            this.routeChangeEvent = Optional.of(routeChangeEvent);
+            return this;
+        }
+
+        /**
+         * Set how long the DOM must not change for the route change to be complete, when there's no route change event.
+         */
+        public Builder quietPeriod(Duration quietPeriod) {
+            Preconditions.checkNotNull(quietPeriod);
+            Preconditions.checkArgument(!quietPeriod.isNegative(), "The quiet period cannot be negative: %s", quietPeriod);
+            this.quietPeriod = quietPeriod;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for the route change before loading the URL with WebDriver#get() instead.
+         */
+        public Builder routeTimeout(Duration routeTimeout) {
+            Preconditions.checkNotNull(routeTimeout);
+            Preconditions.checkArgument(!routeTimeout.isNegative() && !routeTimeout.isZero(), "The route timeout must be positive: %s", routeTimeout);
+            this.routeTimeout = routeTimeout;
+            return this;
+        }
+
+        public SpaNavigation build() {
+            return new SpaNavigation(routerScript, appShellScript, routes, routeChangeEvent, quietPeriod, routeTimeout);
+        }
+    }
+}
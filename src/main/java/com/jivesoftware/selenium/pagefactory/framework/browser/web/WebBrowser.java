@@ -1,7 +1,13 @@
 package com.jivesoftware.selenium.pagefactory.framework.browser.web;
 
+import com.google.common.base.Predicate;
+import com.google.common.collect.Sets;
+import com.jivesoftware.selenium.pagefactory.framework.actions.PageRuntime;
 import com.jivesoftware.selenium.pagefactory.framework.browser.Browser;
+import com.jivesoftware.selenium.pagefactory.framework.browser.SessionState;
+import com.jivesoftware.selenium.pagefactory.framework.browser.SessionStateCache;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
+import com.jivesoftware.selenium.pagefactory.framework.exception.InvalidPageUrlException;
 import com.jivesoftware.selenium.pagefactory.framework.exception.JiveWebDriverException;
 import com.jivesoftware.selenium.pagefactory.framework.pages.BaseTopLevelPage;
 import com.jivesoftware.selenium.pagefactory.framework.pages.TopLevelPage;
@@ -9,6 +15,7 @@ import com.jivesoftware.selenium.pagefactory.framework.webservice.EndpointBuilde
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Platform;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.logging.LogEntries;
 import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.logging.LoggingPreferences;
@@ -19,7 +26,12 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.net.URI;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -41,6 +53,10 @@ public abstract class WebBrowser extends Browser<WebDriver> {
     private final Optional<String> browserLogFile;
     private final Optional<Platform> platform;
 
+    // Absolute URL -> the background window it was prefetched in
+    private final Map<URI, PrefetchedWindow> prefetchedWindows = new LinkedHashMap<>();
+    private Optional<SpaNavigation> spaNavigation = Optional.empty();
+
     public WebBrowser(String baseTestUrl,
                       TimeoutsConfig timeouts,
                       Optional<String> webDriverPath,
@@ -177,24 +193,26 @@ public abstract class WebBrowser extends Browser<WebDriver> {
     /**
      * Opens a new page in the Browser by URL. An absolute URL or the path can be provided.
      *
-     * Invalidates the cached page and loads a fresh new page.
+     * Invalidates the cached page and loads a fresh new page. If a {@link SpaNavigation} is set and can route to the
+     * URL from the current page, the page is opened with the app's client-side router instead of WebDriver#get().
      *
      * @param uri - the href from a link, which may be a relative path from baseTestUrl or may be absolute
      * @param pageClass - the {@link com.jivesoftware.selenium.pagefactory.framework.pages.TopLevelPage} class to load.
      */
     public <T extends TopLevelPage> T openPageByURL(URI uri, Class<T> pageClass) {
-        URI absoluteURI;
-        if (uri.isAbsolute()) {
-            absoluteURI = uri;
-        } else {
-            String fullURIStr = EndpointBuilder.uri(baseTestUrl, "/", uri.toString());
-            absoluteURI = URI.create(fullURIStr);
+        URI absoluteURI = toAbsoluteURI(uri);
+        Optional<PrefetchedWindow> prefetchedWindow = takePrefetchedWindow(absoluteURI);
+        if (prefetchedWindow.isPresent()) {
+            return openPrefetchedPage(absoluteURI, prefetchedWindow.get(), pageClass);
         }
         logger.info("Opening web page by URL {}", absoluteURI);
         runLeavePageHook();
         invalidateCachedPage();
-        T page = PAGE_UTILS.loadPageFromURL(absoluteURI, pageClass, getWebDriver(), getActions());
+        navigateTo(absoluteURI);
+        startWebVitals();
+        T page = PAGE_UTILS.loadCurrentPage(pageClass, getWebDriver(), getActions());
         setCachedPage(page);
+        recordPageLoadTiming(page);
         return page;
     }
 
@@ -211,15 +229,103 @@ public abstract class WebBrowser extends Browser<WebDriver> {
         return openPageByURL(uri, pageClass);
     }
 
+    public Optional<SpaNavigation> getSpaNavigation() {
+        return spaNavigation;
+    }
+
+    /**
+     * Open pages of a single-page app with its client-side router in {@link #openPageByURL(URI, Class)}, when possible.
+     *
+     * @param spaNavigation - how to route in the app, or null to always load pages with WebDriver#get() (the default)
+     */
+    public void setSpaNavigation(@Nullable SpaNavigation spaNavigation) {
+        this.spaNavigation = Optional.ofNullable(spaNavigation);
+    }
+
+    /**
+     * Prefetch a page in a background window, so that a later {@link #openPageByURL(String, Class)} with the same URL
+     * switches to it instead of loading it. See {@link #prefetch(String, PrefetchMode)}.
+     */
+    public void prefetch(String href) {
+        prefetch(href, PrefetchMode.BACKGROUND_WINDOW);
+    }
+
+    /**
+     * <p>Start loading a page that the test will open next, e.g. the detail page of an item while testing the list,
+     * so that the server render and the page load overlap with the test of the current page.</p>
+     *
+     * <p>With {@link PrefetchMode#BACKGROUND_WINDOW}, the URL is opened in a new tab and the current window stays
+     * the active one. The next call to openPageByURL with the same absolute URL switches to that tab, and loads the page
+     * object from the prefetched document, waiting for it to finish loading if needed. The window prefetch was called
+     * from is closed, so the test keeps a single window, but only if it's still the current window: if the test switched
+     * to another window in between, e.g. a popup, both windows are left open. Other URLs are opened as usual, and their
+     * prefetched windows are kept until they're opened or {@link #cancelPrefetches()} is called.</p>
+     *
+     * <p>The prefetched page is rendered when prefetch is called, so only prefetch pages whose content doesn't depend
+     * on what the test does on the current page before opening them. Prefetched windows also show up in
+     * WebDriver#getWindowHandles().</p>
+     *
+     * @param href - the href of the page, which may be a relative path from baseTestUrl or may be absolute
+     * @param mode - how to prefetch the page
+     */
+    public void prefetch(String href, PrefetchMode mode) {
+        URI absoluteURI = toAbsoluteURI(URI.create(href));
+        if (mode == PrefetchMode.LINK) {
+            logger.info("Prefetching {} with a prefetch link", absoluteURI);
+            PageRuntime.call(webDriver, "prefetchLink", absoluteURI.toString());
+            return;
+        }
+        if (prefetchedWindows.containsKey(absoluteURI)) {
+            return;
+        }
+        String currentWindow = webDriver.getWindowHandle();
+        Set<String> windowsBefore = webDriver.getWindowHandles();
+        if (!Boolean.TRUE.equals(PageRuntime.call(webDriver, "openPrefetchWindow", absoluteURI.toString()))) {
+            logger.warn("The browser blocked the window to prefetch {}, it will be loaded when it's opened", absoluteURI);
+            return;
+        }
+        Set<String> newWindows = Sets.difference(webDriver.getWindowHandles(), windowsBefore);
+        // Some browsers bring the new tab to the front, keep the page under test visible
+        webDriver.switchTo().window(currentWindow);
+        if (newWindows.size() != 1) {
+            logger.warn("Unable to find the window prefetching {} among {} new windows", absoluteURI, newWindows.size());
+            return;
+        }
+        String prefetchWindow = newWindows.iterator().next();
+        prefetchedWindows.put(absoluteURI, new PrefetchedWindow(prefetchWindow, currentWindow));
+        logger.info("Prefetching {} in window {}", absoluteURI, prefetchWindow);
+    }
+
+    /**
+     * Close the windows of all pages prefetched with {@link PrefetchMode#BACKGROUND_WINDOW} that weren't opened.
+     */
+    public void cancelPrefetches() {
+        if (prefetchedWindows.isEmpty()) {
+            return;
+        }
+        String currentWindow = webDriver.getWindowHandle();
+        Set<String> openWindows = webDriver.getWindowHandles();
+        for (Iterator<PrefetchedWindow> it = prefetchedWindows.values().iterator(); it.hasNext(); ) {
+            String window = it.next().handle;
+            it.remove();
+            if (openWindows.contains(window)) {
+                webDriver.switchTo().window(window).close();
+            }
+        }
+        webDriver.switchTo().window(currentWindow);
+    }
+
     /**
      * Refresh the current page, without giving back a newly initialized Page object.
      */
     public void refreshPage() {
         runLeavePageHook();
         webDriver.navigate().refresh();
+        startWebVitals();
         if (optionalCachedPage.isPresent()) {
             TopLevelPage cachedPage = optionalCachedPage.get().getCachedPage();
             cachedPage.refreshElements();
+            recordPageLoadTiming(cachedPage);
         }
     }
 
@@ -239,6 +345,61 @@ public abstract class WebBrowser extends Browser<WebDriver> {
         webDriver.manage().deleteAllCookies();
     }
 
+    /**
+     * Open a page logged in as the session cached for the key, logging in through the UI only when there's no cached
+     * session, e.g. for the first test of each user.
+     *
+     * See {@link #openPageWithSession(SessionStateCache, String, Runnable, String, Class, Predicate)}.
+     */
+    public <T extends TopLevelPage> T openPageWithSession(SessionStateCache cache, String key, Runnable login,
+                                                          String href, Class<T> pageClass) {
+        return openPageWithSession(cache, key, login, href, pageClass, null);
+    }
+
+    /**
+     * Open a page logged in as the session cached for the key, logging in through the UI only when there's no cached
+     * session, e.g. for the first test of each user.
+     *
+     * If the cache has a session for the key, it's restored into this browser and the page is opened. If the page
+     * fails with an {@link InvalidPageUrlException}, e.g. because the app redirected to its login page, or
+     * sessionRejected returns true, the cached session is invalidated, and the session is cleaned before logging in
+     * again. Other exceptions opening the page are thrown, and the cached session is kept.
+     *
+     * Otherwise, login is run, the resulting session is captured into the cache, and the page is opened.
+     *
+     * @param cache - the cache of sessions
+     * @param key - the key of the session in the cache, e.g. the user name or role
+     * @param login - logs in through the UI, leaving the browser on a page of the app's origin
+     * @param href - the page to open, which may be a relative path from baseTestUrl or may be absolute
+     * @param pageClass - the {@link TopLevelPage} class to load
+     * @param sessionRejected - checks whether the app rejected the restored session after opening the page, or null
+     */
+    public <T extends TopLevelPage> T openPageWithSession(SessionStateCache cache, String key, Runnable login,
+                                                          String href, Class<T> pageClass,
+                                                          @Nullable Predicate<WebBrowser> sessionRejected) {
+        Optional<SessionState> cached = cache.get(key);
+        if (cached.isPresent()) {
+            restoreSessionState(cached.get());
+            try {
+                T page = openPageByURL(href, pageClass);
+                if (sessionRejected == null || !sessionRejected.apply(this)) {
+                    logger.info("Opened {} with the cached session for '{}'", href, key);
+                    return page;
+                }
+                logger.info("The app rejected the cached session for '{}', logging in again", key);
+            } catch (InvalidPageUrlException e) {
+                logger.info("Not on the expected page after opening {} with the cached session for '{}', logging in again: {}",
+                            new Object[] {href, key, e.getMessage()});
+            }
+            cache.invalidate(key);
+            cleanSession();
+            clearWebStorage();
+        }
+        login.run();
+        cache.put(key, captureSessionState());
+        return openPageByURL(href, pageClass);
+    }
+
     @Nullable
     public abstract LogEntries getBrowserLogEntries();
 
@@ -263,4 +424,103 @@ public abstract class WebBrowser extends Browser<WebDriver> {
             desiredCapabilities.setPlatform(platform.get());
         }
     }
+
+    //--------------Private helpers------------
+    private URI toAbsoluteURI(URI uri) {
+        if (uri.isAbsolute()) {
+            return uri;
+        }
+        return URI.create(EndpointBuilder.uri(baseTestUrl, "/", uri.toString()));
+    }
+
+    /**
+     * Navigate to the URL with the SpaNavigation if it can route to it from the current page, or load it otherwise.
+     */
+    private void navigateTo(URI absoluteURI) {
+        if (spaNavigation.isPresent() && canRouteTo(spaNavigation.get(), absoluteURI) && routeTo(spaNavigation.get(), absoluteURI)) {
+            return;
+        }
+        webDriver.get(absoluteURI.toString());
+    }
+
+    private boolean canRouteTo(SpaNavigation navigation, URI absoluteURI) {
+        String currentURL = webDriver.getCurrentUrl();
+        if (currentURL == null) {
+            return false;
+        }
+        try {
+            return navigation.canRoute(URI.create(currentURL), absoluteURI);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean routeTo(SpaNavigation navigation, URI absoluteURI) {
+        Duration timeout = navigation.getRouteTimeout();
+        Object result;
+        try {
+            ensureScriptTimeoutForWait(timeout);
+            result = PageRuntime.executeAsync(webDriver, navigation.routeScript(), absoluteURI.toString(),
+                                              navigation.getRouteChangeEvent().orElse(null),
+                                              navigation.getQuietPeriod().toMillis(), timeout.toMillis());
+        } catch (WebDriverException e) {
+            logger.info("Unable to route to {} in the single-page app, loading the page: {}", absoluteURI, e.getMessage());
+            return false;
+        }
+        if ("ok".equals(result)) {
+            logger.info("Routed to {} in the single-page app", absoluteURI);
+            return true;
+        }
+        logger.info("Unable to route to {} in the single-page app ({}), loading the page", absoluteURI, result);
+        return false;
+    }
+
+    private Optional<PrefetchedWindow> takePrefetchedWindow(URI absoluteURI) {
+        PrefetchedWindow window = prefetchedWindows.remove(absoluteURI);
+        if (window == null) {
+            return Optional.empty();
+        }
+        if (!webDriver.getWindowHandles().contains(window.handle)) {
+            logger.info("The window prefetching {} was closed, loading the page again", absoluteURI);
+            return Optional.empty();
+        }
+        return Optional.of(window);
+    }
+
+    private <T extends TopLevelPage> T openPrefetchedPage(URI absoluteURI, PrefetchedWindow prefetchedWindow, Class<T> pageClass) {
+        logger.info("Opening web page by URL {} from prefetched window {}", absoluteURI, prefetchedWindow.handle);
+        runLeavePageHook();
+        invalidateCachedPage();
+        String currentWindow;
+        try {
+            currentWindow = webDriver.getWindowHandle();
+        } catch (WebDriverException e) {
+            // The current window was closed already
+            currentWindow = null;
+        }
+        if (prefetchedWindow.originHandle.equals(currentWindow)) {
+            webDriver.close();
+        } else {
+            logger.info("Leaving window {} open, it isn't the window {} was prefetched from", currentWindow, absoluteURI);
+        }
+        webDriver.switchTo().window(prefetchedWindow.handle);
+        getActions().waitForWebPageReadyStateToBeComplete();
+        startWebVitals();
+        T page = PAGE_UTILS.loadCurrentPage(pageClass, webDriver, getActions());
+        setCachedPage(page);
+        // The tab was idle for an unknown time after loading, so only its navigation marks are meaningful
+        recordPageLoadTiming(page, true);
+        return page;
+    }
+
+    private static final class PrefetchedWindow {
+        private final String handle;
+        // The window that was current when the page was prefetched, closed when the prefetched page is opened
+        private final String originHandle;
+
+        private PrefetchedWindow(String handle, String originHandle) {
+            this.handle = handle;
+            this.originHandle = originHandle;
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package com.jivesoftware.selenium.pagefactory.framework.config;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>Derives a {@link TimeoutsConfig} from the wait times recorded in {@link WaitStatistics}.</p>
+ *
+ * <p>For each configurable {@link TimeoutType}, the timeout is computed per call site as the configured percentile of the
+ * recorded wait times, multiplied by a safety factor. The largest value across call sites is used, so the slowest
+ * page doesn't become flaky. The result is clamped between a floor and a ceiling. Timeout types without enough samples
+ * keep the value from the base config.</p>
+ *
+ * Example:
+ * <pre>
+ *     WaitStatistics stats = WaitStatistics.forFile(new File("wait-statistics.json"));
+ *     TimeoutsConfig timeouts = AdaptiveTimeouts.builder(stats)
+ *         .percentile(99)
+ *         .percentile(TimeoutType.PAGE_LOAD_TIMEOUT, 99.9)
+ *         .safetyFactor(2.0)
+ *         .floor(Duration.ofMillis(500))
+ *         .ceiling(Duration.ofSeconds(60))
+ *         .build();
+ * </pre>
+ */
+public final class AdaptiveTimeouts {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveTimeouts.class);
+
+    /** The timeout types that are configurable in a TimeoutsConfig, and so can be derived from statistics. */
+    public static final Set<TimeoutType> ADAPTIVE_TIMEOUT_TYPES = EnumSet.of(
+            TimeoutType.CLICK_TIMEOUT, TimeoutType.WEB_ELEMENT_PRESENCE_TIMEOUT, TimeoutType.POLLING_WITH_REFRESH_TIMEOUT,
+            TimeoutType.PAGE_REFRESH_TIMEOUT, TimeoutType.PAGE_LOAD_TIMEOUT, TimeoutType.PAGE_READY_TIMEOUT,
+            TimeoutType.SHORT, TimeoutType.MEDIUM, TimeoutType.LONG);
+
+    private AdaptiveTimeouts() {
+    }
+
+    public static Builder builder(WaitStatistics statistics) {
+        return new Builder(statistics);
+    }
+
+    public static final class Builder {
+        private final WaitStatistics statistics;
+        private TimeoutsConfig baseConfig = TimeoutsConfig.defaultTimeoutsConfig();
+        private double defaultPercentile = 99;
+        private final Map<TimeoutType, Double> percentiles = Maps.newEnumMap(TimeoutType.class);
+        private double safetyFactor = 2.0;
+        private Duration floor = Duration.ofMillis(500);
+        private Duration ceiling = Duration.ofMinutes(2);
+        private int minimumSamples = 20;
+
+        private Builder(WaitStatistics statistics) {
+            this.statistics = Preconditions.checkNotNull(statistics, "Error: WaitStatistics cannot be null");
+        }
+
+        /**
+         * Set the config supplying values for pauses, and for timeout types without enough samples.
+         * Defaults to {@link TimeoutsConfig#defaultTimeoutsConfig()}.
+         */
+        public Builder baseConfig(TimeoutsConfig baseConfig) {
+            this.baseConfig = Preconditions.checkNotNull(baseConfig);
+            return this;
+        }
+
+        /**
+         * Set the percentile (0-100) of recorded wait times used for all timeout types. Defaults to 99.
+         */
+        public Builder percentile(double percentile) {
+            this.defaultPercentile = checkPercentile(percentile);
+            return this;
+        }
+
+        /**
+         * Set the percentile (0-100) of recorded wait times used for one timeout type.
+         */
+        public Builder percentile(TimeoutType timeoutType, double percentile) {
+            Preconditions.checkArgument(ADAPTIVE_TIMEOUT_TYPES.contains(timeoutType), "Timeout type %s isn't configurable", timeoutType);
+            percentiles.put(timeoutType, checkPercentile(percentile));
+            return this;
+        }
+
+        /**
+         * Set the factor the percentile is multiplied by, to leave headroom for slow nodes. Defaults to 2.0.
+         */
+        public Builder safetyFactor(double safetyFactor) {
+            Preconditions.checkArgument(safetyFactor >= 1.0, "The safety factor must be at least 1.0");
+            this.safetyFactor = safetyFactor;
+            return this;
+        }
+
+        /**
+         * Set the smallest timeout that will be derived. Defaults to 500 ms.
+         */
+        public Builder floor(Duration floor) {
+            this.floor = Preconditions.checkNotNull(floor);
+            return this;
+        }
+
+        /**
+         * Set the largest timeout that will be derived. Defaults to 2 minutes.
+         */
+        public Builder ceiling(Duration ceiling) {
+            this.ceiling = Preconditions.checkNotNull(ceiling);
+            return this;
+        }
+
+        /**
+         * Set the number of samples a call site needs before its history is used. Defaults to 20.
+         */
+        public Builder minimumSamples(int minimumSamples) {
+            Preconditions.checkArgument(minimumSamples > 0, "The minimum number of samples must be positive");
+            this.minimumSamples = minimumSamples;
+            return this;
+        }
+
+        public TimeoutsConfig build() {
+            Preconditions.checkState(floor.compareTo(ceiling) <= 0, "The floor %s is greater than the ceiling %s", floor, ceiling);
+            TimeoutsConfig.Builder builder = baseConfig.toBuilder();
+            for (TimeoutType timeoutType : ADAPTIVE_TIMEOUT_TYPES) {
+                Optional<Duration> derived = derive(timeoutType);
+                if (!derived.isPresent()) {
+                    continue;
+                }
+                logger.info("Derived timeout for {} from wait statistics: {} ms (was {} ms)",
+                            new Object[] {timeoutType, derived.get().toMillis(), baseConfig.getTimeout(timeoutType).toMillis()});
+                builder.timeout(timeoutType, derived.get());
+            }
+            return builder.build();
+        }
+
+        private Optional<Duration> derive(TimeoutType timeoutType) {
+            Double percentile = percentiles.get(timeoutType);
+            if (percentile == null) {
+                percentile = defaultPercentile;
+            }
+            Optional<Duration> slowest = Optional.empty();
+            for (Map.Entry<String, Deque<Long>> callSite : statistics.getCallSites(timeoutType).entrySet()) {
+                if (callSite.getValue().size() < minimumSamples) {
+                    continue;
+                }
+                Optional<Duration> value = WaitStatistics.percentileOf(Lists.newArrayList(callSite.getValue()), percentile);
+                if (value.isPresent() && (!slowest.isPresent() || value.get().compareTo(slowest.get()) > 0)) {
+                    slowest = value;
+                }
+            }
+            if (!slowest.isPresent()) {
+                return Optional.empty();
+            }
+            Duration withHeadroom = Duration.ofMillis((long) Math.ceil(slowest.get().toMillis() * safetyFactor));
+            if (withHeadroom.compareTo(floor) < 0) {
+                return Optional.of(floor);
+            }
+            if (withHeadroom.compareTo(ceiling) > 0) {
+                return Optional.of(ceiling);
+            }
+            return Optional.of(withHeadroom);
+        }
+
+        private static double checkPercentile(double percentile) {
+            Preconditions.checkArgument(percentile > 0 && percentile <= 100, "Percentile must be in (0, 100], got %s", percentile);
+            return percentile;
+        }
+    }
+}
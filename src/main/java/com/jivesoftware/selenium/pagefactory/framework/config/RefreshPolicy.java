@@ -0,0 +1,139 @@
+package com.jivesoftware.selenium.pagefactory.framework.config;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+
+/**
+ * <p>Controls how often the page is refreshed by the SeleniumActions methods that poll by refreshing the page,
+ * such as findElementContainingTextWithRefresh() and waitOnPredicateWithRefresh().</p>
+ *
+ * <p>Between refreshes, the condition is re-checked every {@link TimeoutsConfig#getPauseBetweenTriesMillis()} ms without
+ * reloading. The pause before the first refresh is the initial pause, and it's multiplied by the backoff multiplier
+ * after every refresh, up to the maximum pause.</p>
+ *
+ * <p>If probeForChanges is enabled, the page is fetched in the background with javascript before each refresh, and the
+ * full reload is skipped when the ETag, Last-Modified or length of the response hasn't changed since the last reload.</p>
+ *
+ * Example:
+ * <pre>
+ *     RefreshPolicy policy = RefreshPolicy.builder()
+ *         .initialPause(Duration.ofSeconds(1))
+ *         .backoffMultiplier(2.0)
+ *         .maxPause(Duration.ofSeconds(10))
+ *         .probeForChanges(true)
+ *         .build();
+ *     TimeoutsConfig timeouts = TimeoutsConfig.builder().refreshPolicy(policy).build();
+ * </pre>
+ */
+public final class RefreshPolicy {
+    private final Duration initialPause;
+    private final double backoffMultiplier;
+    private final Duration maxPause;
+    private final boolean probeForChanges;
+
+    private RefreshPolicy(Duration initialPause, double backoffMultiplier, Duration maxPause, boolean probeForChanges) {
+        this.initialPause = initialPause;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxPause = maxPause;
+        this.probeForChanges = probeForChanges;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return - a policy refreshing at a fixed interval, without probing for changes.
+     */
+    public static RefreshPolicy fixedPause(Duration pause) {
+        return builder().initialPause(pause).maxPause(pause).build();
+    }
+
+    public Duration getInitialPause() {
+        return initialPause;
+    }
+
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    public Duration getMaxPause() {
+        return maxPause;
+    }
+
+    public boolean isProbeForChanges() {
+        return probeForChanges;
+    }
+
+    /**
+     * @param refreshCount - the number of refreshes (or skipped refreshes) so far
+     * @return - the pause before the next refresh
+     */
+    public Duration getPause(int refreshCount) {
+        double pauseMillis = initialPause.toMillis() * Math.pow(backoffMultiplier, refreshCount);
+        return pauseMillis >= maxPause.toMillis() ? maxPause : Duration.ofMillis((long) pauseMillis);
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .initialPause(initialPause)
+                .backoffMultiplier(backoffMultiplier)
+                .maxPause(maxPause)
+                .probeForChanges(probeForChanges);
+    }
+
+    public static final class Builder {
+        private Duration initialPause = Duration.ofSeconds(DefaultTimeouts.PAUSE_BETWEEN_REFRESH_SECONDS);
+        private double backoffMultiplier = 1.0;
+        private Duration maxPause = Duration.ofSeconds(DefaultTimeouts.PAUSE_BETWEEN_REFRESH_SECONDS);
+        private boolean probeForChanges = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the pause before the first refresh.
+         */
+        public Builder initialPause(Duration initialPause) {
+            Preconditions.checkNotNull(initialPause);
+            Preconditions.checkArgument(!initialPause.isNegative(), "The pause cannot be negative: %s", initialPause);
+            this.initialPause = initialPause;
+            return this;
+        }
+
+        /**
+         * Set the factor the pause is multiplied by after each refresh. 1.0 (the default) refreshes at a fixed interval.
+         */
+        public Builder backoffMultiplier(double backoffMultiplier) {
+            Preconditions.checkArgument(backoffMultiplier >= 1.0, "The backoff multiplier must be at least 1.0");
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * Set the longest pause between refreshes.
+         */
+        public Builder maxPause(Duration maxPause) {
+            Preconditions.checkNotNull(maxPause);
+            Preconditions.checkArgument(!maxPause.isNegative(), "The pause cannot be negative: %s", maxPause);
+            this.maxPause = maxPause;
+            return this;
+        }
+
+        /**
+         * Set whether to fetch the page in the background before refreshing, skipping the refresh if the server's
+         * response hasn't changed. Only useful for pages whose content is rendered by the server.
+         */
+        public Builder probeForChanges(boolean probeForChanges) {
+            this.probeForChanges = probeForChanges;
+            return this;
+        }
+
+        public RefreshPolicy build() {
+            Preconditions.checkState(initialPause.compareTo(maxPause) <= 0,
+                                     "The initial pause %s is greater than the max pause %s", initialPause, maxPause);
+            return new RefreshPolicy(initialPause, backoffMultiplier, maxPause, probeForChanges);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.jivesoftware.selenium.pagefactory.framework.config;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Created by charles.capps on 8/13/14.
  *
  * <p>Represents the type of Timeout. This is used rather than allowing Magic Numbers to be used arbitrarily for timeouts.
- *    All timeouts represent values in seconds.</p>
+ *    Timeouts are resolved to a {@link Duration} by {@link TimeoutsConfig#getTimeout(TimeoutType)}, so they can have
+ *    sub-second resolution.</p>
  *
  * <p>A TimeoutType is passed into various methods of {@link com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions}.
  *    This indicates whether to use the DEFAULT timeout for the action, or to use a different TimeoutType.</p>
@@ -44,7 +48,42 @@ public enum TimeoutType {
     /** Arbitrary long timeout configured by the client. **/
     LONG,
     /** Fixed timeouts not affected by configuration.
-     *  Usage is discouraged; but this is useful when you need an exact timeout that can't be changed by configuration. **/
-    ONE_SECOND, TWO_SECONDS, FIVE_SECONDS, TEN_SECONDS, TWENTY_SECONDS, SIXTY_SECONDS, NINETY_SECONDS,
-    TWO_MINUTES, THREE_MINUTES, FIVE_MINUTES, TEN_MINUTES, THIRTY_MINUTES, SIXTY_MINUTES, NINETY_MINUTES, TWO_HOURS
+     *  Usage is discouraged; but this is useful when you need an exact timeout that can't be changed by configuration.
+     *  The sub-second values are mostly useful for negative assertions, e.g. verifying an element is NOT present. **/
+    ONE_HUNDRED_MILLISECONDS(Duration.ofMillis(100)),
+    TWO_HUNDRED_FIFTY_MILLISECONDS(Duration.ofMillis(250)),
+    FIVE_HUNDRED_MILLISECONDS(Duration.ofMillis(500)),
+    ONE_SECOND(Duration.ofSeconds(1)),
+    TWO_SECONDS(Duration.ofSeconds(2)),
+    FIVE_SECONDS(Duration.ofSeconds(5)),
+    TEN_SECONDS(Duration.ofSeconds(10)),
+    TWENTY_SECONDS(Duration.ofSeconds(20)),
+    SIXTY_SECONDS(Duration.ofSeconds(60)),
+    NINETY_SECONDS(Duration.ofSeconds(90)),
+    TWO_MINUTES(Duration.ofMinutes(2)),
+    THREE_MINUTES(Duration.ofMinutes(3)),
+    FIVE_MINUTES(Duration.ofMinutes(5)),
+    TEN_MINUTES(Duration.ofMinutes(10)),
+    THIRTY_MINUTES(Duration.ofMinutes(30)),
+    SIXTY_MINUTES(Duration.ofMinutes(60)),
+    NINETY_MINUTES(Duration.ofMinutes(90)),
+    TWO_HOURS(Duration.ofHours(2));
+
+    private final Optional<Duration> fixedTimeout;
+
+    TimeoutType() {
+        this.fixedTimeout = Optional.empty();
+    }
+
+    TimeoutType(Duration fixedTimeout) {
+        this.fixedTimeout = Optional.of(fixedTimeout);
+    }
+
+    /**
+     * @return the fixed Duration for this TimeoutType, or empty if the timeout is configured via {@link TimeoutsConfig}
+     * (or is DEFAULT).
+     */
+    public Optional<Duration> getFixedTimeout() {
+        return fixedTimeout;
+    }
 }
@@ -3,7 +3,8 @@ package com.jivesoftware.selenium.pagefactory.framework.config;
 import com.google.common.base.Preconditions;
 import com.jivesoftware.selenium.pagefactory.framework.pages.Page;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.Optional;
 
 /**
  * <p>Represents the timeout configuration used by a {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser}.</p>
@@ -13,30 +14,36 @@ import java.util.concurrent.TimeUnit;
  * <p>Use TimeoutsConfig.builder() to get a Builder that begins with default timeout values.
  * Then call builder.build() to get a finalized TimeoutsConfig instance.</p>
  *
+ * <p>Timeouts are stored as {@link Duration}s, so they can be configured with sub-second resolution.
+ * The methods returning whole seconds are kept for backwards compatibility, and round up to the next second.</p>
+ *
  * @see TimeoutType
  */
 public final class TimeoutsConfig {
 
     // Standard timeouts for most common usages
-    private final int clickTimeoutSeconds;
-    private final int webElementPresenceTimeoutSeconds;
-    private final int pollingWithRefreshTimeoutSeconds;
-    private final int pageRefreshTimeoutSeconds;
+    private final Duration clickTimeout;
+    private final Duration webElementPresenceTimeout;
+    private final Duration pollingWithRefreshTimeout;
+    private final Duration pageRefreshTimeout;
 
     // Arbitrary timeouts configured by client
-    private final int shortTimeoutSeconds;
-    private final int mediumTimeoutSeconds;
-    private final int longTimeoutSeconds;
+    private final Duration shortTimeout;
+    private final Duration mediumTimeout;
+    private final Duration longTimeout;
 
     // Pauses when polling or entering keys
     private final int pauseBetweenKeysMillis;
     private final int pauseBetweenTriesMillis;
     private final int pauseBetweenRefreshSeconds;
+    // Only set when configured explicitly, otherwise the policy is derived from pauseBetweenRefreshSeconds
+    private final Optional<RefreshPolicy> explicitRefreshPolicy;
+    private final RefreshPolicy refreshPolicy;
 
     // Timeouts used for configuring the underlying WebDriver
-    private final int pageLoadTimeoutSeconds;
-    private final int pageReadyTimeoutSeconds;
-    private final int implicitWaitTimeoutMillis;
+    private final Duration pageLoadTimeout;
+    private final Duration pageReadyTimeout;
+    private final Duration implicitWaitTimeout;
 
     /**
      * Return a Builder for constructing a TimeoutsConfig instance.
@@ -54,117 +61,169 @@ public final class TimeoutsConfig {
         return new Builder().build();
     }
 
-    private TimeoutsConfig(int clickTimeoutSeconds, int webElementPresenceTimeoutSeconds, int pollingWithRefreshTimeoutSeconds,
-                          int pageRefreshTimeoutSeconds, int shortTimeoutSeconds, int mediumTimeoutSeconds, int longTimeoutSeconds,
-                          int pauseBetweenKeysMillis, int pauseBetweenTriesMillis, int pauseBetweenRefreshSeconds,
-                          int pageLoadTimeoutSeconds, int pageReadyTimeoutSeconds, int implicitWaitTimeoutMillis) {
-        this.clickTimeoutSeconds = clickTimeoutSeconds;
-        this.webElementPresenceTimeoutSeconds = webElementPresenceTimeoutSeconds;
-        this.pollingWithRefreshTimeoutSeconds = pollingWithRefreshTimeoutSeconds;
-        this.pageRefreshTimeoutSeconds = pageRefreshTimeoutSeconds;
-        this.shortTimeoutSeconds = shortTimeoutSeconds;
-        this.mediumTimeoutSeconds = mediumTimeoutSeconds;
-        this.longTimeoutSeconds = longTimeoutSeconds;
+    /**
+     * Derive a TimeoutsConfig from recorded wait statistics, using the defaults of {@link AdaptiveTimeouts}.
+     * Use {@link AdaptiveTimeouts#builder(WaitStatistics)} to configure the percentile, safety factor, floor and ceiling.
+     *
+     * @param statistics - wait statistics recorded by previous runs
+     * @return a {@link TimeoutsConfig} with timeouts derived from the statistics where there are enough samples,
+     * and default timeout values otherwise
+     */
+    public static TimeoutsConfig fromWaitStatistics(WaitStatistics statistics) {
+        return AdaptiveTimeouts.builder(statistics).build();
+    }
+
+    /**
+     * @return - a Builder populated with the values of this TimeoutsConfig.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder()
+                .clickTimeout(clickTimeout)
+                .webElementPresenceTimeout(webElementPresenceTimeout)
+                .pollingWithRefreshTimeout(pollingWithRefreshTimeout)
+                .pageRefreshTimeout(pageRefreshTimeout)
+                .shortTimeout(shortTimeout)
+                .mediumTimeout(mediumTimeout)
+                .longTimeout(longTimeout)
+                .pauseBetweenKeysMillis(pauseBetweenKeysMillis)
+                .pauseBetweenTriesMillis(pauseBetweenTriesMillis)
+                .pauseBetweenRefreshSeconds(pauseBetweenRefreshSeconds)
+                .pageLoadTimeout(pageLoadTimeout)
+                .pageReadyTimeout(pageReadyTimeout)
+                .implicitWaitTimeout(implicitWaitTimeout);
+        // A derived policy isn't copied, so it follows a new pauseBetweenRefreshSeconds
+        builder.refreshPolicy = explicitRefreshPolicy.orElse(null);
+        return builder;
+    }
+
+    private TimeoutsConfig(Duration clickTimeout, Duration webElementPresenceTimeout, Duration pollingWithRefreshTimeout,
+                           Duration pageRefreshTimeout, Duration shortTimeout, Duration mediumTimeout, Duration longTimeout,
+                           int pauseBetweenKeysMillis, int pauseBetweenTriesMillis, int pauseBetweenRefreshSeconds,
+                           Optional<RefreshPolicy> explicitRefreshPolicy, Duration pageLoadTimeout, Duration pageReadyTimeout, Duration implicitWaitTimeout) {
+        this.clickTimeout = clickTimeout;
+        this.webElementPresenceTimeout = webElementPresenceTimeout;
+        this.pollingWithRefreshTimeout = pollingWithRefreshTimeout;
+        this.pageRefreshTimeout = pageRefreshTimeout;
+        this.shortTimeout = shortTimeout;
+        this.mediumTimeout = mediumTimeout;
+        this.longTimeout = longTimeout;
         this.pauseBetweenKeysMillis = pauseBetweenKeysMillis;
         this.pauseBetweenTriesMillis = pauseBetweenTriesMillis;
         this.pauseBetweenRefreshSeconds = pauseBetweenRefreshSeconds;
-        this.pageLoadTimeoutSeconds = pageLoadTimeoutSeconds;
-        this.pageReadyTimeoutSeconds = pageReadyTimeoutSeconds;
-        this.implicitWaitTimeoutMillis = implicitWaitTimeoutMillis;
+        this.explicitRefreshPolicy = explicitRefreshPolicy;
+        this.refreshPolicy = explicitRefreshPolicy.isPresent()
+                ? explicitRefreshPolicy.get()
+                : RefreshPolicy.fixedPause(Duration.ofSeconds(pauseBetweenRefreshSeconds));
+        this.pageLoadTimeout = pageLoadTimeout;
+        this.pageReadyTimeout = pageReadyTimeout;
+        this.implicitWaitTimeout = implicitWaitTimeout;
     }
 
     /**
-     * Return the timeout in seconds for the given TimeoutType.
+     * Return the timeout for the given TimeoutType.
      *
      * It doesn't make sense to pass in the DEFAULT timeout type, because that is a context-sensitive timeout.
      *
-     * @param timeout - the TimeoutType (other than DEFAULT) to get the timeout in seconds for.
-     * @return - the timeout in seconds
+     * @param timeout - the TimeoutType (other than DEFAULT) to get the timeout for.
+     * @return - the timeout as a Duration
      */
-    public int getTimeoutInSeconds(TimeoutType timeout) {
+    public Duration getTimeout(TimeoutType timeout) {
         Preconditions.checkNotNull(timeout, "Cannot get timeout for null timeout.");
         Preconditions.checkArgument(timeout != TimeoutType.DEFAULT, "Can only get the standard timeout for timeout types other than DEFAULT");
         switch (timeout) {
 
             case CLICK_TIMEOUT:
-                return getClickTimeoutSeconds();
+                return getClickTimeout();
             case WEB_ELEMENT_PRESENCE_TIMEOUT:
-                return getWebElementPresenceTimeoutSeconds();
+                return getWebElementPresenceTimeout();
             case POLLING_WITH_REFRESH_TIMEOUT:
-                return getPollingWithRefreshTimeoutSeconds();
+                return getPollingWithRefreshTimeout();
             case PAGE_REFRESH_TIMEOUT:
-                return getPageRefreshTimeoutSeconds();
+                return getPageRefreshTimeout();
             case PAGE_LOAD_TIMEOUT:
-                return getPageLoadTimeoutSeconds();
+                return getPageLoadTimeout();
             case PAGE_READY_TIMEOUT:
-                return getPageReadyTimeoutSeconds();
+                return getPageReadyTimeout();
             case SHORT:
-                return getShortTimeoutSeconds();
+                return getShortTimeout();
             case MEDIUM:
-                return getMediumTimeoutSeconds();
+                return getMediumTimeout();
             case LONG:
-                return getLongTimeoutSeconds();
-            case ONE_SECOND:
-                return 1;
-            case TWO_SECONDS:
-                return 2;
-            case FIVE_SECONDS:
-                return 5;
-            case TEN_SECONDS:
-                return 10;
-            case TWENTY_SECONDS:
-                return 20;
-            case SIXTY_SECONDS:
-                return 60;
-            case NINETY_SECONDS:
-                return 90;
-            case TWO_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(2);
-            case THREE_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(3);
-            case FIVE_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(5);
-            case TEN_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(10);
-            case THIRTY_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(30);
-            case SIXTY_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(60);
-            case NINETY_MINUTES:
-                return (int)TimeUnit.MINUTES.toSeconds(90);
-            case TWO_HOURS:
-                return (int)TimeUnit.HOURS.toSeconds(2);
+                return getLongTimeout();
             default:
-                return getWebElementPresenceTimeoutSeconds();
+                Optional<Duration> fixedTimeout = timeout.getFixedTimeout();
+                return fixedTimeout.isPresent() ? fixedTimeout.get() : getWebElementPresenceTimeout();
         }
     }
 
+    /**
+     * Return the timeout in seconds for the given TimeoutType.
+     *
+     * It doesn't make sense to pass in the DEFAULT timeout type, because that is a context-sensitive timeout.
+     * Timeouts with sub-second resolution are rounded up to the next whole second.
+     *
+     * @param timeout - the TimeoutType (other than DEFAULT) to get the timeout in seconds for.
+     * @return - the timeout in seconds
+     * @see #getTimeout(TimeoutType)
+     */
+    public int getTimeoutInSeconds(TimeoutType timeout) {
+        return toWholeSeconds(getTimeout(timeout));
+    }
+
+    public Duration getClickTimeout() {
+        return clickTimeout;
+    }
+
     public int getClickTimeoutSeconds() {
-        return clickTimeoutSeconds;
+        return toWholeSeconds(clickTimeout);
+    }
+
+    public Duration getWebElementPresenceTimeout() {
+        return webElementPresenceTimeout;
     }
 
     public int getWebElementPresenceTimeoutSeconds() {
-        return webElementPresenceTimeoutSeconds;
+        return toWholeSeconds(webElementPresenceTimeout);
+    }
+
+    public Duration getPollingWithRefreshTimeout() {
+        return pollingWithRefreshTimeout;
     }
 
     public int getPollingWithRefreshTimeoutSeconds() {
-        return pollingWithRefreshTimeoutSeconds;
+        return toWholeSeconds(pollingWithRefreshTimeout);
+    }
+
+    public Duration getPageRefreshTimeout() {
+        return pageRefreshTimeout;
     }
 
     public int getPageRefreshTimeoutSeconds() {
-        return pageRefreshTimeoutSeconds;
+        return toWholeSeconds(pageRefreshTimeout);
+    }
+
+    public Duration getShortTimeout() {
+        return shortTimeout;
     }
 
     public int getShortTimeoutSeconds() {
-        return shortTimeoutSeconds;
+        return toWholeSeconds(shortTimeout);
+    }
+
+    public Duration getMediumTimeout() {
+        return mediumTimeout;
     }
 
     public int getMediumTimeoutSeconds() {
-        return mediumTimeoutSeconds;
+        return toWholeSeconds(mediumTimeout);
+    }
+
+    public Duration getLongTimeout() {
+        return longTimeout;
     }
 
     public int getLongTimeoutSeconds() {
-        return longTimeoutSeconds;
+        return toWholeSeconds(longTimeout);
     }
 
     public int getPauseBetweenKeysMillis() {
@@ -179,49 +238,81 @@ public final class TimeoutsConfig {
         return pauseBetweenRefreshSeconds;
     }
 
+    /**
+     * @return - the policy for refreshing the page when polling with refresh. Unless one was set explicitly,
+     * the page is refreshed every {@link #getPauseBetweenRefreshSeconds()} seconds.
+     */
+    public RefreshPolicy getRefreshPolicy() {
+        return refreshPolicy;
+    }
+
+    public Duration getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
     public int getPageLoadTimeoutSeconds() {
-        return pageLoadTimeoutSeconds;
+        return toWholeSeconds(pageLoadTimeout);
+    }
+
+    public Duration getPageReadyTimeout() {
+        return pageReadyTimeout;
     }
 
     public int getPageReadyTimeoutSeconds() {
-        return pageReadyTimeoutSeconds;
+        return toWholeSeconds(pageReadyTimeout);
+    }
+
+    public Duration getImplicitWaitTimeout() {
+        return implicitWaitTimeout;
     }
 
     public int getImplicitWaitTimeoutMillis() {
-        return implicitWaitTimeoutMillis;
+        return (int) implicitWaitTimeout.toMillis();
+    }
+
+    /**
+     * Convert a Duration to whole seconds, rounding up so that a non-zero timeout never becomes 0 seconds.
+     */
+    private static int toWholeSeconds(Duration duration) {
+        long seconds = duration.getSeconds();
+        if (duration.getNano() > 0) {
+            seconds++;
+        }
+        return (int) seconds;
     }
 
     public static final class Builder {
         public Builder() {
-            this.clickTimeoutSeconds = DefaultTimeouts.CLICK_TIMEOUT_SECONDS;
-            this.webElementPresenceTimeoutSeconds = DefaultTimeouts.PRESENCE_TIMEOUT_SECONDS;
-            this.pollingWithRefreshTimeoutSeconds = DefaultTimeouts.POLLING_WITH_REFRESH_TIMEOUT_SECONDS;
-            this.pageRefreshTimeoutSeconds = DefaultTimeouts.REFRESH_TIMEOUT_SECONDS;
-            this.shortTimeoutSeconds = DefaultTimeouts.SHORT_TIMEOUT_SECONDS;
-            this.mediumTimeoutSeconds = DefaultTimeouts.MEDIUM_TIMEOUT_SECONDS;
-            this.longTimeoutSeconds = DefaultTimeouts.LONG_TIMEOUT_SECONDS;
+            this.clickTimeout = Duration.ofSeconds(DefaultTimeouts.CLICK_TIMEOUT_SECONDS);
+            this.webElementPresenceTimeout = Duration.ofSeconds(DefaultTimeouts.PRESENCE_TIMEOUT_SECONDS);
+            this.pollingWithRefreshTimeout = Duration.ofSeconds(DefaultTimeouts.POLLING_WITH_REFRESH_TIMEOUT_SECONDS);
+            this.pageRefreshTimeout = Duration.ofSeconds(DefaultTimeouts.REFRESH_TIMEOUT_SECONDS);
+            this.shortTimeout = Duration.ofSeconds(DefaultTimeouts.SHORT_TIMEOUT_SECONDS);
+            this.mediumTimeout = Duration.ofSeconds(DefaultTimeouts.MEDIUM_TIMEOUT_SECONDS);
+            this.longTimeout = Duration.ofSeconds(DefaultTimeouts.LONG_TIMEOUT_SECONDS);
             this.pauseBetweenKeysMillis = DefaultTimeouts.PAUSE_BETWEEN_KEYS_MILLIS;
             this.pauseBetweenTriesMillis = DefaultTimeouts.PAUSE_BETWEEN_TRIES_MILLIS;
             this.pauseBetweenRefreshSeconds = DefaultTimeouts.PAUSE_BETWEEN_REFRESH_SECONDS;
-            this.pageLoadTimeoutSeconds = DefaultTimeouts.PAGE_LOAD_TIMEOUT_SECONDS;
-            this.pageReadyTimeoutSeconds = DefaultTimeouts.PAGE_READY_TIMEOUT_SECONDS;
-            this.implicitWaitTimeoutMillis = DefaultTimeouts.IMPLICIT_WAIT_TIMEOUT_MILLIS;
+            this.pageLoadTimeout = Duration.ofSeconds(DefaultTimeouts.PAGE_LOAD_TIMEOUT_SECONDS);
+            this.pageReadyTimeout = Duration.ofSeconds(DefaultTimeouts.PAGE_READY_TIMEOUT_SECONDS);
+            this.implicitWaitTimeout = Duration.ofMillis(DefaultTimeouts.IMPLICIT_WAIT_TIMEOUT_MILLIS);
         }
 
         public TimeoutsConfig build() {
-            return new TimeoutsConfig(clickTimeoutSeconds,
-                                      webElementPresenceTimeoutSeconds,
-                                      pollingWithRefreshTimeoutSeconds,
-                                      pageRefreshTimeoutSeconds,
-                                      shortTimeoutSeconds,
-                                      mediumTimeoutSeconds,
-                                      longTimeoutSeconds,
+            return new TimeoutsConfig(clickTimeout,
+                                      webElementPresenceTimeout,
+                                      pollingWithRefreshTimeout,
+                                      pageRefreshTimeout,
+                                      shortTimeout,
+                                      mediumTimeout,
+                                      longTimeout,
                                       pauseBetweenKeysMillis,
                                       pauseBetweenTriesMillis,
                                       pauseBetweenRefreshSeconds,
-                                      pageLoadTimeoutSeconds,
-                                      pageReadyTimeoutSeconds,
-                                      implicitWaitTimeoutMillis);
+                                      Optional.ofNullable(refreshPolicy),
+                                      pageLoadTimeout,
+                                      pageReadyTimeout,
+                                      implicitWaitTimeout);
         }
 
         /**
@@ -229,7 +320,16 @@ public final class TimeoutsConfig {
          * @param clickTimeoutSeconds - time in seconds
          */
         public Builder clickTimeoutSeconds(int clickTimeoutSeconds) {
-            this.clickTimeoutSeconds = clickTimeoutSeconds;
+            return clickTimeout(Duration.ofSeconds(clickTimeoutSeconds));
+        }
+
+        /**
+         * Set the timeout waiting for an element to be clickable.
+         * @param clickTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder clickTimeout(Duration clickTimeout) {
+            this.clickTimeout = checkTimeout(clickTimeout);
             return this;
         }
 
@@ -238,7 +338,16 @@ public final class TimeoutsConfig {
          * @param webElementPresenceTimeoutSeconds - time in seconds
          */
         public Builder webElementPresenceTimeoutSeconds(int webElementPresenceTimeoutSeconds) {
-            this.webElementPresenceTimeoutSeconds = webElementPresenceTimeoutSeconds;
+            return webElementPresenceTimeout(Duration.ofSeconds(webElementPresenceTimeoutSeconds));
+        }
+
+        /**
+         * Set the timeout waiting for a web element to be present on the DOM.
+         * @param webElementPresenceTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder webElementPresenceTimeout(Duration webElementPresenceTimeout) {
+            this.webElementPresenceTimeout = checkTimeout(webElementPresenceTimeout);
             return this;
         }
 
@@ -249,7 +358,18 @@ public final class TimeoutsConfig {
          * @param pollingWithRefreshTimeoutSeconds - time in seconds
          */
         public Builder pollingWithRefreshTimeoutSeconds(int pollingWithRefreshTimeoutSeconds) {
-            this.pollingWithRefreshTimeoutSeconds = pollingWithRefreshTimeoutSeconds;
+            return pollingWithRefreshTimeout(Duration.ofSeconds(pollingWithRefreshTimeoutSeconds));
+        }
+
+        /**
+         * Set the timeout for long polling activities such as polling for an element to be present by
+         * refreshing the page repeatedly.
+         *
+         * @param pollingWithRefreshTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder pollingWithRefreshTimeout(Duration pollingWithRefreshTimeout) {
+            this.pollingWithRefreshTimeout = checkTimeout(pollingWithRefreshTimeout);
             return this;
         }
 
@@ -258,7 +378,16 @@ public final class TimeoutsConfig {
          * @param pageRefreshTimeoutSeconds - time in seconds
          */
         public Builder pageRefreshTimeoutSeconds(int pageRefreshTimeoutSeconds) {
-            this.pageRefreshTimeoutSeconds = pageRefreshTimeoutSeconds;
+            return pageRefreshTimeout(Duration.ofSeconds(pageRefreshTimeoutSeconds));
+        }
+
+        /**
+         * Set the timeout for waiting for an element to become stale or for the page to be refreshed.
+         * @param pageRefreshTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder pageRefreshTimeout(Duration pageRefreshTimeout) {
+            this.pageRefreshTimeout = checkTimeout(pageRefreshTimeout);
             return this;
         }
 
@@ -267,7 +396,16 @@ public final class TimeoutsConfig {
          * @param shortTimeoutSeconds - time in seconds
          */
         public Builder shortTimeoutSeconds(int shortTimeoutSeconds) {
-            this.shortTimeoutSeconds = shortTimeoutSeconds;
+            return shortTimeout(Duration.ofSeconds(shortTimeoutSeconds));
+        }
+
+        /**
+         * Set the "short" timeout. Arbitrary timeout configurable by client, e.g. 300ms for negative assertions.
+         * @param shortTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder shortTimeout(Duration shortTimeout) {
+            this.shortTimeout = checkTimeout(shortTimeout);
             return this;
         }
 
@@ -276,7 +414,16 @@ public final class TimeoutsConfig {
          * @param mediumTimeoutSeconds
          */
         public Builder mediumTimeoutSeconds(int mediumTimeoutSeconds) {
-            this.mediumTimeoutSeconds = mediumTimeoutSeconds;
+            return mediumTimeout(Duration.ofSeconds(mediumTimeoutSeconds));
+        }
+
+        /**
+         * Set the "medium" timeout. Arbitrary timeout configurable by client.
+         * @param mediumTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder mediumTimeout(Duration mediumTimeout) {
+            this.mediumTimeout = checkTimeout(mediumTimeout);
             return this;
         }
 
@@ -285,7 +432,16 @@ public final class TimeoutsConfig {
          * @param longTimeoutSeconds
          */
         public Builder longTimeoutSeconds(int longTimeoutSeconds) {
-            this.longTimeoutSeconds = longTimeoutSeconds;
+            return longTimeout(Duration.ofSeconds(longTimeoutSeconds));
+        }
+
+        /**
+         * Set the "long" timeout. Arbitrary timeout configurable by client.
+         * @param longTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder longTimeout(Duration longTimeout) {
+            this.longTimeout = checkTimeout(longTimeout);
             return this;
         }
 
@@ -321,6 +477,17 @@ public final class TimeoutsConfig {
             return this;
         }
 
+        /**
+         * Set the policy for refreshing the page when polling with refresh, e.g. with a backoff between refreshes.
+         * Overrides pauseBetweenRefreshSeconds for those methods.
+         * @param refreshPolicy - the policy
+         * @return - the Builder
+         */
+        public Builder refreshPolicy(RefreshPolicy refreshPolicy) {
+            this.refreshPolicy = Preconditions.checkNotNull(refreshPolicy);
+            return this;
+        }
+
         /**
          * Set the timeout waiting for a new page to load in the web browser.
          * This is both used by the framework and passed on to the Selenium WebDriver for its configuration.
@@ -328,7 +495,17 @@ public final class TimeoutsConfig {
          * @return - the Builder
          */
         public Builder pageLoadTimoutSeconds(int pageLoadTimeoutSeconds) {
-            this.pageLoadTimeoutSeconds = pageLoadTimeoutSeconds;
+            return pageLoadTimeout(Duration.ofSeconds(pageLoadTimeoutSeconds));
+        }
+
+        /**
+         * Set the timeout waiting for a new page to load in the web browser.
+         * This is both used by the framework and passed on to the Selenium WebDriver for its configuration.
+         * @param pageLoadTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder pageLoadTimeout(Duration pageLoadTimeout) {
+            this.pageLoadTimeout = checkTimeout(pageLoadTimeout);
             return this;
         }
 
@@ -340,7 +517,17 @@ public final class TimeoutsConfig {
          * @return - the Builder
          */
         public Builder pageReadyTimoutSeconds(int pageReadyTimeoutSeconds) {
-            this.pageReadyTimeoutSeconds = pageReadyTimeoutSeconds;
+            return pageReadyTimeout(Duration.ofSeconds(pageReadyTimeoutSeconds));
+        }
+
+        /**
+         * Set the timeout waiting for a new page to have elements on the page that are checked after the page loads.
+         * @see Page#getPageIdentifier()
+         * @param pageReadyTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder pageReadyTimeout(Duration pageReadyTimeout) {
+            this.pageReadyTimeout = checkTimeout(pageReadyTimeout);
             return this;
         }
 
@@ -351,29 +538,79 @@ public final class TimeoutsConfig {
          * @return - the Builder
          */
         public Builder implicitWaitTimeoutMillis(int implicitWaitTimeoutMillis) {
-            this.implicitWaitTimeoutMillis = implicitWaitTimeoutMillis;
+            return implicitWaitTimeout(Duration.ofMillis(implicitWaitTimeoutMillis));
+        }
+
+        /**
+         * Set the implicit wait timeout for checking if a web element is present.
+         * This is used when configuring a Selenium WebDriver.
+         * @param implicitWaitTimeout - the timeout
+         * @return - the Builder
+         */
+        public Builder implicitWaitTimeout(Duration implicitWaitTimeout) {
+            this.implicitWaitTimeout = checkTimeout(implicitWaitTimeout);
             return this;
         }
 
-        // Standard timeouts for most common usages, all in seconds
-        private int clickTimeoutSeconds;
-        private int webElementPresenceTimeoutSeconds;
-        private int pollingWithRefreshTimeoutSeconds;
-        private int pageRefreshTimeoutSeconds;
+        /**
+         * Set the timeout for the given configurable TimeoutType.
+         * @param timeoutType - a TimeoutType with a configurable value, i.e. not DEFAULT or a fixed timeout
+         * @param timeout - the timeout
+         * @return - the Builder
+         */
+        public Builder timeout(TimeoutType timeoutType, Duration timeout) {
+            Preconditions.checkNotNull(timeoutType, "Cannot set timeout for null timeout type.");
+            switch (timeoutType) {
+                case CLICK_TIMEOUT:
+                    return clickTimeout(timeout);
+                case WEB_ELEMENT_PRESENCE_TIMEOUT:
+                    return webElementPresenceTimeout(timeout);
+                case POLLING_WITH_REFRESH_TIMEOUT:
+                    return pollingWithRefreshTimeout(timeout);
+                case PAGE_REFRESH_TIMEOUT:
+                    return pageRefreshTimeout(timeout);
+                case PAGE_LOAD_TIMEOUT:
+                    return pageLoadTimeout(timeout);
+                case PAGE_READY_TIMEOUT:
+                    return pageReadyTimeout(timeout);
+                case SHORT:
+                    return shortTimeout(timeout);
+                case MEDIUM:
+                    return mediumTimeout(timeout);
+                case LONG:
+                    return longTimeout(timeout);
+                default:
+                    throw new IllegalArgumentException("Timeout type " + timeoutType + " is not configurable");
+            }
+        }
+
+        private static Duration checkTimeout(Duration timeout) {
+            Preconditions.checkNotNull(timeout, "Timeout cannot be null");
+            Preconditions.checkArgument(!timeout.isNegative(), "Timeout cannot be negative: %s", timeout);
+            return timeout;
+        }
+
+        // Standard timeouts for most common usages
+        private Duration clickTimeout;
+        private Duration webElementPresenceTimeout;
+        private Duration pollingWithRefreshTimeout;
+        private Duration pageRefreshTimeout;
 
-        // Arbitrary timeouts configured by client, all in seconds
-        private int shortTimeoutSeconds;
-        private int mediumTimeoutSeconds;
-        private int longTimeoutSeconds;
+        // Arbitrary timeouts configured by client
+        private Duration shortTimeout;
+        private Duration mediumTimeout;
+        private Duration longTimeout;
 
         // Pauses when polling or entering keys
         private int pauseBetweenKeysMillis;
         private int pauseBetweenTriesMillis;
         private int pauseBetweenRefreshSeconds;
+        // Null unless set explicitly, then build() derives a fixed pause from pauseBetweenRefreshSeconds
+        private RefreshPolicy refreshPolicy;
 
         // Timeouts used for configuring the underlying WebDriver
-        private int pageLoadTimeoutSeconds;
-        private int pageReadyTimeoutSeconds;
-        private int implicitWaitTimeoutMillis;
+        private Duration pageLoadTimeout;
+        private Duration pageReadyTimeout;
+        private Duration implicitWaitTimeout;
     }
 }
@@ -0,0 +1,249 @@
+package com.jivesoftware.selenium.pagefactory.framework.config;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>Records how long successful waits actually took, per {@link TimeoutType} and per call site.</p>
+ *
+ * <p>The call site is the first class outside of this framework that triggered the wait (e.g. a Page class or a test),
+ * or the Page class whose page load hook is running. The history can be persisted to a local JSON file and loaded
+ * again on the next run, and is used by {@link AdaptiveTimeouts} to derive a {@link TimeoutsConfig}.</p>
+ *
+ * <p>Register an instance with {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setWaitStatistics(WaitStatistics)}
+ * to start recording. Instances are thread-safe and can be shared by many Browsers.</p>
+ */
+public final class WaitStatistics {
+    private static final Logger logger = LoggerFactory.getLogger(WaitStatistics.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String FRAMEWORK_PACKAGE = "com.jivesoftware.selenium.pagefactory.framework.";
+    private static final ThreadLocal<String> CALL_SITE_OVERRIDE = new ThreadLocal<>();
+
+    /** Maximum number of samples kept per timeout type and call site. Older samples are discarded first. */
+    public static final int MAX_SAMPLES_PER_CALL_SITE = 500;
+
+    // TimeoutType name -> call site -> most recent wait times in ms
+    private final Map<String, Map<String, Deque<Long>>> samples = Maps.newHashMap();
+    private final Optional<File> file;
+
+    private WaitStatistics(Optional<File> file) {
+        this.file = file;
+    }
+
+    /**
+     * @return - new, empty statistics that are only kept in memory.
+     */
+    public static WaitStatistics inMemory() {
+        return new WaitStatistics(Optional.empty());
+    }
+
+    /**
+     * Load statistics from the given file, if it exists. Calling {@link #save()} writes them back to the same file.
+     *
+     * @param file - a JSON file written by a previous run. If it doesn't exist, empty statistics are returned.
+     */
+    public static WaitStatistics forFile(File file) {
+        Preconditions.checkNotNull(file, "Error: the file for WaitStatistics cannot be null");
+        WaitStatistics statistics = new WaitStatistics(Optional.of(file));
+        if (file.isFile()) {
+            try {
+                Map<String, Map<String, List<Long>>> stored =
+                        objectMapper.readValue(file, new TypeReference<Map<String, Map<String, List<Long>>>>() { });
+                for (Map.Entry<String, Map<String, List<Long>>> byType : stored.entrySet()) {
+                    for (Map.Entry<String, List<Long>> byCallSite : byType.getValue().entrySet()) {
+                        for (Long millis : byCallSite.getValue()) {
+                            statistics.add(byType.getKey(), byCallSite.getKey(), millis);
+                        }
+                    }
+                }
+                logger.info("Loaded wait statistics from {}", file.getAbsolutePath());
+            } catch (IOException e) {
+                logger.warn("Error loading wait statistics from {}, starting with empty statistics: {}", file.getAbsolutePath(), e.getMessage());
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Run the given block, attributing any waits inside it to the given call site (e.g. the Page class whose
+     * page load hook is running) rather than to the calling class found on the stack.
+     */
+    public static void runWithCallSite(String callSite, Runnable block) {
+        String previous = CALL_SITE_OVERRIDE.get();
+        CALL_SITE_OVERRIDE.set(callSite);
+        try {
+            block.run();
+        } finally {
+            if (previous == null) {
+                CALL_SITE_OVERRIDE.remove();
+            } else {
+                CALL_SITE_OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Record a successful wait, attributed to the current call site.
+     *
+     * @param timeoutType - the TimeoutType the wait used (never DEFAULT)
+     * @param elapsed - how long it took for the condition to become true
+     */
+    public void record(TimeoutType timeoutType, Duration elapsed) {
+        record(timeoutType, currentCallSite(), elapsed);
+    }
+
+    public void record(TimeoutType timeoutType, String callSite, Duration elapsed) {
+        Preconditions.checkArgument(timeoutType != TimeoutType.DEFAULT, "Cannot record statistics for the DEFAULT timeout type");
+        add(timeoutType.name(), callSite, elapsed.toMillis());
+    }
+
+    /**
+     * @return - the given percentile (0-100) of all recorded wait times for the given TimeoutType, across call sites,
+     * or empty if there are no samples.
+     */
+    public Optional<Duration> getPercentile(TimeoutType timeoutType, double percentile) {
+        List<Long> all = Lists.newArrayList();
+        for (Deque<Long> values : getCallSites(timeoutType).values()) {
+            all.addAll(values);
+        }
+        return percentileOf(all, percentile);
+    }
+
+    /**
+     * @return - the given percentile (0-100) of the recorded wait times for the given TimeoutType and call site,
+     * or empty if there are no samples.
+     */
+    public Optional<Duration> getPercentile(TimeoutType timeoutType, String callSite, double percentile) {
+        Deque<Long> values = getCallSites(timeoutType).get(callSite);
+        return values == null ? Optional.<Duration>empty() : percentileOf(Lists.newArrayList(values), percentile);
+    }
+
+    /**
+     * @return - the number of samples recorded per call site for the given TimeoutType.
+     */
+    public synchronized Map<String, Integer> getSampleCounts(TimeoutType timeoutType) {
+        Map<String, Integer> counts = Maps.newTreeMap();
+        Map<String, Deque<Long>> byCallSite = samples.get(timeoutType.name());
+        if (byCallSite != null) {
+            for (Map.Entry<String, Deque<Long>> entry : byCallSite.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().size());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Write the statistics back to the file they were loaded from.
+     *
+     * @throws IllegalStateException - if these statistics were created with {@link #inMemory()}
+     */
+    public void save() throws IOException {
+        Preconditions.checkState(file.isPresent(), "Error: these WaitStatistics aren't backed by a file. Use saveTo(File).");
+        saveTo(file.get());
+    }
+
+    public void saveTo(File outFile) throws IOException {
+        Map<String, Map<String, List<Long>>> copy = Maps.newTreeMap();
+        synchronized (this) {
+            for (Map.Entry<String, Map<String, Deque<Long>>> byType : samples.entrySet()) {
+                Map<String, List<Long>> byCallSite = Maps.newTreeMap();
+                for (Map.Entry<String, Deque<Long>> entry : byType.getValue().entrySet()) {
+                    byCallSite.put(entry.getKey(), Lists.newArrayList(entry.getValue()));
+                }
+                copy.put(byType.getKey(), byCallSite);
+            }
+        }
+        File parent = outFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        objectMapper.writeValue(outFile, copy);
+        logger.info("Saved wait statistics to {}", outFile.getAbsolutePath());
+    }
+
+    // Package-private so AdaptiveTimeouts can compute per-call-site percentiles
+    synchronized Map<String, Deque<Long>> getCallSites(TimeoutType timeoutType) {
+        Map<String, Deque<Long>> byCallSite = samples.get(timeoutType.name());
+        if (byCallSite == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Deque<Long>> copy = Maps.newHashMap();
+        for (Map.Entry<String, Deque<Long>> entry : byCallSite.entrySet()) {
+            copy.put(entry.getKey(), new ArrayDeque<>(entry.getValue()));
+        }
+        return copy;
+    }
+
+    static Optional<Duration> percentileOf(List<Long> values, double percentile) {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 100, "Percentile must be in (0, 100], got %s", percentile);
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Long> sorted = Lists.newArrayList(values);
+        Collections.sort(sorted);
+        // Nearest-rank method
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return Optional.of(Duration.ofMillis(sorted.get(Math.max(0, rank - 1))));
+    }
+
+    private synchronized void add(String timeoutType, String callSite, long millis) {
+        Map<String, Deque<Long>> byCallSite = samples.get(timeoutType);
+        if (byCallSite == null) {
+            byCallSite = Maps.newHashMap();
+            samples.put(timeoutType, byCallSite);
+        }
+        Deque<Long> values = byCallSite.get(callSite);
+        if (values == null) {
+            values = new ArrayDeque<>();
+            byCallSite.put(callSite, values);
+        }
+        values.addLast(millis);
+        while (values.size() > MAX_SAMPLES_PER_CALL_SITE) {
+            values.removeFirst();
+        }
+    }
+
+    /**
+     * The call site is an explicit override if one is set, otherwise the first class on the stack outside of this framework.
+     */
+    private static String currentCallSite() {
+        String override = CALL_SITE_OVERRIDE.get();
+        if (override != null) {
+            return override;
+        }
+        String callSite = findCallerOutsideFramework(Thread.currentThread().getStackTrace());
+        return callSite == null ? "unknown" : callSite;
+    }
+
+    @Nullable
+    private static String findCallerOutsideFramework(StackTraceElement[] stackTrace) {
+        for (StackTraceElement element : stackTrace) {
+            String className = element.getClassName();
+            if (className.startsWith(FRAMEWORK_PACKAGE) || className.startsWith("java.") || className.startsWith("sun.")
+                    || className.startsWith("jdk.") || className.startsWith("com.google.common.")
+                    || className.startsWith("org.openqa.selenium.")) {
+                continue;
+            }
+            // Strip anonymous/inner class suffixes so all waits in the same Page class are grouped together
+            int innerIndex = className.indexOf('$');
+            return innerIndex > 0 ? className.substring(0, innerIndex) : className;
+        }
+        return null;
+    }
+}
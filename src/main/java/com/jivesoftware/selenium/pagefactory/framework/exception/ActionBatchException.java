@@ -0,0 +1,40 @@
+package com.jivesoftware.selenium.pagefactory.framework.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a step of an {@link com.jivesoftware.selenium.pagefactory.framework.actions.ActionBatch} fails.
+ * The steps before it were executed, and their results are available with {@link #getCompletedResults()}.
+ * The steps after it were not executed.
+ */
+public class ActionBatchException extends RuntimeException {
+    private final int failedStepIndex;
+    private final List<Object> completedResults;
+
+    public ActionBatchException(String msg, int failedStepIndex, List<Object> completedResults) {
+        super(msg);
+        this.failedStepIndex = failedStepIndex;
+        this.completedResults = Collections.unmodifiableList(completedResults);
+    }
+
+    public ActionBatchException(String msg, int failedStepIndex, List<Object> completedResults, Exception cause) {
+        super(msg, cause);
+        this.failedStepIndex = failedStepIndex;
+        this.completedResults = Collections.unmodifiableList(completedResults);
+    }
+
+    /**
+     * @return - the index of the step that failed
+     */
+    public int getFailedStepIndex() {
+        return failedStepIndex;
+    }
+
+    /**
+     * @return - the results of the steps before the failed one
+     */
+    public List<Object> getCompletedResults() {
+        return completedResults;
+    }
+}
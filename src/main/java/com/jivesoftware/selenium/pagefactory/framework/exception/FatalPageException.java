@@ -0,0 +1,16 @@
+package com.jivesoftware.selenium.pagefactory.framework.exception;
+
+/**
+ * Thrown when a wait is aborted early because a
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.FatalPageDetector} found that the browser is showing
+ * an error page, so the condition being waited on will never become true.
+ */
+public class FatalPageException extends RuntimeException {
+    public FatalPageException(String msg) {
+        super(msg);
+    }
+
+    public FatalPageException(String msg, Exception cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.jivesoftware.selenium.pagefactory.framework.exception;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageBudgetViolation;
+
+import java.util.List;
+
+/**
+ * Thrown when a page exceeds its {@link com.jivesoftware.selenium.pagefactory.framework.performance.PageBudget} and the
+ * Browser's enforcement is {@link com.jivesoftware.selenium.pagefactory.framework.performance.PageBudgetEnforcement#FAIL}.
+ */
+public class PageBudgetExceededException extends RuntimeException {
+    private final List<PageBudgetViolation> violations;
+
+    public PageBudgetExceededException(List<PageBudgetViolation> violations) {
+        super(Joiner.on("; ").join(violations));
+        this.violations = ImmutableList.copyOf(violations);
+    }
+
+    public List<PageBudgetViolation> getViolations() {
+        return violations;
+    }
+}
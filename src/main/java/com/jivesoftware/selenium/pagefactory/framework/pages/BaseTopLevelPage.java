@@ -4,6 +4,7 @@ import com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions;
 import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
 import com.jivesoftware.selenium.pagefactory.framework.exception.InvalidPageUrlException;
+import com.jivesoftware.selenium.pagefactory.framework.performance.PageLoadTiming;
 import org.openqa.selenium.By;
 import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
@@ -27,6 +28,8 @@ public class BaseTopLevelPage<S extends SeleniumActions> implements TopLevelPage
 
     private long pageLoadTime;
 
+    private Optional<PageLoadTiming> pageLoadTiming = Optional.empty();
+
     protected S a;
 
     public final S getActions() {
@@ -103,7 +106,7 @@ public class BaseTopLevelPage<S extends SeleniumActions> implements TopLevelPage
         }
 
         if (regex) {
-            Pattern pattern = Pattern.compile(expectedPath);
+            Pattern pattern = PageRouter.compiledPattern(expectedPath);
             Matcher m = pattern.matcher(currentPath);
             if (!m.find() || m.regionEnd() != currentPath.length()) {
                 throw new InvalidPageUrlException(String.format("The current path of the web browser is %s, but expected the path to end with an expression " +
@@ -156,4 +159,16 @@ public class BaseTopLevelPage<S extends SeleniumActions> implements TopLevelPage
     public long getPageLoadTime() {
         return pageLoadTime;
     }
+
+    /**
+     * @return - the timing of the last load of this page, captured when the Browser has a
+     * {@link com.jivesoftware.selenium.pagefactory.framework.performance.PageTimingSink}.
+     */
+    public Optional<PageLoadTiming> getPageLoadTiming() {
+        return pageLoadTiming;
+    }
+
+    public void setPageLoadTiming(PageLoadTiming pageLoadTiming) {
+        this.pageLoadTiming = Optional.of(pageLoadTiming);
+    }
 }
@@ -0,0 +1,291 @@
+package com.jivesoftware.selenium.pagefactory.framework.pages;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Resolves a URL to the {@link TopLevelPage} class it shows, among page classes annotated with {@link WebPagePath},
+ * e.g. to load the current page with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#loadCurrentTopLevelPage()}.</p>
+ *
+ * <p>A page matches a URL like in {@link BaseTopLevelPage#verifyCurrentURL()}: the path of the URL ends with a literal
+ * path, or a regex path is found in it, ignoring trailing slashes. When several pages match, the most specific one is
+ * chosen: the one matching the longest part of the path, then literal paths before regexes, then the first registered.</p>
+ *
+ * <p>The paths are compiled once when the router is built. Literal paths are stored in a trie of their segments in
+ * reverse order, so a lookup only walks the segments of the URL's path. Regexes are combined into a single pattern
+ * evaluated in one pass, except regexes with back references or comments, which are matched separately.</p>
+ *
+ * Example:
+ * <pre>
+ *     PageRouter router = PageRouter.builder()
+ *         .register(HomePage.class)
+ *         .register(DocumentPage.class)
+ *         .register(EditDocumentPage.class)
+ *         .build();
+ *     browser.setPageRouter(router);
+ *     TopLevelPage page = browser.loadCurrentTopLevelPage();
+ * </pre>
+ */
+public final class PageRouter {
+    // Regexes that can't be combined, since wrapping them in named groups would break their numbered back references
+    // or their comments
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\[1-9]|\\(\\?[a-zA-Z-]*x");
+    private static final ConcurrentMap<String, Pattern> COMPILED_PATTERNS = new ConcurrentHashMap<>();
+    private static final String GROUP_PREFIX = "page";
+
+    private final List<Class<? extends TopLevelPage>> pageClasses;
+    private final SegmentNode literalRoutes;
+    private final Optional<Pattern> combinedRegex;
+    private final List<Route> combinedRegexRoutes;
+    private final List<Route> separateRegexRoutes;
+
+    private PageRouter(List<Class<? extends TopLevelPage>> pageClasses, SegmentNode literalRoutes,
+                       Optional<Pattern> combinedRegex, List<Route> combinedRegexRoutes, List<Route> separateRegexRoutes) {
+        this.pageClasses = pageClasses;
+        this.literalRoutes = literalRoutes;
+        this.combinedRegex = combinedRegex;
+        this.combinedRegexRoutes = combinedRegexRoutes;
+        this.separateRegexRoutes = separateRegexRoutes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Class<? extends TopLevelPage>> getPageClasses() {
+        return pageClasses;
+    }
+
+    /**
+     * @param url - an absolute URL, e.g. the current URL of the browser
+     * @return - the most specific page class matching the path of the URL, or empty if none matches.
+     */
+    public Optional<Class<? extends TopLevelPage>> resolve(String url) {
+        Preconditions.checkNotNull(url);
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return path == null ? Optional.empty() : resolvePath(path);
+    }
+
+    /**
+     * @param path - the path part of a URL
+     * @return - the most specific page class matching the path, or empty if none matches.
+     */
+    public Optional<Class<? extends TopLevelPage>> resolvePath(String path) {
+        path = removeTrailingSlash(Preconditions.checkNotNull(path));
+        Match best = findLiteralMatch(path);
+        if (combinedRegex.isPresent()) {
+            Matcher m = combinedRegex.get().matcher(path);
+            if (m.lookingAt()) {
+                for (int i = 0; i < combinedRegexRoutes.size(); i++) {
+                    String matched = m.group(GROUP_PREFIX + i);
+                    if (matched != null) {
+                        best = Match.better(best, new Match(combinedRegexRoutes.get(i), matched.length()));
+                    }
+                }
+            }
+        }
+        for (Route route : separateRegexRoutes) {
+            Matcher m = route.pattern.matcher(path);
+            if (m.find()) {
+                best = Match.better(best, new Match(route, m.end() - m.start()));
+            }
+        }
+        return best == null ? Optional.<Class<? extends TopLevelPage>>empty() : Optional.<Class<? extends TopLevelPage>>of(best.route.pageClass);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageRouter for %d page classes", pageClasses.size());
+    }
+
+    /**
+     * @return - the compiled regex, shared by all routers and by {@link BaseTopLevelPage#verifyCurrentURL()}.
+     */
+    static Pattern compiledPattern(String regex) {
+        Pattern pattern = COMPILED_PATTERNS.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            COMPILED_PATTERNS.putIfAbsent(regex, pattern);
+        }
+        return pattern;
+    }
+
+    static String removeTrailingSlash(String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    // Walk the trie with the segments of the path from the last one, like String#endsWith() on the literal paths
+    private Match findLiteralMatch(String path) {
+        boolean leadingSlash = path.startsWith("/");
+        String[] segments = (leadingSlash ? path.substring(1) : path).split("/", -1);
+        Match best = null;
+        SegmentNode node = literalRoutes;
+        int i = segments.length - 1;
+        while (node != null) {
+            best = Match.better(best, node.route);
+            if (i < 0) {
+                break;
+            }
+            String segment = segments[i];
+            for (Map.Entry<String, Match> partial : node.partialSegments.entrySet()) {
+                if (segment.endsWith(partial.getKey())) {
+                    best = Match.better(best, partial.getValue());
+                }
+            }
+            // A full segment of a literal path is preceded by a slash
+            if (i == 0 && !leadingSlash) {
+                break;
+            }
+            node = node.children.get(segment);
+            i--;
+        }
+        return best;
+    }
+
+    private static final class Route {
+        private final Class<? extends TopLevelPage> pageClass;
+        private final int order;
+        private final boolean literal;
+        private final Pattern pattern;
+
+        private Route(Class<? extends TopLevelPage> pageClass, int order, boolean literal, Pattern pattern) {
+            this.pageClass = pageClass;
+            this.order = order;
+            this.literal = literal;
+            this.pattern = pattern;
+        }
+    }
+
+    private static final class Match {
+        private final Route route;
+        private final int length;
+
+        private Match(Route route, int length) {
+            this.route = route;
+            this.length = length;
+        }
+
+        private static Match better(Match current, Match candidate) {
+            if (current == null) {
+                return candidate;
+            }
+            if (candidate == null) {
+                return current;
+            }
+            if (candidate.length != current.length) {
+                return candidate.length > current.length ? candidate : current;
+            }
+            if (candidate.route.literal != current.route.literal) {
+                return candidate.route.literal ? candidate : current;
+            }
+            return candidate.route.order < current.route.order ? candidate : current;
+        }
+    }
+
+    private static final class SegmentNode {
+        private final Map<String, SegmentNode> children = new HashMap<>();
+        // Leftmost segments of literal paths that don't start with a slash, matching the end of a segment
+        private final Map<String, Match> partialSegments = new HashMap<>();
+        private Match route;
+    }
+
+    public static final class Builder {
+        private final List<Class<? extends TopLevelPage>> pageClasses = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @throws IllegalArgumentException - if the class isn't annotated with {@link WebPagePath}
+         */
+        public Builder register(Class<? extends TopLevelPage> pageClass) {
+            Preconditions.checkNotNull(pageClass);
+            Preconditions.checkArgument(pageClass.getAnnotation(WebPagePath.class) != null,
+                                        "Page class %s must be annotated with @WebPagePath to be routed", pageClass.getName());
+            if (!pageClasses.contains(pageClass)) {
+                pageClasses.add(pageClass);
+            }
+            return this;
+        }
+
+        public Builder registerAll(Iterable<Class<? extends TopLevelPage>> pageClasses) {
+            for (Class<? extends TopLevelPage> pageClass : pageClasses) {
+                register(pageClass);
+            }
+            return this;
+        }
+
+        public PageRouter build() {
+            SegmentNode literalRoutes = new SegmentNode();
+            List<Route> combinedRegexRoutes = new ArrayList<>();
+            List<Route> separateRegexRoutes = new ArrayList<>();
+            StringBuilder combined = new StringBuilder("^");
+            for (int order = 0; order < pageClasses.size(); order++) {
+                Class<? extends TopLevelPage> pageClass = pageClasses.get(order);
+                WebPagePath webPagePath = pageClass.getAnnotation(WebPagePath.class);
+                String path = removeTrailingSlash(webPagePath.path());
+                if (!webPagePath.isRegex()) {
+                    addLiteral(literalRoutes, path, new Route(pageClass, order, true, null));
+                    continue;
+                }
+                Pattern pattern = compiledPattern(path);
+                Route route = new Route(pageClass, order, false, pattern);
+                if (NOT_COMBINABLE.matcher(path).find()) {
+                    separateRegexRoutes.add(route);
+                } else {
+                    // Each regex is an optional lookahead from the start, capturing its leftmost match like find()
+                    combined.append("(?:(?=[\\s\\S]*?(?<").append(GROUP_PREFIX).append(combinedRegexRoutes.size()).append(">")
+                            .append(path).append(")))?");
+                    combinedRegexRoutes.add(route);
+                }
+            }
+            Optional<Pattern> combinedRegex = combinedRegexRoutes.isEmpty()
+                    ? Optional.<Pattern>empty()
+                    : Optional.of(Pattern.compile(combined.toString()));
+            return new PageRouter(ImmutableList.copyOf(pageClasses), literalRoutes, combinedRegex,
+                                  ImmutableList.copyOf(combinedRegexRoutes), ImmutableList.copyOf(separateRegexRoutes));
+        }
+
+        private static void addLiteral(SegmentNode root, String path, Route route) {
+            Match match = new Match(route, path.length());
+            boolean leadingSlash = path.startsWith("/");
+            String[] segments = (leadingSlash ? path.substring(1) : path).split("/", -1);
+            if (path.isEmpty()) {
+                root.route = Match.better(root.route, match);
+                return;
+            }
+            int first = leadingSlash ? 0 : 1;
+            SegmentNode node = root;
+            for (int i = segments.length - 1; i >= first; i--) {
+                SegmentNode child = node.children.get(segments[i]);
+                if (child == null) {
+                    child = new SegmentNode();
+                    node.children.put(segments[i], child);
+                }
+                node = child;
+            }
+            if (leadingSlash) {
+                node.route = Match.better(node.route, match);
+            } else {
+                node.partialSegments.put(segments[0], Match.better(node.partialSegments.get(segments[0]), match));
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.jivesoftware.selenium.pagefactory.framework.pages;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
 import com.google.common.collect.Lists;
 import com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions;
 import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
+import com.jivesoftware.selenium.pagefactory.framework.config.WaitStatistics;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.PageFactory;
@@ -22,6 +24,26 @@ import java.util.Optional;
  */
 public class PageUtils {
     private static final Logger logger = LoggerFactory.getLogger(PageUtils.class);
+    // Page identifier that the current thread already waited for, so the default page load hook doesn't wait again
+    private static final ThreadLocal<By> PRESENT_PAGE_IDENTIFIER = new ThreadLocal<>();
+
+    /**
+     * Load a page whose identifier is known to be present, e.g. after waiting for it asynchronously. The default page
+     * load hook doesn't wait for that identifier again while the loader runs on the current thread.
+     */
+    public static <T> T loadWithPageIdentifierPresent(By pageIdentifier, Supplier<T> loader) {
+        By previous = PRESENT_PAGE_IDENTIFIER.get();
+        PRESENT_PAGE_IDENTIFIER.set(pageIdentifier);
+        try {
+            return loader.get();
+        } finally {
+            if (previous == null) {
+                PRESENT_PAGE_IDENTIFIER.remove();
+            } else {
+                PRESENT_PAGE_IDENTIFIER.set(previous);
+            }
+        }
+    }
 
     /**
      * Return an Optional&lt;String&gt; representing the path to a web page for a TopLevelPage class.
@@ -48,10 +70,7 @@ public class PageUtils {
      * @param a
      */
     public void defaultPageLoadHook(Page page, SeleniumActions a) {
-        By pageIdentifier = page.getPageIdentifier();
-        if (pageIdentifier != null) {
-            a.verifyElementPresented(pageIdentifier, TimeoutType.PAGE_LOAD_TIMEOUT);
-        }
+        defaultPageLoadHook(page, a, TimeoutType.PAGE_LOAD_TIMEOUT);
     }
 
     /**
@@ -63,10 +82,16 @@ public class PageUtils {
      * @param a
      * @param timeout
      */
-    public void defaultPageLoadHook(Page page, SeleniumActions a, TimeoutType timeout) {
-        By pageIdentifier = page.getPageIdentifier();
-        if (pageIdentifier != null) {
-            a.verifyElementPresented(pageIdentifier, timeout);
+    public void defaultPageLoadHook(Page page, final SeleniumActions a, final TimeoutType timeout) {
+        final By pageIdentifier = page.getPageIdentifier();
+        if (pageIdentifier != null && !pageIdentifier.equals(PRESENT_PAGE_IDENTIFIER.get())) {
+            // Attribute the wait to the Page class, so WaitStatistics can tell slow pages apart
+            WaitStatistics.runWithCallSite(page.getClass().getName(), new Runnable() {
+                @Override
+                public void run() {
+                    a.verifyElementPresented(pageIdentifier, timeout);
+                }
+            });
         }
     }
 
@@ -0,0 +1,63 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import com.google.common.base.Preconditions;
+import org.codehaus.jackson.map.ObjectMapper;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Appends each {@link PageLoadTiming} to a file as a line of JSON, from {@link PageLoadTiming#toMap()}.</p>
+ *
+ * <p>The file is only appended to, so the timings of all runs accumulate in it, e.g. for a nightly job to load into a
+ * dashboard. Lines are written with the file closed between records, so several Browsers can share the sink.</p>
+ *
+ * Example:
+ * <pre>
+ *     browser.setPageTimingSink(JsonLinesPageTimingSink.forFile(new File("target/page-timings.jsonl")));
+ * </pre>
+ */
+public final class JsonLinesPageTimingSink implements PageTimingSink {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final File file;
+
+    private JsonLinesPageTimingSink(File file) {
+        this.file = file;
+    }
+
+    public static JsonLinesPageTimingSink forFile(File file) {
+        Preconditions.checkNotNull(file, "Error: the file for JsonLinesPageTimingSink cannot be null");
+        return new JsonLinesPageTimingSink(file);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void record(PageLoadTiming timing) {
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Unable to create directory " + parent);
+            }
+            byte[] line = (objectMapper.writeValueAsString(timing.toMap()) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (OutputStream out = new FileOutputStream(file, true)) {
+                out.write(line);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(format("Error writing the page timing of %s to %s", timing.getPageName(), file.getAbsolutePath()), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonLinesPageTimingSink: " + file.getAbsolutePath();
+    }
+}
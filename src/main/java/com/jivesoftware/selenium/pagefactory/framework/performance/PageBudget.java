@@ -0,0 +1,48 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>A performance budget for a TopLevelPage class, next to its
+ * {@link com.jivesoftware.selenium.pagefactory.framework.pages.WebPagePath}.</p>
+ *
+ * <p>After the page is loaded by openPageByURL(), loadTopLevelPage() or refreshPage(), its {@link PageLoadTiming} is
+ * captured and compared to the budget, and violations are handled as set with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setPageBudgetEnforcement(PageBudgetEnforcement)}.
+ * Only the limits that are set are checked. Soft navigations, i.e. client-side routing, have no navigation timing,
+ * so they aren't checked.</p>
+ *
+ * Example:
+ * <pre>
+ *     &#64;WebPagePath(path = "/docs/\\d+", isRegex = true)
+ *     &#64;PageBudget(domContentLoadedMillis = 1500, loadEventMillis = 3000, readyMillis = 4000)
+ *     public class DocumentPage extends BaseTopLevelPage { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface PageBudget {
+    long NO_LIMIT = -1;
+
+    /**
+     * Maximum time from the start of the navigation to the end of the DOMContentLoaded event.
+     */
+    long domContentLoadedMillis() default NO_LIMIT;
+
+    /**
+     * Maximum time from the start of the navigation to the end of the load event.
+     */
+    long loadEventMillis() default NO_LIMIT;
+
+    /**
+     * Maximum time from the start of the navigation until the page object was loaded and its page load hooks were done.
+     * Not checked for pages opened from a prefetched window.
+     */
+    long readyMillis() default NO_LIMIT;
+
+}
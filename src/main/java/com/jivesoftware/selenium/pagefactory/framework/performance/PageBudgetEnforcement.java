@@ -0,0 +1,15 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+/**
+ * What the Browser does when a page exceeds its {@link PageBudget}, set with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setPageBudgetEnforcement(PageBudgetEnforcement)}.
+ * Violations are recorded into the Browser's {@link PageBudgetReport} in all modes except IGNORE.
+ */
+public enum PageBudgetEnforcement {
+    /** Don't capture timings to check budgets. */
+    IGNORE,
+    /** Log a warning for each violation. This is the default. */
+    WARN,
+    /** Throw a {@link com.jivesoftware.selenium.pagefactory.framework.exception.PageBudgetExceededException}. */
+    FAIL
+}
@@ -0,0 +1,135 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Aggregates the {@link PageBudget} checks and violations of a run, per page.</p>
+ *
+ * <p>Register an instance with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setPageBudgetReport(PageBudgetReport)}.
+ * Instances are thread-safe and can be shared by all the Browsers of a run, e.g. to log the summary or save it
+ * after the suite.</p>
+ */
+public final class PageBudgetReport {
+    private static final Logger logger = LoggerFactory.getLogger(PageBudgetReport.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, PageStats> pages = new TreeMap<>();
+    private final List<PageBudgetViolation> violations = new ArrayList<>();
+
+    /**
+     * Record a page load checked against its budget, with the violations found, if any.
+     */
+    public synchronized void record(PageLoadTiming timing, List<PageBudgetViolation> pageViolations) {
+        Preconditions.checkNotNull(timing);
+        PageStats stats = pages.get(timing.getPageName());
+        if (stats == null) {
+            stats = new PageStats();
+            pages.put(timing.getPageName(), stats);
+        }
+        stats.checks++;
+        for (PageBudgetViolation violation : pageViolations) {
+            MetricStats metricStats = stats.violations.get(violation.getMetric());
+            if (metricStats == null) {
+                metricStats = new MetricStats(violation.getBudget().toMillis());
+                stats.violations.put(violation.getMetric(), metricStats);
+            }
+            metricStats.count++;
+            metricStats.worstMillis = Math.max(metricStats.worstMillis, violation.getActual().toMillis());
+        }
+        violations.addAll(pageViolations);
+    }
+
+    public synchronized List<PageBudgetViolation> getViolations() {
+        return ImmutableList.copyOf(violations);
+    }
+
+    public synchronized boolean hasViolations() {
+        return !violations.isEmpty();
+    }
+
+    /**
+     * @return - one line per page with violations: the number of loads checked and, per metric, the number of
+     * violations, the budget and the worst time.
+     */
+    public synchronized String getSummary() {
+        if (violations.isEmpty()) {
+            return String.format("All %d checked pages are within their budgets", pages.size());
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, PageStats> page : pages.entrySet()) {
+            if (page.getValue().violations.isEmpty()) {
+                continue;
+            }
+            sb.append(page.getKey()).append(" (").append(page.getValue().checks).append(" loads):");
+            for (Map.Entry<PageBudgetViolation.Metric, MetricStats> metric : page.getValue().violations.entrySet()) {
+                sb.append(String.format(" %s exceeded %d times, budget %d ms, worst %d ms;", metric.getKey(),
+                                        metric.getValue().count, metric.getValue().budgetMillis, metric.getValue().worstMillis));
+            }
+            sb.append("\n");
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Save the report as JSON: per page, the number of loads checked, and per metric the number of violations,
+     * the budget and the worst time.
+     */
+    public synchronized void save(File file) throws IOException {
+        Preconditions.checkNotNull(file);
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Map.Entry<String, PageStats> page : pages.entrySet()) {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            for (Map.Entry<PageBudgetViolation.Metric, MetricStats> metric : page.getValue().violations.entrySet()) {
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("count", metric.getValue().count);
+                stats.put("budgetMillis", metric.getValue().budgetMillis);
+                stats.put("worstMillis", metric.getValue().worstMillis);
+                metrics.put(metric.getKey().name(), stats);
+            }
+            Map<String, Object> pageReport = new LinkedHashMap<>();
+            pageReport.put("checks", page.getValue().checks);
+            pageReport.put("violations", metrics);
+            report.put(page.getKey(), pageReport);
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        objectMapper.writeValue(file, report);
+        logger.info("Saved page budget report to {}", file.getAbsolutePath());
+    }
+
+    @Override
+    public String toString() {
+        return "PageBudgetReport: " + getSummary();
+    }
+
+    private static final class PageStats {
+        private int checks;
+        private final Map<PageBudgetViolation.Metric, MetricStats> violations = new EnumMap<>(PageBudgetViolation.Metric.class);
+    }
+
+    private static final class MetricStats {
+        private final long budgetMillis;
+        private int count;
+        private long worstMillis;
+
+        private MetricStats(long budgetMillis) {
+            this.budgetMillis = budgetMillis;
+        }
+    }
+}
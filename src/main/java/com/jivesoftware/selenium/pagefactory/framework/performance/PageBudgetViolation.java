@@ -0,0 +1,90 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A limit of a {@link PageBudget} that a page load exceeded.
+ */
+public final class PageBudgetViolation {
+    public enum Metric {
+        DOM_CONTENT_LOADED,
+        LOAD_EVENT,
+        READY
+    }
+
+    private final String pageName;
+    private final String url;
+    private final Metric metric;
+    private final Duration budget;
+    private final Duration actual;
+
+    private PageBudgetViolation(String pageName, String url, Metric metric, Duration budget, Duration actual) {
+        this.pageName = pageName;
+        this.url = url;
+        this.metric = metric;
+        this.budget = budget;
+        this.actual = actual;
+    }
+
+    /**
+     * @return - the limits of the budget exceeded by the timing, empty if it's within budget or a soft navigation.
+     * The ready time of a prefetched page isn't checked, since it includes the time its window was idle.
+     */
+    public static List<PageBudgetViolation> check(PageBudget budget, PageLoadTiming timing) {
+        Preconditions.checkNotNull(budget);
+        Preconditions.checkNotNull(timing);
+        List<PageBudgetViolation> violations = new ArrayList<>();
+        if (timing.isSoftNavigation()) {
+            return violations;
+        }
+        check(violations, timing, Metric.DOM_CONTENT_LOADED, budget.domContentLoadedMillis(), timing.getDomContentLoadedTime());
+        check(violations, timing, Metric.LOAD_EVENT, budget.loadEventMillis(), timing.getLoadEventTime());
+        if (!timing.isPrefetched()) {
+            check(violations, timing, Metric.READY, budget.readyMillis(), timing.getReadyTime());
+        }
+        return violations;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public Duration getActual() {
+        return actual;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s exceeded its %s budget of %d ms: %d ms (%s)",
+                             pageName, metric, budget.toMillis(), actual.toMillis(), url);
+    }
+
+    private static void check(List<PageBudgetViolation> violations, PageLoadTiming timing, Metric metric,
+                              long budgetMillis, Optional<Duration> actual) {
+        // A mark of 0 means the event didn't happen yet, e.g. the load event of a page that is still loading
+        if (budgetMillis == PageBudget.NO_LIMIT || !actual.isPresent() || actual.get().isZero()) {
+            return;
+        }
+        if (actual.get().toMillis() > budgetMillis) {
+            violations.add(new PageBudgetViolation(timing.getPageName(), timing.getUrl(), metric,
+                                                   Duration.ofMillis(budgetMillis), actual.get()));
+        }
+    }
+}
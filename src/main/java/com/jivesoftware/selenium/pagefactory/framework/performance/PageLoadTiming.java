@@ -0,0 +1,322 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jivesoftware.selenium.pagefactory.framework.actions.PageRuntime;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>Where the time to load a page was spent, captured from the browser's Navigation Timing and Resource Timing APIs
+ * after the page object was loaded, i.e. after its page load hooks ran.</p>
+ *
+ * <p>All times are relative to the start of the navigation. The navigation marks are only available for the first
+ * capture in a document. Captures in the same document, e.g. after the app routed to another page on the client side,
+ * are soft navigations, and only have the resources loaded since the previous capture.</p>
+ *
+ * <p>Pages opened from a window prefetched with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser#prefetch(String)} are marked as
+ * prefetched. Their navigation marks are real, but they have no ready time, since the tab was idle in the background
+ * for an unknown time before the page object was loaded.</p>
+ *
+ * <p>Captured automatically by the Browser once a {@link PageTimingSink} is set with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setPageTimingSink(PageTimingSink)}.</p>
+ */
+public final class PageLoadTiming {
+    public static final String SOFT_NAVIGATION = "soft";
+
+    private final String pageName;
+    private final String url;
+    private final long capturedAtMillis;
+    private final String navigationType;
+    private final boolean prefetched;
+    private final Map<String, Double> navigationMarks;
+    private final Optional<Double> readyMillis;
+    private final List<ResourceTiming> resources;
+
+    private PageLoadTiming(String pageName, String url, long capturedAtMillis, String navigationType, boolean prefetched,
+                           Map<String, Double> navigationMarks, Optional<Double> readyMillis, List<ResourceTiming> resources) {
+        this.pageName = pageName;
+        this.url = url;
+        this.capturedAtMillis = capturedAtMillis;
+        this.navigationType = navigationType;
+        this.prefetched = prefetched;
+        this.navigationMarks = navigationMarks;
+        this.readyMillis = readyMillis;
+        this.resources = resources;
+    }
+
+    /**
+     * Capture the timing of the page currently loaded in the browser.
+     *
+     * @param pageName - identifies the page in the results, e.g. the simple name of its page class
+     * @return - the timing, or empty if the browser doesn't support the Navigation Timing API
+     */
+    public static Optional<PageLoadTiming> capture(WebDriver driver, String pageName) {
+        return capture(driver, pageName, false);
+    }
+
+    /**
+     * Capture the timing of the page currently loaded in the browser.
+     *
+     * @param pageName - identifies the page in the results, e.g. the simple name of its page class
+     * @param prefetched - whether the page was loaded in a background window ahead of time, so it has no ready time
+     * @return - the timing, or empty if the browser doesn't support the Navigation Timing API
+     */
+    public static Optional<PageLoadTiming> capture(WebDriver driver, String pageName, boolean prefetched) {
+        Preconditions.checkNotNull(pageName);
+        Object result = PageRuntime.call(driver, "pageTiming");
+        if (!(result instanceof Map)) {
+            return Optional.empty();
+        }
+        Map<?, ?> timing = (Map<?, ?>) result;
+        String navigationType = String.valueOf(timing.get("type"));
+
+        Map<String, Double> marks = new LinkedHashMap<>();
+        Object navigation = timing.get("navigation");
+        if (navigation instanceof Map) {
+            for (Map.Entry<?, ?> mark : ((Map<?, ?>) navigation).entrySet()) {
+                marks.put(String.valueOf(mark.getKey()), toMillis(mark.getValue()));
+            }
+        }
+
+        List<ResourceTiming> resources = new ArrayList<>();
+        Object resourceEntries = timing.get("resources");
+        if (resourceEntries instanceof List) {
+            for (Object entry : (List<?>) resourceEntries) {
+                Map<?, ?> resource = (Map<?, ?>) entry;
+                resources.add(new ResourceTiming(String.valueOf(resource.get("name")), String.valueOf(resource.get("initiatorType")),
+                                                 toMillis(resource.get("startTime")), toMillis(resource.get("duration")),
+                                                 (long) toMillis(resource.get("transferSize"))));
+            }
+        }
+
+        Optional<Double> readyMillis = SOFT_NAVIGATION.equals(navigationType) || prefetched
+                ? Optional.<Double>empty()
+                : Optional.of(toMillis(timing.get("now")));
+        return Optional.of(new PageLoadTiming(pageName, String.valueOf(timing.get("url")), System.currentTimeMillis(),
+                                              navigationType, prefetched, ImmutableMap.copyOf(marks), readyMillis, ImmutableList.copyOf(resources)));
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    /**
+     * @return - "navigate", "reload", "back_forward" or "prerender" for a new document, or {@link #SOFT_NAVIGATION}.
+     */
+    public String getNavigationType() {
+        return navigationType;
+    }
+
+    public boolean isSoftNavigation() {
+        return SOFT_NAVIGATION.equals(navigationType);
+    }
+
+    /**
+     * @return - whether the page was opened from a prefetched background window, so it has no ready time.
+     */
+    public boolean isPrefetched() {
+        return prefetched;
+    }
+
+    /**
+     * @return - the marks of the PerformanceNavigationTiming entry, e.g. "responseStart" or "loadEventEnd", in ms since
+     * the start of the navigation. A mark is 0 when it didn't happen, e.g. redirectStart without a redirect.
+     * Empty for soft navigations.
+     */
+    public Map<String, Double> getNavigationMarks() {
+        return navigationMarks;
+    }
+
+    public Optional<Duration> getMark(String name) {
+        Double millis = navigationMarks.get(name);
+        return millis == null ? Optional.<Duration>empty() : Optional.of(toDuration(millis));
+    }
+
+    /**
+     * @return - the time the server took to respond, from sending the request to the first byte of the response.
+     */
+    public Optional<Duration> getServerTime() {
+        return between("requestStart", "responseStart");
+    }
+
+    /**
+     * @return - the time spent on the network to get the document: redirects, DNS, connecting and downloading the
+     * response, i.e. the time until the response was downloaded, without the server time.
+     */
+    public Optional<Duration> getNetworkTime() {
+        Optional<Duration> untilDownloaded = getMark("responseEnd");
+        Optional<Duration> serverTime = getServerTime();
+        if (!untilDownloaded.isPresent() || !serverTime.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(untilDownloaded.get().minus(serverTime.get()));
+    }
+
+    /**
+     * @return - the time from the end of the response to the page being ready, i.e. parsing, scripts and rendering in
+     * the browser until the page load hooks were done.
+     */
+    public Optional<Duration> getClientTime() {
+        Optional<Duration> downloaded = getMark("responseEnd");
+        Optional<Duration> ready = getReadyTime();
+        if (!downloaded.isPresent() || !ready.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(ready.get().minus(downloaded.get()));
+    }
+
+    public Optional<Duration> getDomContentLoadedTime() {
+        return getMark("domContentLoadedEventEnd");
+    }
+
+    public Optional<Duration> getLoadEventTime() {
+        return getMark("loadEventEnd");
+    }
+
+    /**
+     * @return - the time from the start of the navigation until the page object was loaded and its page load hooks
+     * were done, as measured by the framework. Empty for soft navigations and prefetched pages.
+     */
+    public Optional<Duration> getReadyTime() {
+        return readyMillis.isPresent() ? Optional.of(toDuration(readyMillis.get())) : Optional.<Duration>empty();
+    }
+
+    public List<ResourceTiming> getResources() {
+        return resources;
+    }
+
+    public long getResourceTransferSize() {
+        long total = 0;
+        for (ResourceTiming resource : resources) {
+            total += resource.getTransferSize();
+        }
+        return total;
+    }
+
+    /**
+     * @return - the timing as nested Maps and Lists of Strings and numbers, e.g. to serialize it as JSON.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("page", pageName);
+        map.put("url", url);
+        map.put("capturedAt", capturedAtMillis);
+        map.put("navigationType", navigationType);
+        map.put("prefetched", prefetched);
+        map.put("serverMillis", toMillisOrNull(getServerTime()));
+        map.put("networkMillis", toMillisOrNull(getNetworkTime()));
+        map.put("clientMillis", toMillisOrNull(getClientTime()));
+        map.put("readyMillis", readyMillis.orElse(null));
+        map.put("navigation", navigationMarks);
+        List<Map<String, Object>> resourceMaps = new ArrayList<>();
+        for (ResourceTiming resource : resources) {
+            resourceMaps.add(resource.toMap());
+        }
+        map.put("resources", resourceMaps);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageLoadTiming for %s (%s): server %s, network %s, client %s, %d resources",
+                             pageName, navigationType, toMillisOrNull(getServerTime()), toMillisOrNull(getNetworkTime()),
+                             toMillisOrNull(getClientTime()), resources.size());
+    }
+
+    private Optional<Duration> between(String startMark, String endMark) {
+        Double start = navigationMarks.get(startMark);
+        Double end = navigationMarks.get(endMark);
+        if (start == null || end == null || end < start) {
+            return Optional.empty();
+        }
+        return Optional.of(toDuration(end - start));
+    }
+
+    private static double toMillis(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static Duration toDuration(double millis) {
+        return Duration.ofNanos((long) (millis * 1000000));
+    }
+
+    private static Long toMillisOrNull(Optional<Duration> duration) {
+        return duration.isPresent() ? duration.get().toMillis() : null;
+    }
+
+    /**
+     * A resource loaded by the page, from its PerformanceResourceTiming entry.
+     */
+    public static final class ResourceTiming {
+        private final String name;
+        private final String initiatorType;
+        private final double startMillis;
+        private final double durationMillis;
+        private final long transferSize;
+
+        private ResourceTiming(String name, String initiatorType, double startMillis, double durationMillis, long transferSize) {
+            this.name = name;
+            this.initiatorType = initiatorType;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.transferSize = transferSize;
+        }
+
+        /**
+         * @return - the URL of the resource
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return - what loaded the resource, e.g. "script", "img", "css", "xmlhttprequest" or "fetch"
+         */
+        public String getInitiatorType() {
+            return initiatorType;
+        }
+
+        public double getStartMillis() {
+            return startMillis;
+        }
+
+        public double getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * @return - the bytes transferred, or 0 if the resource came from the cache or is cross-origin
+         * without a Timing-Allow-Origin header
+         */
+        public long getTransferSize() {
+            return transferSize;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", name);
+            map.put("initiatorType", initiatorType);
+            map.put("startMillis", startMillis);
+            map.put("durationMillis", durationMillis);
+            map.put("transferSize", transferSize);
+            return map;
+        }
+    }
+}
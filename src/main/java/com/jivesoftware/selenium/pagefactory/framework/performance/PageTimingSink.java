@@ -0,0 +1,13 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+/**
+ * Receives the {@link PageLoadTiming} captured after each page load, set per Browser with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setPageTimingSink(PageTimingSink)}.
+ *
+ * A sink can be shared by many Browsers, so implementations must be thread-safe.
+ */
+public interface PageTimingSink {
+
+    void record(PageLoadTiming timing);
+
+}
@@ -0,0 +1,174 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import com.google.common.base.Preconditions;
+import com.jivesoftware.selenium.pagefactory.framework.actions.PageRuntime;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>User experience metrics of a page, collected in the browser by buffered PerformanceObservers: largest contentful
+ * paint, cumulative layout shift, long tasks and first input delay.</p>
+ *
+ * <p>The collector is started with {@link #start(WebDriver)} right after each navigation. Since the observers are
+ * buffered, entries recorded by the browser before the collector started are included, except long tasks on browsers
+ * that don't buffer them. {@link #drain(WebDriver, String)} returns the metrics since the collector started or was
+ * last drained, in a single call.</p>
+ *
+ * <p>Collected automatically for each top level page once a {@link WebVitalsReport} is set with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setWebVitalsReport(WebVitalsReport)}, and
+ * drained when leaving the page. If the page was left by navigating in the browser, e.g. by clicking a link, the
+ * metrics are stored in sessionStorage when the page is hidden, and drained from the next page of the same origin.</p>
+ */
+public final class WebVitals {
+    private final String pageName;
+    private final String url;
+    private final boolean fromPreviousDocument;
+    private final Optional<Duration> largestContentfulPaint;
+    private final double cumulativeLayoutShift;
+    private final int longTaskCount;
+    private final Duration longTaskTime;
+    private final Duration totalBlockingTime;
+    private final Duration longestTask;
+    private final Optional<Duration> firstInputDelay;
+
+    private WebVitals(String pageName, String url, boolean fromPreviousDocument, Optional<Duration> largestContentfulPaint,
+                      double cumulativeLayoutShift, int longTaskCount, Duration longTaskTime, Duration totalBlockingTime,
+                      Duration longestTask, Optional<Duration> firstInputDelay) {
+        this.pageName = pageName;
+        this.url = url;
+        this.fromPreviousDocument = fromPreviousDocument;
+        this.largestContentfulPaint = largestContentfulPaint;
+        this.cumulativeLayoutShift = cumulativeLayoutShift;
+        this.longTaskCount = longTaskCount;
+        this.longTaskTime = longTaskTime;
+        this.totalBlockingTime = totalBlockingTime;
+        this.longestTask = longestTask;
+        this.firstInputDelay = firstInputDelay;
+    }
+
+    /**
+     * Start collecting in the current document, if it's not collecting already.
+     *
+     * @return - false if the browser doesn't support PerformanceObserver
+     */
+    public static boolean start(WebDriver driver) {
+        return Boolean.TRUE.equals(PageRuntime.call(driver, "startVitals"));
+    }
+
+    /**
+     * Return the metrics collected since the collector started or was last drained, and start over.
+     *
+     * @param pageName - identifies the page in the results, e.g. the simple name of its page class
+     * @return - the metrics, or empty if the collector isn't started and no previous page stored its metrics
+     */
+    public static Optional<WebVitals> drain(WebDriver driver, String pageName) {
+        Preconditions.checkNotNull(pageName);
+        Object result = PageRuntime.call(driver, "drainVitals");
+        if (!(result instanceof Map)) {
+            return Optional.empty();
+        }
+        Map<?, ?> vitals = (Map<?, ?>) result;
+        Object firstInputDelay = vitals.get("firstInputDelay");
+        Object largestContentfulPaint = vitals.get("lcp");
+        return Optional.of(new WebVitals(pageName, String.valueOf(vitals.get("url")), Boolean.TRUE.equals(vitals.get("stored")),
+                                         largestContentfulPaint instanceof Number ? Optional.of(toDuration(largestContentfulPaint)) : Optional.<Duration>empty(),
+                                         toDouble(vitals.get("cls")), (int) toDouble(vitals.get("longTaskCount")),
+                                         toDuration(vitals.get("longTaskTime")), toDuration(vitals.get("totalBlockingTime")),
+                                         toDuration(vitals.get("longestTask")),
+                                         firstInputDelay instanceof Number ? Optional.of(toDuration(firstInputDelay)) : Optional.<Duration>empty()));
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return - true if the metrics were stored by the previous document when it was hidden, rather than drained
+     * from the current one.
+     */
+    public boolean isFromPreviousDocument() {
+        return fromPreviousDocument;
+    }
+
+    /**
+     * @return - the render time of the largest image or text block, since the start of the navigation. Empty for soft
+     * navigations drained after the first one, since the browser only reports it for the initial load of a document.
+     */
+    public Optional<Duration> getLargestContentfulPaint() {
+        return largestContentfulPaint;
+    }
+
+    /**
+     * @return - the largest burst of unexpected layout shifts, as defined by the Core Web Vitals.
+     */
+    public double getCumulativeLayoutShift() {
+        return cumulativeLayoutShift;
+    }
+
+    /**
+     * @return - the number of tasks that blocked the main thread for more than 50 ms.
+     */
+    public int getLongTaskCount() {
+        return longTaskCount;
+    }
+
+    public Duration getLongTaskTime() {
+        return longTaskTime;
+    }
+
+    /**
+     * @return - the sum of the time beyond 50 ms of each long task.
+     */
+    public Duration getTotalBlockingTime() {
+        return totalBlockingTime;
+    }
+
+    public Duration getLongestTask() {
+        return longestTask;
+    }
+
+    /**
+     * @return - the time from the first user input, e.g. a click by the test, until the browser started handling it.
+     */
+    public Optional<Duration> getFirstInputDelay() {
+        return firstInputDelay;
+    }
+
+    /**
+     * @return - the metrics as a Map of Strings and numbers, e.g. to serialize them as JSON.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("page", pageName);
+        map.put("url", url);
+        map.put("largestContentfulPaintMillis", largestContentfulPaint.isPresent() ? largestContentfulPaint.get().toMillis() : null);
+        map.put("cumulativeLayoutShift", cumulativeLayoutShift);
+        map.put("longTaskCount", longTaskCount);
+        map.put("longTaskMillis", longTaskTime.toMillis());
+        map.put("totalBlockingTimeMillis", totalBlockingTime.toMillis());
+        map.put("longestTaskMillis", longestTask.toMillis());
+        map.put("firstInputDelayMillis", firstInputDelay.isPresent() ? firstInputDelay.get().toMillis() : null);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "WebVitals " + toMap();
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static Duration toDuration(Object millis) {
+        return Duration.ofNanos((long) (toDouble(millis) * 1000000));
+    }
+}
@@ -0,0 +1,122 @@
+package com.jivesoftware.selenium.pagefactory.framework.performance;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Aggregates the {@link WebVitals} of a run per page: the number of samples, the 75th percentile and maximum of
+ * largest contentful paint, cumulative layout shift, total blocking time and first input delay, and the total number
+ * of long tasks.</p>
+ *
+ * <p>Register an instance with
+ * {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#setWebVitalsReport(WebVitalsReport)}
+ * to start collecting. Instances are thread-safe and can be shared by all the Browsers of a run.</p>
+ */
+public final class WebVitalsReport {
+    private static final Logger logger = LoggerFactory.getLogger(WebVitalsReport.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, List<WebVitals>> samples = new TreeMap<>();
+
+    public synchronized void record(WebVitals vitals) {
+        Preconditions.checkNotNull(vitals);
+        List<WebVitals> pageSamples = samples.get(vitals.getPageName());
+        if (pageSamples == null) {
+            pageSamples = new ArrayList<>();
+            samples.put(vitals.getPageName(), pageSamples);
+        }
+        pageSamples.add(vitals);
+    }
+
+    public synchronized List<String> getPageNames() {
+        return ImmutableList.copyOf(samples.keySet());
+    }
+
+    public synchronized List<WebVitals> getSamples(String pageName) {
+        List<WebVitals> pageSamples = samples.get(pageName);
+        return pageSamples == null ? Collections.<WebVitals>emptyList() : ImmutableList.copyOf(pageSamples);
+    }
+
+    /**
+     * @return - one line per page with its aggregated metrics.
+     */
+    public synchronized String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Map<String, Object>> page : aggregate().entrySet()) {
+            sb.append(page.getKey()).append(": ").append(page.getValue()).append("\n");
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Save the aggregated metrics per page as JSON.
+     */
+    public synchronized void save(File file) throws IOException {
+        Preconditions.checkNotNull(file);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        objectMapper.writeValue(file, aggregate());
+        logger.info("Saved web vitals report to {}", file.getAbsolutePath());
+    }
+
+    @Override
+    public String toString() {
+        return "WebVitalsReport: " + getSummary();
+    }
+
+    private Map<String, Map<String, Object>> aggregate() {
+        Map<String, Map<String, Object>> byPage = new LinkedHashMap<>();
+        for (Map.Entry<String, List<WebVitals>> page : samples.entrySet()) {
+            List<Double> largestContentfulPaint = new ArrayList<>();
+            List<Double> cumulativeLayoutShift = new ArrayList<>();
+            List<Double> totalBlockingTime = new ArrayList<>();
+            List<Double> firstInputDelay = new ArrayList<>();
+            int longTasks = 0;
+            for (WebVitals vitals : page.getValue()) {
+                if (vitals.getLargestContentfulPaint().isPresent()) {
+                    largestContentfulPaint.add((double) vitals.getLargestContentfulPaint().get().toMillis());
+                }
+                cumulativeLayoutShift.add(vitals.getCumulativeLayoutShift());
+                totalBlockingTime.add((double) vitals.getTotalBlockingTime().toMillis());
+                if (vitals.getFirstInputDelay().isPresent()) {
+                    firstInputDelay.add((double) vitals.getFirstInputDelay().get().toMillis());
+                }
+                longTasks += vitals.getLongTaskCount();
+            }
+            Map<String, Object> aggregated = new LinkedHashMap<>();
+            aggregated.put("samples", page.getValue().size());
+            putPercentiles(aggregated, "largestContentfulPaintMillis", largestContentfulPaint);
+            putPercentiles(aggregated, "cumulativeLayoutShift", cumulativeLayoutShift);
+            putPercentiles(aggregated, "totalBlockingTimeMillis", totalBlockingTime);
+            putPercentiles(aggregated, "firstInputDelayMillis", firstInputDelay);
+            aggregated.put("longTasks", longTasks);
+            byPage.put(page.getKey(), aggregated);
+        }
+        return byPage;
+    }
+
+    private static void putPercentiles(Map<String, Object> aggregated, String name, List<Double> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Collections.sort(values);
+        // Nearest-rank percentile
+        int rank = (int) Math.ceil(0.75 * values.size());
+        aggregated.put(name + "P75", values.get(Math.max(0, rank - 1)));
+        aggregated.put(name + "Max", values.get(values.size() - 1));
+    }
+}
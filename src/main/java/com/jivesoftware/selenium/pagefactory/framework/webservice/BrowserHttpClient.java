@@ -0,0 +1,430 @@
+package com.jivesoftware.selenium.pagefactory.framework.webservice;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jivesoftware.selenium.pagefactory.framework.browser.Browser;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.cookie.Cookie;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.apache.http.util.EntityUtils;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.lang.String.format;
+
+/**
+ * <p>An HTTP client sharing cookies with a live {@link Browser} session, for setting up test data through REST APIs
+ * instead of the UI, e.g. creating content as the logged-in user before opening the page that shows it.</p>
+ *
+ * <p>When created for a Browser, the browser's cookies are copied into the client. Cookies set by the server's responses
+ * can be copied back into the browser with {@link #syncCookiesToBrowser()}, or after every request with
+ * {@link Builder#syncCookiesToBrowserAfterRequests(boolean)}. Call {@link #syncCookiesFromBrowser()} after the browser's
+ * session changes, e.g. after logging in through the UI.</p>
+ *
+ * <p>Connections are pooled, and requests can be executed concurrently, from many threads or with the async methods.
+ * WebDriver commands for syncing cookies hold {@link Browser#getWebDriverLock()}, like the async waits of SeleniumActions.
+ * Close the client to release its connections and threads.</p>
+ *
+ * Example:
+ * <pre>
+ *     try (BrowserHttpClient client = BrowserHttpClient.forBrowser(browser).build()) {
+ *         client.postJson("/api/core/v3/contents", document).ensureSuccess();
+ *     }
+ *     browser.openPageByURL("/content", ContentPage.class);
+ * </pre>
+ */
+public class BrowserHttpClient implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserHttpClient.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final Optional<Browser<?>> browser;
+    private final boolean syncCookiesToBrowserAfterRequests;
+    private final BasicCookieStore cookieStore = new BasicCookieStore();
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final ExecutorService executor;
+
+    protected BrowserHttpClient(Builder builder) {
+        this.baseUrl = builder.baseUrl;
+        this.browser = builder.browser;
+        this.syncCookiesToBrowserAfterRequests = builder.syncCookiesToBrowserAfterRequests;
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(builder.maxConnections);
+        connectionManager.setDefaultMaxPerRoute(builder.maxConnections);
+        int timeoutMillis = (int) builder.timeout.toMillis();
+        this.httpClient = HttpClients.custom()
+                                     .setConnectionManager(connectionManager)
+                                     .setDefaultCookieStore(cookieStore)
+                                     .setDefaultRequestConfig(RequestConfig.custom()
+                                                                           .setConnectTimeout(timeoutMillis)
+                                                                           .setConnectionRequestTimeout(timeoutMillis)
+                                                                           .setSocketTimeout(timeoutMillis)
+                                                                           .build())
+                                     .build();
+        this.executor = Executors.newFixedThreadPool(builder.maxConnections, new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("browser-http-client-%d").build());
+        if (browser.isPresent()) {
+            syncCookiesFromBrowser();
+        }
+    }
+
+    /**
+     * @param baseUrl - the base URL that relative paths are resolved against
+     */
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl, Optional.<Browser<?>>empty());
+    }
+
+    /**
+     * @return - a Builder for a client sharing the cookies of the browser, resolving relative paths against its
+     * base test URL
+     */
+    public static Builder forBrowser(Browser<?> browser) {
+        Preconditions.checkNotNull(browser);
+        return new Builder(browser.getBaseTestUrl(), Optional.<Browser<?>>of(browser));
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return - the cookies of the client, including those received in responses
+     */
+    public List<Cookie> getCookies() {
+        return cookieStore.getCookies();
+    }
+
+    public void addCookie(Cookie cookie) {
+        cookieStore.addCookie(cookie);
+    }
+
+    /**
+     * Copy the browser's cookies into the client, replacing cookies with the same name, domain and path.
+     */
+    public void syncCookiesFromBrowser() {
+        Preconditions.checkState(browser.isPresent(), "Error: the client wasn't created for a Browser");
+        Browser<?> sessionBrowser = browser.get();
+        sessionBrowser.getWebDriverLock().lock();
+        try {
+            WebDriver driver = sessionBrowser.getWebDriver();
+            String host = URI.create(driver.getCurrentUrl()).getHost();
+            for (org.openqa.selenium.Cookie browserCookie : driver.manage().getCookies()) {
+                BasicClientCookie cookie = new BasicClientCookie(browserCookie.getName(), browserCookie.getValue());
+                String domain = browserCookie.getDomain() != null ? browserCookie.getDomain() : host;
+                cookie.setDomain(domain);
+                // Lets the cookie spec match the domain like the browser would
+                cookie.setAttribute("domain", domain);
+                cookie.setPath(browserCookie.getPath() != null ? browserCookie.getPath() : "/");
+                cookie.setExpiryDate(browserCookie.getExpiry());
+                cookie.setSecure(browserCookie.isSecure());
+                cookieStore.addCookie(cookie);
+            }
+        } finally {
+            sessionBrowser.getWebDriverLock().unlock();
+        }
+        logger.debug("Copied the browser's cookies into the HTTP client, {} cookies", cookieStore.getCookies().size());
+    }
+
+    /**
+     * Copy the client's cookies for the domain of the browser's current page into the browser, e.g. a session cookie
+     * set by a REST login. Cookies for other domains can't be set from the current page, and are skipped.
+     */
+    public void syncCookiesToBrowser() {
+        Preconditions.checkState(browser.isPresent(), "Error: the client wasn't created for a Browser");
+        Browser<?> sessionBrowser = browser.get();
+        sessionBrowser.getWebDriverLock().lock();
+        try {
+            WebDriver driver = sessionBrowser.getWebDriver();
+            String host = URI.create(driver.getCurrentUrl()).getHost();
+            for (Cookie cookie : cookieStore.getCookies()) {
+                if (host == null || !domainMatches(host, cookie.getDomain())) {
+                    continue;
+                }
+                org.openqa.selenium.Cookie existing = driver.manage().getCookieNamed(cookie.getName());
+                if (existing != null && existing.getValue().equals(cookie.getValue())) {
+                    continue;
+                }
+                try {
+                    driver.manage().addCookie(new org.openqa.selenium.Cookie(cookie.getName(), cookie.getValue(), cookie.getDomain(),
+                                                                             cookie.getPath(), cookie.getExpiryDate(), cookie.isSecure()));
+                } catch (WebDriverException e) {
+                    logger.warn("Unable to copy cookie {} into the browser: {}", cookie.getName(), e.getMessage());
+                }
+            }
+        } finally {
+            sessionBrowser.getWebDriverLock().unlock();
+        }
+    }
+
+    public Response get(String path) {
+        return execute(new HttpGet(resolve(path)));
+    }
+
+    public Response delete(String path) {
+        return execute(new HttpDelete(resolve(path)));
+    }
+
+    public Response post(String path, String body, ContentType contentType) {
+        return execute(withEntity(new HttpPost(resolve(path)), body, contentType));
+    }
+
+    public Response put(String path, String body, ContentType contentType) {
+        return execute(withEntity(new HttpPut(resolve(path)), body, contentType));
+    }
+
+    /**
+     * POST the body serialized as JSON with Jackson.
+     */
+    public Response postJson(String path, Object body) {
+        return post(path, toJson(body), ContentType.APPLICATION_JSON);
+    }
+
+    /**
+     * PUT the body serialized as JSON with Jackson.
+     */
+    public Response putJson(String path, Object body) {
+        return put(path, toJson(body), ContentType.APPLICATION_JSON);
+    }
+
+    public CompletableFuture<Response> getAsync(String path) {
+        return executeAsync(new HttpGet(resolve(path)));
+    }
+
+    public CompletableFuture<Response> postJsonAsync(String path, Object body) {
+        return executeAsync(withEntity(new HttpPost(resolve(path)), toJson(body), ContentType.APPLICATION_JSON));
+    }
+
+    /**
+     * Execute the request on the client's thread pool, e.g. to create many pieces of content concurrently.
+     */
+    public CompletableFuture<Response> executeAsync(final HttpRequestBase request) {
+        final CompletableFuture<Response> future = new CompletableFuture<Response>();
+        executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    future.complete(execute(request));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+                return null;
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Execute the request, reading the whole response body.
+     *
+     * @throws RuntimeException - if the request fails. Responses with error statuses are returned.
+     */
+    public Response execute(HttpRequestBase request) {
+        long start = System.currentTimeMillis();
+        HttpClientContext context = HttpClientContext.create();
+        try (CloseableHttpResponse response = httpClient.execute(request, context)) {
+            HttpEntity entity = response.getEntity();
+            String body = entity == null ? "" : EntityUtils.toString(entity, "UTF-8");
+            Response result = new Response(request.getMethod(), request.getURI(), response.getStatusLine().getStatusCode(),
+                                           response.getAllHeaders(), body);
+            logger.info("{} {} returned {} in {} ms",
+                        new Object[] {request.getMethod(), request.getURI(), result.getStatus(), System.currentTimeMillis() - start});
+            if (syncCookiesToBrowserAfterRequests && browser.isPresent()) {
+                syncCookiesToBrowser();
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException(format("Error executing %s %s: %s", request.getMethod(), request.getURI(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            logger.warn("Error closing the HTTP client: {}", e.getMessage());
+        }
+        connectionManager.shutdown();
+    }
+
+    private URI resolve(String path) {
+        URI uri = URI.create(path);
+        return uri.isAbsolute() ? uri : URI.create(EndpointBuilder.uri(baseUrl, "/", path.startsWith("/") ? path.substring(1) : path));
+    }
+
+    private static HttpRequestBase withEntity(HttpEntityEnclosingRequestBase request, String body, ContentType contentType) {
+        request.setEntity(new StringEntity(body, contentType));
+        return request;
+    }
+
+    private static String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new RuntimeException(format("Error serializing %s to JSON: %s", body, e.getMessage()), e);
+        }
+    }
+
+    private static boolean domainMatches(String host, @Nullable String cookieDomain) {
+        if (cookieDomain == null) {
+            return true;
+        }
+        String domain = cookieDomain.startsWith(".") ? cookieDomain.substring(1) : cookieDomain;
+        return host.equalsIgnoreCase(domain) || host.toLowerCase().endsWith("." + domain.toLowerCase());
+    }
+
+    /**
+     * A response of the server, with its whole body.
+     */
+    public static class Response {
+        private final String method;
+        private final URI uri;
+        private final int status;
+        private final Header[] headers;
+        private final String body;
+
+        Response(String method, URI uri, int status, Header[] headers, String body) {
+            this.method = method;
+            this.uri = uri;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        /**
+         * @return - the value of the first header with the name, ignoring case, or empty if there's none
+         */
+        public Optional<String> getHeader(String name) {
+            for (Header header : headers) {
+                if (header.getName().equalsIgnoreCase(name)) {
+                    return Optional.of(header.getValue());
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Deserialize the body from JSON with Jackson.
+         */
+        public <T> T readJson(Class<T> type) {
+            try {
+                return objectMapper.readValue(body, type);
+            } catch (IOException e) {
+                throw new RuntimeException(format("Error reading the response of %s %s as %s: %s",
+                                                  method, uri, type.getSimpleName(), e.getMessage()), e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> readJsonMap() {
+            return readJson(Map.class);
+        }
+
+        /**
+         * @throws RuntimeException - if the status isn't 2xx
+         */
+        public Response ensureSuccess() {
+            if (!isSuccess()) {
+                throw new RuntimeException(format("Error: %s %s returned status %d: %s", method, uri, status, body));
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s %s: %d", method, uri, status);
+        }
+    }
+
+    public static class Builder {
+        private final String baseUrl;
+        private final Optional<Browser<?>> browser;
+        private int maxConnections = 10;
+        private Duration timeout = Duration.ofSeconds(30);
+        private boolean syncCookiesToBrowserAfterRequests = false;
+
+        private Builder(String baseUrl, Optional<Browser<?>> browser) {
+            this.baseUrl = Preconditions.checkNotNull(baseUrl);
+            this.browser = browser;
+        }
+
+        /**
+         * Set the size of the connection pool, and of the thread pool for async requests. The default is 10.
+         */
+        public Builder maxConnections(int maxConnections) {
+            Preconditions.checkArgument(maxConnections > 0, "The maximum number of connections must be positive");
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Set the connect, socket and connection pool timeouts. The default is 30 seconds.
+         */
+        public Builder timeout(Duration timeout) {
+            Preconditions.checkNotNull(timeout);
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Set whether to copy cookies into the browser after every request. Only for clients created for a Browser.
+         */
+        public Builder syncCookiesToBrowserAfterRequests(boolean syncCookiesToBrowserAfterRequests) {
+            Preconditions.checkState(!syncCookiesToBrowserAfterRequests || browser.isPresent(),
+                                     "Cookies can only be synced to a Browser for a client created with forBrowser()");
+            this.syncCookiesToBrowserAfterRequests = syncCookiesToBrowserAfterRequests;
+            return this;
+        }
+
+        public BrowserHttpClient build() {
+            return new BrowserHttpClient(this);
+        }
+    }
+}
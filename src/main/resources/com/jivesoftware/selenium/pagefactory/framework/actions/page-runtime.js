@@ -0,0 +1,956 @@
+/*
+ * Helper functions installed once per document by PageRuntime, as window.__jspfRuntime.
+ * The version is replaced with a hash of this file, so a changed runtime is re-installed.
+ */
+window.__jspfRuntime = (function() {
+    var rt = {version: '%VERSION%'};
+
+    // Identifies this document, and counts the changes to its DOM since the runtime was installed, so that
+    // DomSnapshots can tell whether they're stale
+    rt.documentId = Date.now().toString(36) + Math.random().toString(36).substring(2);
+    rt.epoch = 0;
+    var observer = null;
+    if (window.MutationObserver && document.documentElement) {
+        observer = new MutationObserver(function(mutations) { rt.epoch += mutations.length; });
+        observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});
+    }
+    // Typing into form fields changes their value without mutating the DOM
+    document.addEventListener('input', function() { rt.epoch++; }, true);
+    document.addEventListener('change', function() { rt.epoch++; }, true);
+
+    rt.domEpoch = function() {
+        if (observer) {
+            rt.epoch += observer.takeRecords().length;
+        }
+        return {documentId: rt.documentId, epoch: rt.epoch};
+    };
+
+    // Find all elements matching a locator translated by JavascriptLocators.locatorArguments()
+    rt.findAll = function(strategy, value, root) {
+        root = root || document;
+        var doc = root.ownerDocument || root;
+        switch (strategy) {
+            case 'id':
+                return Array.prototype.slice.call(root.querySelectorAll('[id=' + JSON.stringify(value) + ']'));
+            case 'name':
+                return Array.prototype.slice.call(root.querySelectorAll('[name=' + JSON.stringify(value) + ']'));
+            case 'className':
+                return Array.prototype.slice.call(root.getElementsByClassName(value));
+            case 'tagName':
+                return Array.prototype.slice.call(root.getElementsByTagName(value));
+            case 'cssSelector':
+                return Array.prototype.slice.call(root.querySelectorAll(value));
+            case 'xpath':
+                var snapshot = doc.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];
+                for (var i = 0; i < snapshot.snapshotLength; i++) {
+                    found.push(snapshot.snapshotItem(i));
+                }
+                return found;
+            case 'linkText':
+                return Array.prototype.filter.call(root.getElementsByTagName('a'), function(a) {
+                    return (a.innerText || a.textContent).trim() === value;
+                });
+            case 'partialLinkText':
+                return Array.prototype.filter.call(root.getElementsByTagName('a'), function(a) {
+                    return (a.innerText || a.textContent).indexOf(value) >= 0;
+                });
+            default:
+                throw new Error('Unsupported locator strategy: ' + strategy);
+        }
+    };
+
+    // Approximates WebElement.isDisplayed()
+    rt.isVisible = function(el) {
+        if (el.getClientRects().length === 0) {
+            return false;
+        }
+        var style = window.getComputedStyle(el);
+        return style.visibility !== 'hidden' && style.opacity !== '0';
+    };
+
+    // Set the value with the native setter, so frameworks that override the value property notice the change
+    rt.setValue = function(el, value) {
+        var prototype = el.tagName.toLowerCase() === 'textarea' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+        var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');
+        if (descriptor && descriptor.set) {
+            descriptor.set.call(el, value);
+        } else {
+            el.value = value;
+        }
+    };
+
+    rt.fire = function(el, type) {
+        var event;
+        try {
+            event = new Event(type, {bubbles: type !== 'blur' && type !== 'focus'});
+        } catch (e) {
+            event = document.createEvent('HTMLEvents');
+            event.initEvent(type, type !== 'blur' && type !== 'focus', false);
+        }
+        el.dispatchEvent(event);
+    };
+
+    // Fill each field found by locators[i] with values[i], for SeleniumActions.fillForm(). Returns one result per
+    // field: 'ok', 'missing', 'unsupported' (to be filled natively) or 'error:<message>'.
+    rt.fillForm = function(locators, values) {
+        var results = [];
+        for (var i = 0; i < locators.length; i++) {
+            try {
+                results.push(fillField(rt.findAll(locators[i][0], locators[i][1]), values[i]));
+            } catch (e) {
+                results.push('error:' + e.message);
+            }
+        }
+        return results;
+    };
+
+    function fillField(found, value) {
+        if (found.length === 0) {
+            return 'missing';
+        }
+        var el = found[0], tag = el.tagName.toLowerCase(), type = (el.type || '').toLowerCase();
+        if (el.disabled || el.readOnly) {
+            return 'error:the field is disabled or read-only';
+        }
+        if (tag === 'select') {
+            var option = null;
+            for (var j = 0; j < el.options.length; j++) {
+                if (el.options[j].value === value) {
+                    option = el.options[j];
+                    break;
+                }
+                if (!option && el.options[j].text.trim() === value) {
+                    option = el.options[j];
+                }
+            }
+            if (!option) {
+                return 'error:no option with value or text ' + value;
+            }
+            option.selected = true;
+            rt.fire(el, 'input');
+            rt.fire(el, 'change');
+            rt.fire(el, 'blur');
+        } else if (type === 'checkbox') {
+            if (el.checked !== (value === 'true')) {
+                el.click();
+            }
+        } else if (type === 'radio') {
+            var radio = null;
+            for (var k = 0; k < found.length; k++) {
+                if (value === 'true' || found[k].value === value) {
+                    radio = found[k];
+                    break;
+                }
+            }
+            if (!radio) {
+                return 'error:no radio with value ' + value;
+            }
+            if (!radio.checked) {
+                radio.click();
+            }
+        } else if (tag === 'textarea' || (tag === 'input' && ['file', 'button', 'submit', 'reset', 'image'].indexOf(type) < 0)) {
+            rt.fire(el, 'focus');
+            rt.setValue(el, value);
+            rt.fire(el, 'input');
+            rt.fire(el, 'change');
+            rt.fire(el, 'blur');
+        } else {
+            return 'unsupported';
+        }
+        return 'ok';
+    }
+
+    // Run the steps of an ActionBatch segment in order, stopping at the first that throws. A step throws {retry: reason}
+    // when its element isn't ready, so it's run natively instead. Returns the values of the steps that completed, and
+    // the index, error and retry flag of the step that failed, if any.
+    rt.runSteps = function(steps) {
+        var values = [];
+        for (var i = 0; i < steps.length; i++) {
+            try {
+                values.push(steps[i]());
+            } catch (e) {
+                var retry = !!(e && e.retry);
+                return {values: values, failedIndex: i, retry: retry, error: retry ? e.retry : String(e && e.message || e)};
+            }
+        }
+        return {values: values, failedIndex: -1, retry: false, error: null};
+    };
+
+    // Type text into el one character at a time, waiting pause ms between keys. Each key dispatches keydown, keypress,
+    // the text insertion with an input event, and keyup, like a real key press. Calls back with 'ok', 'unsupported'
+    // (to be typed natively) or an error message.
+    rt.typeText = function(el, text, pause, callback) {
+        var tag = el.tagName.toLowerCase(), isField = tag === 'textarea' || tag === 'input';
+        if (!isField && !el.isContentEditable) {
+            callback('unsupported');
+            return;
+        }
+        if (el.disabled || el.readOnly) {
+            callback('the element is disabled or read-only');
+            return;
+        }
+
+        function keyEvent(type, ch) {
+            var code = ch.charCodeAt(0), event;
+            try {
+                event = new KeyboardEvent(type, {key: ch, bubbles: true, cancelable: true});
+            } catch (e) {
+                event = document.createEvent('Events');
+                event.initEvent(type, true, true);
+                event.key = ch;
+            }
+            var keyCode = type === 'keypress' ? code : ch.toUpperCase().charCodeAt(0);
+            try {
+                Object.defineProperty(event, 'keyCode', {get: function() { return keyCode; }});
+                Object.defineProperty(event, 'which', {get: function() { return keyCode; }});
+                Object.defineProperty(event, 'charCode', {get: function() { return type === 'keypress' ? code : 0; }});
+            } catch (e) {
+            }
+            return el.dispatchEvent(event);
+        }
+
+        function insert(ch) {
+            if (!isField) {
+                document.execCommand('insertText', false, ch);
+                return;
+            }
+            var value = el.value, start = value.length, end = value.length;
+            try {
+                if (typeof el.selectionStart === 'number') {
+                    start = el.selectionStart;
+                    end = el.selectionEnd;
+                }
+            } catch (e) {
+            }
+            var newValue = value.substring(0, start) + ch + value.substring(end);
+            if (el.maxLength >= 0 && newValue.length > el.maxLength) {
+                return;
+            }
+            rt.setValue(el, newValue);
+            try {
+                el.setSelectionRange(start + 1, start + 1);
+            } catch (e) {
+            }
+            var event;
+            try {
+                event = new InputEvent('input', {data: ch, inputType: 'insertText', bubbles: true});
+            } catch (e) {
+                event = document.createEvent('Events');
+                event.initEvent('input', true, false);
+            }
+            el.dispatchEvent(event);
+        }
+
+        el.focus();
+        if (isField) {
+            try {
+                el.setSelectionRange(el.value.length, el.value.length);
+            } catch (e) {
+            }
+        }
+        var i = 0;
+        (function typeNext() {
+            try {
+                if (i >= text.length) {
+                    callback('ok');
+                    return;
+                }
+                var ch = text.charAt(i++);
+                if (keyEvent('keydown', ch) && keyEvent('keypress', ch)) {
+                    insert(ch);
+                }
+                keyEvent('keyup', ch);
+                setTimeout(typeNext, pause);
+            } catch (e) {
+                callback(String(e.message || e));
+            }
+        })();
+    };
+
+    // Evaluate WaitConditions, each given as [kind, strategy, value, text or class name], returning one boolean per
+    // condition. A condition that throws an error is false.
+    rt.checkConditions = function(conditions) {
+        return conditions.map(function(condition) {
+            try {
+                var found = rt.findAll(condition[1], condition[2]);
+                switch (condition[0]) {
+                    case 'present':
+                        return found.length > 0;
+                    case 'visible':
+                        return found.some(rt.isVisible);
+                    case 'invisible':
+                        return !found.some(rt.isVisible);
+                    case 'containsText':
+                        return found.some(function(el) {
+                            return (el.innerText || el.textContent || '').indexOf(condition[3]) >= 0;
+                        });
+                    case 'hasClass':
+                        return found.some(function(el) { return el.classList.contains(condition[3]); });
+                }
+            } catch (e) {
+            }
+            return false;
+        });
+    };
+
+    // Poll condition() every interval ms until it's truthy, calling back with true, or false after timeout ms.
+    // If fatalCheck is given, it's evaluated every fatalEvery polls, calling back with the String it returns.
+    rt.poll = function(condition, timeout, interval, fatalCheck, fatalEvery, callback) {
+        var deadline = Date.now() + timeout, polls = 0;
+        (function poll() {
+            var satisfied = false;
+            try {
+                satisfied = !!condition();
+            } catch (e) {
+            }
+            if (satisfied) {
+                callback(true);
+                return;
+            }
+            if (fatalCheck && polls++ % fatalEvery === 0) {
+                var fatal = null;
+                try {
+                    fatal = fatalCheck();
+                } catch (e) {
+                }
+                if (fatal) {
+                    callback(String(fatal));
+                    return;
+                }
+            }
+            if (Date.now() >= deadline) {
+                callback(false);
+                return;
+            }
+            setTimeout(poll, interval);
+        })();
+    };
+
+    // Call back with true once document.readyState is 'complete', or false after timeout ms.
+    // If waitForRendering is true, also waits for web fonts to load and for the first animation frame after that.
+    rt.waitForReadyState = function(timeout, waitForRendering, callback) {
+        var done = false;
+        var timer = setTimeout(function() { finish(false); }, timeout);
+
+        function finish(result) {
+            if (done) {
+                return;
+            }
+            done = true;
+            clearTimeout(timer);
+            document.removeEventListener('readystatechange', check);
+            window.removeEventListener('load', check);
+            callback(result);
+        }
+
+        function nextFrame() {
+            if (document.hidden || !window.requestAnimationFrame) {
+                finish(true);
+                return;
+            }
+            requestAnimationFrame(function() { finish(true); });
+        }
+
+        function check() {
+            if (document.readyState !== 'complete') {
+                return;
+            }
+            if (!waitForRendering) {
+                finish(true);
+                return;
+            }
+            if (document.fonts && document.fonts.ready) {
+                document.fonts.ready.then(nextFrame, nextFrame);
+            } else {
+                nextFrame();
+            }
+        }
+
+        document.addEventListener('readystatechange', check);
+        window.addEventListener('load', check);
+        check();
+    };
+
+    // Call back with a fingerprint of the server's current response for the page, or null
+    rt.contentFingerprint = function(callback) {
+        if (!window.fetch) {
+            callback(null);
+            return;
+        }
+        fetch(location.href, {credentials: 'same-origin', cache: 'no-store'}).then(function(response) {
+            if (!response.ok) {
+                callback(null);
+                return;
+            }
+            var etag = response.headers.get('ETag'), lastModified = response.headers.get('Last-Modified');
+            if (etag || lastModified) {
+                callback('etag=' + etag + ';last-modified=' + lastModified);
+                return;
+            }
+            return response.text().then(function(body) { callback('length=' + body.length); });
+        }).catch(function() { callback(null); });
+    };
+
+    // Find the first element matching the locator whose text contains text
+    rt.findElementContainingText = function(strategy, value, text, caseSensitive, visibleOnly) {
+        if (!caseSensitive) {
+            text = text.toLowerCase();
+        }
+        var found = rt.findAll(strategy, value);
+        for (var i = 0; i < found.length; i++) {
+            if (visibleOnly && !rt.isVisible(found[i])) {
+                continue;
+            }
+            var elementText = found[i].innerText || '';
+            if (!caseSensitive) {
+                elementText = elementText.toLowerCase();
+            }
+            if (elementText.indexOf(text) >= 0) {
+                return found[i];
+            }
+        }
+        return null;
+    };
+
+    // State of the element streams in this document, by stream id
+    var streams = {};
+
+    // Return the next batch of items of an element stream, for SeleniumActions.streamElements(). Items already
+    // returned are skipped. If there are none left and scroll is true, scrolls the container (or the window) to the
+    // bottom and waits up to loadTimeout ms for more. Calls back with {items: [...], scrolled: boolean}, items being
+    // elements, or their text or attribute values depending on projection.
+    rt.nextItems = function(streamId, locator, container, batchSize, projection, attribute, dedupAttribute, scroll,
+                            loadTimeout, callback) {
+        var state = streams[streamId] || (streams[streamId] = {elements: window.WeakSet ? new WeakSet() : [], keys: {}});
+
+        function isSeen(el) {
+            if (dedupAttribute) {
+                return Object.prototype.hasOwnProperty.call(state.keys, String(el.getAttribute(dedupAttribute)));
+            }
+            return state.elements.has ? state.elements.has(el) : state.elements.indexOf(el) >= 0;
+        }
+
+        function markSeen(el) {
+            if (dedupAttribute) {
+                state.keys[String(el.getAttribute(dedupAttribute))] = true;
+            } else if (state.elements.add) {
+                state.elements.add(el);
+            } else {
+                state.elements.push(el);
+            }
+        }
+
+        function project(el) {
+            if (projection === 'text') {
+                return (el.innerText || el.textContent || '').trim();
+            }
+            if (projection === 'attribute') {
+                var value = attribute in el && typeof el[attribute] !== 'object' && typeof el[attribute] !== 'function'
+                    ? el[attribute] : el.getAttribute(attribute);
+                return value === null || value === undefined ? null : String(value);
+            }
+            return el;
+        }
+
+        function unseen() {
+            return rt.findAll(locator[0], locator[1]).filter(function(el) { return !isSeen(el); });
+        }
+
+        function respond(found, scrolled) {
+            var items = [];
+            for (var i = 0; i < found.length && items.length < batchSize; i++) {
+                if (!isSeen(found[i])) {
+                    markSeen(found[i]);
+                    items.push(project(found[i]));
+                }
+            }
+            callback({items: items, scrolled: scrolled});
+        }
+
+        var found = unseen();
+        if (found.length > 0 || !scroll) {
+            respond(found, false);
+            return;
+        }
+        var scroller = container ? resolve(container) : null;
+        if (container && !scroller) {
+            respond([], false);
+            return;
+        }
+        if (scroller) {
+            scroller.scrollTop = scroller.scrollHeight;
+        } else {
+            window.scrollTo(window.pageXOffset, document.documentElement.scrollHeight || document.body.scrollHeight);
+        }
+        var deadline = Date.now() + loadTimeout;
+        (function waitForMore() {
+            var more = unseen();
+            if (more.length > 0 || Date.now() >= deadline) {
+                respond(more, true);
+                return;
+            }
+            setTimeout(waitForMore, 50);
+        })();
+    };
+
+    rt.closeStream = function(streamId) {
+        delete streams[streamId];
+    };
+
+    // Extract records from an HTML table or from repeated rows, for SeleniumActions.extractTable(). columns are
+    // [name, strategy, value, attribute], headers are [header text, name]. Returns {names: [...], rows: [[...], ...]},
+    // or null if the HTML table isn't present.
+    rt.extractTable = function(isHtmlTable, locator, columns, headers, visibleOnly) {
+        var names = [], rows = [];
+        function text(el) {
+            return (el.innerText || el.textContent || '').trim();
+        }
+        if (isHtmlTable) {
+            var table = rt.findAll(locator[0], locator[1])[0];
+            if (!table) {
+                return null;
+            }
+            var headerRow = table.tHead && table.tHead.rows.length > 0 ? table.tHead.rows[0] : null;
+            if (!headerRow && table.rows.length > 0 && table.rows[0].getElementsByTagName('th').length > 0) {
+                headerRow = table.rows[0];
+            }
+            var renamed = {};
+            for (var h = 0; h < headers.length; h++) {
+                renamed[headers[h][0]] = headers[h][1];
+            }
+            if (headerRow) {
+                for (var c = 0; c < headerRow.cells.length; c++) {
+                    var header = text(headerRow.cells[c]);
+                    names.push(Object.prototype.hasOwnProperty.call(renamed, header) ? renamed[header] : header);
+                }
+            }
+            for (var r = 0; r < table.rows.length; r++) {
+                var row = table.rows[r];
+                if (row === headerRow || row.parentNode === table.tHead || row.parentNode === table.tFoot
+                    || (visibleOnly && !rt.isVisible(row))) {
+                    continue;
+                }
+                var values = [];
+                for (var i = 0; i < row.cells.length; i++) {
+                    if (i >= names.length) {
+                        names.push('column' + (i + 1));
+                    }
+                    values.push(text(row.cells[i]));
+                }
+                rows.push(values);
+            }
+            return {names: names, rows: rows};
+        }
+        for (var n = 0; n < columns.length; n++) {
+            names.push(columns[n][0]);
+        }
+        var found = rt.findAll(locator[0], locator[1]);
+        for (var j = 0; j < found.length; j++) {
+            if (visibleOnly && !rt.isVisible(found[j])) {
+                continue;
+            }
+            var record = [];
+            for (var k = 0; k < columns.length; k++) {
+                var cell = rt.findAll(columns[k][1], columns[k][2], found[j])[0], attribute = columns[k][3];
+                if (!cell) {
+                    record.push(null);
+                } else if (attribute) {
+                    var value = attribute in cell && typeof cell[attribute] !== 'object' && typeof cell[attribute] !== 'function'
+                        ? cell[attribute] : cell.getAttribute(attribute);
+                    record.push(value === null || value === undefined ? null : String(value));
+                } else {
+                    record.push(text(cell));
+                }
+            }
+            rows.push(record);
+        }
+        return {names: names, rows: rows};
+    };
+
+    // Serialize the DOM for a DomSnapshot, marking each element with data-jspf-visible="1" or "0" and copying the
+    // current values of form fields into their attributes. Script and style contents are dropped.
+    // Returns {html, documentId, epoch, url}.
+    rt.snapshot = function() {
+        var live = document.documentElement, clone = live.cloneNode(true);
+        var liveElements = live.getElementsByTagName('*'), cloneElements = clone.getElementsByTagName('*');
+
+        function annotate(el, copy) {
+            copy.setAttribute('data-jspf-visible', rt.isVisible(el) ? '1' : '0');
+            var tag = el.tagName.toLowerCase(), type = (el.type || '').toLowerCase();
+            if (tag === 'input') {
+                if (type === 'checkbox' || type === 'radio') {
+                    if (el.checked) {
+                        copy.setAttribute('checked', 'checked');
+                    } else {
+                        copy.removeAttribute('checked');
+                    }
+                }
+                copy.setAttribute('value', el.value);
+            } else if (tag === 'textarea') {
+                copy.textContent = el.value;
+            } else if (tag === 'option') {
+                if (el.selected) {
+                    copy.setAttribute('selected', 'selected');
+                } else {
+                    copy.removeAttribute('selected');
+                }
+            }
+        }
+
+        annotate(live, clone);
+        for (var i = 0; i < liveElements.length; i++) {
+            annotate(liveElements[i], cloneElements[i]);
+        }
+        var dropped = clone.querySelectorAll('script, style, noscript');
+        for (var j = 0; j < dropped.length; j++) {
+            dropped[j].textContent = '';
+        }
+        var epoch = rt.domEpoch();
+        return {html: '<!DOCTYPE html>' + clone.outerHTML, documentId: epoch.documentId, epoch: epoch.epoch, url: location.href};
+    };
+
+    // Read all entries of localStorage and sessionStorage, for SessionState. Returns {local: {...}, session: {...}}.
+    rt.readStorage = function() {
+        function read(storage) {
+            var entries = {};
+            for (var i = 0; storage && i < storage.length; i++) {
+                var key = storage.key(i);
+                entries[key] = storage.getItem(key);
+            }
+            return entries;
+        }
+        return {local: read(window.localStorage), session: read(window.sessionStorage)};
+    };
+
+    // Replace all entries of localStorage and sessionStorage
+    rt.writeStorage = function(local, session) {
+        function write(storage, entries) {
+            storage.clear();
+            for (var key in entries) {
+                if (Object.prototype.hasOwnProperty.call(entries, key)) {
+                    storage.setItem(key, entries[key]);
+                }
+            }
+        }
+        write(window.localStorage, local);
+        write(window.sessionStorage, session);
+    };
+
+    // Open the URL in a new tab for WebBrowser.prefetch(). Returns false if the browser blocked the popup.
+    rt.openPrefetchWindow = function(url) {
+        return !!window.open(url, '_blank');
+    };
+
+    // Hint the browser to fetch the URL into its HTTP cache when idle
+    rt.prefetchLink = function(url) {
+        var links = document.querySelectorAll('link[rel="prefetch"]');
+        for (var i = 0; i < links.length; i++) {
+            if (links[i].href === url) {
+                return;
+            }
+        }
+        var link = document.createElement('link');
+        link.rel = 'prefetch';
+        link.href = url;
+        (document.head || document.documentElement).appendChild(link);
+    };
+
+    // Route a single-page app to url without loading a new document, for SpaNavigation. appShell(url, path) returns
+    // whether this document can route to url, router(url, path) starts the route change. The route change is complete
+    // when routeEvent is fired on window, or if it's null, once location.href changed and the DOM hasn't changed for
+    // quietPeriod ms. Calls back with 'ok', 'no-shell', 'timeout', or an error message.
+    rt.routeTo = function(url, appShell, router, routeEvent, quietPeriod, timeout, callback) {
+        var a = document.createElement('a');
+        a.href = url;
+        var path = (a.pathname.charAt(0) === '/' ? '' : '/') + a.pathname + a.search + a.hash;
+        try {
+            if (!appShell(url, path)) {
+                callback('no-shell');
+                return;
+            }
+        } catch (e) {
+            callback('no-shell');
+            return;
+        }
+
+        var done = false, startHref = location.href;
+        var deadline = Date.now() + timeout, lastEpoch = rt.domEpoch().epoch, quietSince = Date.now();
+
+        function finish(result) {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (routeEvent) {
+                window.removeEventListener(routeEvent, onRouteEvent);
+            }
+            callback(result);
+        }
+
+        function onRouteEvent() {
+            finish('ok');
+        }
+
+        if (routeEvent) {
+            window.addEventListener(routeEvent, onRouteEvent);
+        }
+        try {
+            router(url, path);
+        } catch (e) {
+            finish('router error: ' + e.message);
+            return;
+        }
+        (function check() {
+            if (done) {
+                return;
+            }
+            var epoch = rt.domEpoch().epoch;
+            if (epoch !== lastEpoch) {
+                lastEpoch = epoch;
+                quietSince = Date.now();
+            }
+            if (!routeEvent && location.href !== startHref && Date.now() - quietSince >= quietPeriod) {
+                finish('ok');
+                return;
+            }
+            if (Date.now() >= deadline) {
+                finish('timeout');
+                return;
+            }
+            setTimeout(check, 25);
+        })();
+    };
+
+    // Navigation and resource timings for PageLoadTiming, in ms since the navigation started. The navigation marks are
+    // only reported by the first call in a document. Later calls, e.g. after client-side routing, are soft navigations
+    // and only report the resources loaded since the previous call.
+    var NAVIGATION_MARKS = ['redirectStart', 'redirectEnd', 'fetchStart', 'domainLookupStart', 'domainLookupEnd',
+                            'connectStart', 'secureConnectionStart', 'connectEnd', 'requestStart', 'responseStart',
+                            'responseEnd', 'domInteractive', 'domContentLoadedEventStart', 'domContentLoadedEventEnd',
+                            'domComplete', 'loadEventStart', 'loadEventEnd'];
+    var timingCapturedAt = null;
+    rt.pageTiming = function() {
+        var perf = window.performance;
+        if (!perf || !perf.now) {
+            return null;
+        }
+        var since = timingCapturedAt, now = perf.now();
+        timingCapturedAt = now;
+        var result = {url: location.href, type: 'soft', now: now, navigation: null, resources: []};
+        if (since === null) {
+            var entry = perf.getEntriesByType ? perf.getEntriesByType('navigation')[0] : null;
+            var legacy = perf.timing, marks = {}, i;
+            if (entry) {
+                for (i = 0; i < NAVIGATION_MARKS.length; i++) {
+                    marks[NAVIGATION_MARKS[i]] = entry[NAVIGATION_MARKS[i]] || 0;
+                }
+                result.type = entry.type;
+            } else if (legacy) {
+                for (i = 0; i < NAVIGATION_MARKS.length; i++) {
+                    var value = legacy[NAVIGATION_MARKS[i]];
+                    marks[NAVIGATION_MARKS[i]] = value ? value - legacy.navigationStart : 0;
+                }
+                result.type = ['navigate', 'reload', 'back_forward'][perf.navigation ? perf.navigation.type : 0] || 'navigate';
+            }
+            result.navigation = entry || legacy ? marks : null;
+            since = 0;
+        }
+        var resources = perf.getEntriesByType ? perf.getEntriesByType('resource') : [];
+        for (var j = 0; j < resources.length; j++) {
+            var r = resources[j];
+            if (r.startTime >= since) {
+                result.resources.push({name: r.name, initiatorType: r.initiatorType, startTime: r.startTime,
+                                       duration: r.duration, transferSize: r.transferSize || 0});
+            }
+        }
+        return result;
+    };
+
+    // Web vitals for WebVitals, collected by buffered PerformanceObservers started once per document by startVitals().
+    // drainVitals() returns the metrics since the previous drain, or if the collector isn't started in this document,
+    // the metrics the previous document of this tab stored when it was hidden without being drained.
+    var VITALS_STORAGE_KEY = '__jspfWebVitals';
+    var vitals = null, vitalsObservers = [];
+
+    function newVitals() {
+        return {since: window.performance ? performance.now() : 0, entries: 0, lcp: null, cls: 0, sessionValue: 0,
+                sessionStart: 0, sessionEnd: 0, longTaskCount: 0, longTaskTime: 0, totalBlockingTime: 0,
+                longestTask: 0, firstInputDelay: null, firstInputType: null};
+    }
+
+    function vitalsSummary() {
+        return {url: location.href, since: vitals.since, until: performance.now(), lcp: vitals.lcp, cls: vitals.cls,
+                longTaskCount: vitals.longTaskCount, longTaskTime: vitals.longTaskTime,
+                totalBlockingTime: vitals.totalBlockingTime, longestTask: vitals.longestTask,
+                firstInputDelay: vitals.firstInputDelay, firstInputType: vitals.firstInputType, stored: false};
+    }
+
+    function observeVitals(type, handler) {
+        var supported = PerformanceObserver.supportedEntryTypes || [];
+        if (supported.indexOf(type) < 0) {
+            return;
+        }
+        function handle(entries) {
+            for (var i = 0; i < entries.length; i++) {
+                vitals.entries++;
+                handler(entries[i]);
+            }
+        }
+        try {
+            var observer = new PerformanceObserver(function(list) { handle(list.getEntries()); });
+            observer.observe({type: type, buffered: true});
+            vitalsObservers.push({observer: observer, handle: handle});
+        } catch (e) {
+        }
+    }
+
+    rt.startVitals = function() {
+        if (vitals) {
+            return true;
+        }
+        if (!window.PerformanceObserver || !window.performance) {
+            return false;
+        }
+        vitals = newVitals();
+        vitals.since = 0;
+        observeVitals('largest-contentful-paint', function(e) {
+            vitals.lcp = e.startTime;
+        });
+        // CLS is the largest session window of shifts less than 1s apart and within 5s, ignoring shifts after input
+        observeVitals('layout-shift', function(e) {
+            if (e.hadRecentInput) {
+                return;
+            }
+            if (vitals.sessionValue && e.startTime - vitals.sessionEnd < 1000 && e.startTime - vitals.sessionStart < 5000) {
+                vitals.sessionValue += e.value;
+            } else {
+                vitals.sessionValue = e.value;
+                vitals.sessionStart = e.startTime;
+            }
+            vitals.sessionEnd = e.startTime;
+            vitals.cls = Math.max(vitals.cls, vitals.sessionValue);
+        });
+        observeVitals('longtask', function(e) {
+            vitals.longTaskCount++;
+            vitals.longTaskTime += e.duration;
+            vitals.totalBlockingTime += Math.max(0, e.duration - 50);
+            vitals.longestTask = Math.max(vitals.longestTask, e.duration);
+        });
+        observeVitals('first-input', function(e) {
+            if (vitals.firstInputDelay === null) {
+                vitals.firstInputDelay = e.processingStart - e.startTime;
+                vitals.firstInputType = e.name;
+            }
+        });
+        window.addEventListener('pagehide', function() {
+            if (!vitals.entries) {
+                return;
+            }
+            try {
+                var summary = vitalsSummary();
+                summary.stored = true;
+                sessionStorage.setItem(VITALS_STORAGE_KEY, JSON.stringify(summary));
+            } catch (e) {
+            }
+        });
+        return true;
+    };
+
+    rt.drainVitals = function() {
+        var stored = null;
+        try {
+            stored = sessionStorage.getItem(VITALS_STORAGE_KEY);
+            sessionStorage.removeItem(VITALS_STORAGE_KEY);
+        } catch (e) {
+        }
+        if (!vitals) {
+            return stored ? JSON.parse(stored) : null;
+        }
+        for (var i = 0; i < vitalsObservers.length; i++) {
+            vitalsObservers[i].handle(vitalsObservers[i].observer.takeRecords());
+        }
+        var summary = vitalsSummary();
+        vitals = newVitals();
+        return summary;
+    };
+
+    rt.innerHeight = function() {
+        return window.innerHeight || document.documentElement.clientHeight || document.body.clientHeight;
+    };
+
+    rt.scrollToTop = function() {
+        window.scrollTo(0, 0);
+    };
+
+    // Scroll so that target is in the middle of the given scroll container, or of all its scrollable ancestors and
+    // the window if container is null, then wait up to settleTimeout ms for smooth scrolling to settle. target and
+    // container are elements, or [strategy, value] locators. Calls back with 'ok', or 'missing' if an element isn't present.
+    rt.scrollIntoView = function(target, container, settleTimeout, callback) {
+        var el = resolve(target);
+        if (!el) {
+            callback('missing');
+            return;
+        }
+        var scrolled = [window];
+        if (container) {
+            var parent = resolve(container);
+            if (!parent) {
+                callback('missing');
+                return;
+            }
+            centerIn(parent, el);
+            scrolled.push(parent);
+        } else {
+            for (var ancestor = scrollableAncestor(el); ancestor; ancestor = scrollableAncestor(ancestor)) {
+                centerIn(ancestor, el);
+                scrolled.push(ancestor);
+            }
+            var rect = el.getBoundingClientRect();
+            window.scrollTo(window.pageXOffset,
+                            Math.max(0, window.pageYOffset + rect.top - Math.max(0, (rt.innerHeight() - rect.height) / 2)));
+        }
+        whenScrollSettles(scrolled, settleTimeout, function() { callback('ok'); });
+    };
+
+    function resolve(elementOrLocator) {
+        return Array.isArray(elementOrLocator) ? rt.findAll(elementOrLocator[0], elementOrLocator[1])[0] : elementOrLocator;
+    }
+
+    function scrollableAncestor(el) {
+        for (var p = el.parentElement; p && p !== document.body && p !== document.documentElement; p = p.parentElement) {
+            var overflowY = window.getComputedStyle(p).overflowY;
+            if ((overflowY === 'auto' || overflowY === 'scroll' || overflowY === 'overlay') && p.scrollHeight > p.clientHeight) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    function centerIn(container, el) {
+        var containerRect = container.getBoundingClientRect(), rect = el.getBoundingClientRect();
+        container.scrollTop = Math.max(0, container.scrollTop + rect.top - containerRect.top - container.clientTop
+                                          - Math.max(0, (container.clientHeight - rect.height) / 2));
+    }
+
+    // Call back once the scroll positions haven't changed for a few frames, e.g. with scroll-behavior: smooth,
+    // or after a second at most
+    function whenScrollSettles(scrolled, timeout, callback) {
+        var last = null, stableChecks = 0, deadline = Date.now() + timeout;
+        (function check() {
+            var positions = scrolled.map(function(s) { return s === window ? window.pageYOffset : s.scrollTop; }).join(',');
+            stableChecks = positions === last ? stableChecks + 1 : 0;
+            last = positions;
+            if (stableChecks >= 2 || Date.now() >= deadline) {
+                callback();
+                return;
+            }
+            setTimeout(check, 16);
+        })();
+    }
+
+    rt.setTinyMceContent = function(text) {
+        tinyMCE.activeEditor.setContent(text);
+    };
+
+    return rt;
+})();
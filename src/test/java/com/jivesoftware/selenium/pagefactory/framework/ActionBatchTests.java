@@ -0,0 +1,93 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jivesoftware.selenium.pagefactory.framework.actions.ActionBatch;
+import com.jivesoftware.selenium.pagefactory.framework.actions.ActionBatchResult;
+import com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions;
+import com.jivesoftware.selenium.pagefactory.framework.exception.ActionBatchException;
+import org.openqa.selenium.By;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link SeleniumActions#executeBatch(ActionBatch)}, with the results of the batch scripts given by a
+ * {@link StubWebDriver}.
+ */
+public class ActionBatchTests {
+    private StubWebDriver driver;
+    private SeleniumActions actions;
+    private final Queue<Map<String, Object>> segmentResults = new LinkedList<>();
+
+    @BeforeMethod
+    public void createBrowser() throws Exception {
+        segmentResults.clear();
+        driver = new StubWebDriver("http://example.com/docs");
+        driver.onScript("rt.runSteps(", new Function<List<Object>, Object>() {
+            @Override
+            public Object apply(@Nullable List<Object> args) {
+                return segmentResults.remove();
+            }
+        });
+        actions = driver.createBrowser("http://example.com").getActions();
+    }
+
+    @Test
+    public void stopsAtFirstFailureWithPartialResults() {
+        segmentResults.add(segmentResult(Arrays.<Object>asList("Draft", null), 2, false, "the element is disabled or read-only"));
+        ActionBatch batch = ActionBatch.builder()
+                .getText(By.id("status"))
+                .click(By.id("edit"))
+                .inputText(By.id("subject"), "Hello")
+                .click(By.id("save"))
+                .build();
+        try {
+            actions.executeBatch(batch);
+            fail("The batch should stop at the failed step");
+        } catch (ActionBatchException e) {
+            assertEquals(e.getFailedStepIndex(), 2);
+            assertEquals(e.getCompletedResults(), Arrays.<Object>asList("Draft", null));
+        }
+        assertEquals(driver.getExecutedScripts().size(), 1);
+    }
+
+    @Test
+    public void retryStepsRunNativelyAndTheBatchContinues() {
+        driver.addElements(By.id("title"), new StubWebDriver.StubWebElement("Native title"));
+        segmentResults.add(segmentResult(ImmutableList.<Object>of("Draft"), 1, true, "not present"));
+        segmentResults.add(segmentResult(ImmutableList.<Object>of("Hello"), -1, false, null));
+        ActionBatchResult result = actions.executeBatch(ActionBatch.builder()
+                .getText(By.id("status"))
+                .getText(By.id("title"))
+                .getAttribute(By.id("subject"), "value")
+                .build());
+
+        assertEquals(result.getString(0), "Draft");
+        assertEquals(result.getString(1), "Native title");
+        assertEquals(result.getString(2), "Hello");
+        // The steps after the retried one run in a new script
+        assertEquals(driver.getExecutedScripts().size(), 2);
+        assertTrue(driver.getExecutedScripts().get(1).contains("subject"));
+    }
+
+    private static Map<String, Object> segmentResult(List<Object> values, int failedIndex, boolean retry, @Nullable String error) {
+        return new ImmutableMap.Builder<String, Object>()
+                .put("values", values)
+                .put("failedIndex", (long) failedIndex)
+                .put("retry", retry)
+                .put("error", error == null ? "" : error)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Supplier;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for the deadlines of {@link com.jivesoftware.selenium.pagefactory.framework.browser.Browser#withDeadline},
+ * which only apply to the thread running the block.
+ */
+public class BrowserDeadlineTests {
+    private WebBrowser browser;
+
+    @BeforeMethod
+    public void createBrowser() throws Exception {
+        browser = new StubWebDriver("http://example.com/").createBrowser("http://example.com");
+    }
+
+    @Test
+    public void deadlineDoesNotApplyToOtherThreads() {
+        Optional<Duration> otherThreadDeadline = browser.withDeadline(Duration.ofMinutes(1), new Supplier<Optional<Duration>>() {
+            @Override
+            public Optional<Duration> get() {
+                return CompletableFuture.supplyAsync(new java.util.function.Supplier<Optional<Duration>>() {
+                    @Override
+                    public Optional<Duration> get() {
+                        return browser.getRemainingDeadline();
+                    }
+                }).join();
+            }
+        });
+
+        assertFalse(otherThreadDeadline.isPresent());
+        assertFalse(browser.getRemainingDeadline().isPresent());
+    }
+
+    @Test
+    public void boundBlockKeepsTheDeadlineAfterTheEnclosingBlockReturned() {
+        final Supplier<Optional<Duration>> remaining = new Supplier<Optional<Duration>>() {
+            @Override
+            public Optional<Duration> get() {
+                return browser.getRemainingDeadline();
+            }
+        };
+        Supplier<Optional<Duration>> bound = browser.withDeadline(Duration.ofMinutes(1), new Supplier<Supplier<Optional<Duration>>>() {
+            @Override
+            public Supplier<Optional<Duration>> get() {
+                return browser.bindDeadline(remaining);
+            }
+        });
+
+        Optional<Duration> boundDeadline = bound.get();
+
+        assertTrue(boundDeadline.isPresent());
+        assertTrue(boundDeadline.get().compareTo(Duration.ofMinutes(1)) <= 0);
+        assertFalse(browser.getRemainingDeadline().isPresent());
+    }
+}
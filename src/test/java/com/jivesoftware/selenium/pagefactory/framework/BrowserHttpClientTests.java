@@ -0,0 +1,152 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
+import com.jivesoftware.selenium.pagefactory.framework.webservice.BrowserHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.openqa.selenium.Cookie;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link BrowserHttpClient} against an embedded HTTP server, syncing cookies with a {@link StubWebDriver}.
+ */
+public class BrowserHttpClientTests {
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/login", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Set-Cookie", "jsessionid=abc123; Path=/");
+                respond(exchange, 204, "");
+            }
+        });
+        server.createContext("/whoami", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+                respond(exchange, cookie != null && cookie.contains("jsessionid=abc123") ? 200 : 401, String.valueOf(cookie));
+            }
+        });
+        server.createContext("/echo", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Type", exchange.getRequestHeaders().getFirst("Content-Type"));
+                respond(exchange, 201, new String(ByteStreams.toByteArray(exchange.getRequestBody()), StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void keepsCookiesFromResponses() {
+        try (BrowserHttpClient client = BrowserHttpClient.builder(baseUrl).build()) {
+            assertEquals(client.get("/whoami").getStatus(), 401);
+            client.get("login").ensureSuccess();
+            assertEquals(client.getCookies().size(), 1);
+            assertEquals(client.get("/whoami").getStatus(), 200);
+        }
+    }
+
+    @Test
+    public void postsJson() {
+        try (BrowserHttpClient client = BrowserHttpClient.builder(baseUrl).build()) {
+            BrowserHttpClient.Response response = client.postJson("/echo", ImmutableMap.of("subject", "Hello", "count", 3));
+            assertTrue(response.isSuccess());
+            assertEquals(response.getStatus(), 201);
+            assertTrue(response.getHeader("content-type").get().startsWith("application/json"));
+            Map<String, Object> echoed = response.readJsonMap();
+            assertEquals(echoed.get("subject"), "Hello");
+            assertEquals(echoed.get("count"), 3);
+        }
+    }
+
+    @Test
+    public void executesRequestsConcurrently() throws Exception {
+        try (BrowserHttpClient client = BrowserHttpClient.builder(baseUrl).maxConnections(4).build()) {
+            List<CompletableFuture<BrowserHttpClient.Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(client.postJsonAsync("/echo", ImmutableMap.of("index", i)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                BrowserHttpClient.Response response = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertEquals(response.readJsonMap().get("index"), i);
+            }
+        }
+    }
+
+    @Test
+    public void sendsCookiesOfTheBrowser() throws Exception {
+        StubWebDriver driver = new StubWebDriver(baseUrl + "/home");
+        driver.manage().addCookie(new Cookie("jsessionid", "abc123", "127.0.0.1", "/", null));
+        WebBrowser browser = driver.createBrowser(baseUrl);
+        try (BrowserHttpClient client = BrowserHttpClient.forBrowser(browser).build()) {
+            assertEquals(client.get("/whoami").getStatus(), 200);
+        }
+    }
+
+    @Test
+    public void copiesCookiesIntoTheBrowser() throws Exception {
+        StubWebDriver driver = new StubWebDriver(baseUrl + "/home");
+        WebBrowser browser = driver.createBrowser(baseUrl);
+        try (BrowserHttpClient client = BrowserHttpClient.forBrowser(browser).build()) {
+            client.get("/login").ensureSuccess();
+            BasicClientCookie otherDomain = new BasicClientCookie("tracking", "xyz");
+            otherDomain.setDomain("example.com");
+            client.addCookie(otherDomain);
+            client.syncCookiesToBrowser();
+        }
+        assertEquals(driver.manage().getCookieNamed("jsessionid").getValue(), "abc123");
+        // Cookies for other domains can't be set from the current page
+        assertNull(driver.manage().getCookieNamed("tracking"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void ensureSuccessFailsOnErrorStatus() {
+        try (BrowserHttpClient client = BrowserHttpClient.builder(baseUrl).build()) {
+            BrowserHttpClient.Response response = client.get("/whoami");
+            assertFalse(response.isSuccess());
+            response.ensureSuccess();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jivesoftware.selenium.pagefactory.framework.actions.ElementStream;
+import com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Tests for streaming elements with {@link SeleniumActions#streamElements(ElementStream)}, against a
+ * {@link StubWebDriver}.
+ */
+public class ElementStreamTests {
+    private StubWebDriver driver;
+    private SeleniumActions actions;
+
+    @BeforeMethod
+    public void createBrowser() throws Exception {
+        driver = new StubWebDriver("http://example.com/people");
+        actions = driver.createBrowser("http://example.com").getActions();
+    }
+
+    @Test
+    public void locatorsThatCantBeEvaluatedInJavascriptFallBackToGetElements() {
+        By chained = new ByChained(By.id("people"), By.className("person"));
+        driver.addElements(chained, new StubWebDriver.StubWebElement("Ann").withAttribute("data-id", "1"),
+                           new StubWebDriver.StubWebElement("Bob").withAttribute("data-id", "2"));
+
+        List<String> names = actions.streamText(ElementStream.builder(chained).build()).collect(Collectors.<String>toList());
+        List<String> ids = actions.streamAttribute(ElementStream.builder(chained).build(), "data-id").collect(Collectors.<String>toList());
+
+        assertEquals(names, ImmutableList.of("Ann", "Bob"));
+        assertEquals(ids, ImmutableList.of("1", "2"));
+        assertEquals(actions.streamElements(chained).count(), 2);
+        assertFalse(driver.getRuntimeCalls().contains("nextItems"));
+    }
+
+    @Test
+    public void closingTheStreamEarlyReleasesItInThePage() {
+        driver.onRuntimeCall("nextItems", new Function<List<Object>, Object>() {
+            @Override
+            public Object apply(@Nullable List<Object> args) {
+                return ImmutableMap.of("items", ImmutableList.of("Ann", "Bob", "Cid"), "scrolled", false);
+            }
+        });
+        final List<Object> closedStreams = new ArrayList<>();
+        driver.onRuntimeCall("closeStream", new Function<List<Object>, Object>() {
+            @Override
+            public Object apply(@Nullable List<Object> args) {
+                closedStreams.add(args.get(0));
+                return null;
+            }
+        });
+
+        String first;
+        try (Stream<String> names = actions.streamText(ElementStream.builder(By.cssSelector(".person")).build())) {
+            first = names.findFirst().get();
+        }
+
+        assertEquals(first, "Ann");
+        assertEquals(Collections.frequency(driver.getRuntimeCalls(), "nextItems"), 1);
+        assertEquals(closedStreams.size(), 1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Predicate;
+import com.jivesoftware.selenium.pagefactory.framework.browser.FatalPageDetector;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
+import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
+import org.openqa.selenium.TimeoutException;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link FatalPageDetector}s, and how often waits evaluate them.
+ */
+public class FatalPageDetectorTests {
+
+    @Test
+    public void titlesOfErrorPagesHaveAnHttpStatus() {
+        assertEquals(FatalPageDetector.httpStatusFromTitle("HTTP Status 404 - /docs"), Optional.of(404));
+        assertEquals(FatalPageDetector.httpStatusFromTitle("Error 503"), Optional.of(503));
+        assertEquals(FatalPageDetector.httpStatusFromTitle("500 Internal Server Error"), Optional.of(500));
+    }
+
+    @Test
+    public void titlesStartingWithANumberHaveNoHttpStatus() {
+        assertFalse(FatalPageDetector.httpStatusFromTitle("200 Best Recipes").isPresent());
+        assertFalse(FatalPageDetector.httpStatusFromTitle("404 Ways to Cook").isPresent());
+    }
+
+    @Test
+    public void nativeWaitsThrottleTheFatalPageCheck() throws Exception {
+        StubWebDriver driver = new StubWebDriver("http://example.com/docs");
+        WebBrowser browser = driver.createBrowser("http://example.com");
+        browser.addFatalPageDetector(FatalPageDetector.byScript("counted check", "return null; // counted check"));
+
+        try {
+            // Polls every 100 ms for a second
+            browser.getActions().waitOnPredicate(new Predicate<Object>() {
+                @Override
+                public boolean apply(@Nullable Object input) {
+                    return false;
+                }
+            }, "never true", TimeoutType.ONE_SECOND);
+            fail("The wait should have timed out");
+        } catch (TimeoutException expected) {
+        }
+
+        int checks = 0;
+        for (String script : driver.getExecutedScripts()) {
+            if (script.contains("counted check")) {
+                checks++;
+            }
+        }
+        assertTrue(checks >= 1 && checks <= 3, "Fatal page checks during a 1 second wait: " + checks);
+    }
+}
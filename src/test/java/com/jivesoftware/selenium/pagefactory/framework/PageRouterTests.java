@@ -0,0 +1,97 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.jivesoftware.selenium.pagefactory.framework.pages.BaseTopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.pages.PageRouter;
+import com.jivesoftware.selenium.pagefactory.framework.pages.TopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.pages.WebPagePath;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Tests for {@link PageRouter}, resolving paths without a browser.
+ */
+public class PageRouterTests {
+    @WebPagePath(path = "/")
+    public static class HomePage extends BaseTopLevelPage {
+    }
+
+    @WebPagePath(path = "/docs/")
+    public static class DocumentListPage extends BaseTopLevelPage {
+    }
+
+    @WebPagePath(path = "/docs/\\d+", isRegex = true)
+    public static class DocumentPage extends BaseTopLevelPage {
+    }
+
+    @WebPagePath(path = "/docs/\\d+/edit", isRegex = true)
+    public static class EditDocumentPage extends BaseTopLevelPage {
+    }
+
+    @WebPagePath(path = "/docs/new")
+    public static class NewDocumentPage extends BaseTopLevelPage {
+    }
+
+    @WebPagePath(path = "settings")
+    public static class SettingsPage extends BaseTopLevelPage {
+    }
+
+    @WebPagePath(path = "/(\\w+)/\\1", isRegex = true)
+    public static class RepeatedSegmentPage extends BaseTopLevelPage {
+    }
+
+    public static class UnannotatedPage extends BaseTopLevelPage {
+    }
+
+    private final PageRouter router = PageRouter.builder()
+            .register(HomePage.class)
+            .register(DocumentListPage.class)
+            .register(DocumentPage.class)
+            .register(EditDocumentPage.class)
+            .register(NewDocumentPage.class)
+            .register(SettingsPage.class)
+            .register(RepeatedSegmentPage.class)
+            .build();
+
+    @Test
+    public void literalPathsMatchTheEndOfThePath() {
+        assertResolves("http://example.com/docs", DocumentListPage.class);
+        assertResolves("http://example.com/context/docs/", DocumentListPage.class);
+        assertResolves("http://example.com/docs/new?draft=true", NewDocumentPage.class);
+        assertResolves("http://example.com/", HomePage.class);
+        assertResolves("http://example.com/unknown", HomePage.class);
+    }
+
+    @Test
+    public void literalPathsWithoutLeadingSlashMatchPartOfASegment() {
+        assertResolves("http://example.com/user/settings", SettingsPage.class);
+        assertResolves("http://example.com/user/accountsettings", SettingsPage.class);
+    }
+
+    @Test
+    public void mostSpecificPageWins() {
+        assertResolves("http://example.com/docs/1234", DocumentPage.class);
+        assertResolves("http://example.com/context/docs/1234/edit", EditDocumentPage.class);
+        assertResolves("http://example.com/a/docs/docs", RepeatedSegmentPage.class);
+    }
+
+    @Test
+    public void resolvesNothingWithoutMatchingPage() {
+        PageRouter docsOnly = PageRouter.builder().register(DocumentListPage.class).register(DocumentPage.class).build();
+        assertFalse(docsOnly.resolve("http://example.com/people/42").isPresent());
+        assertFalse(docsOnly.resolve("about:blank").isPresent());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsPagesWithoutWebPagePath() {
+        PageRouter.builder().register(UnannotatedPage.class);
+    }
+
+    private void assertResolves(String url, Class<? extends TopLevelPage> expected) {
+        Optional<Class<? extends TopLevelPage>> resolved = router.resolve(url);
+        assertEquals(resolved.orElse(null), expected, "Page class for " + url);
+    }
+}
@@ -0,0 +1,460 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.FirefoxBrowser;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
+import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
+import com.jivesoftware.selenium.pagefactory.framework.exception.JiveWebDriverException;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.Logs;
+
+import javax.annotation.Nullable;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A WebDriver without a browser for unit tests: windows, cookies and elements are kept in memory, and javascript is
+ * answered by handlers registered per function of the page runtime or per script fragment.
+ *
+ * Runtime calls without a handler return null, and the runtime is always reported as installed.
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+    // Marks the scripts of PageRuntime#call() and PageRuntime#callAsync(), whose first argument is the function name
+    private static final String RUNTIME_CALL = "rt[arguments[0]]";
+
+    private final Map<String, String> windows = new LinkedHashMap<>();
+    private final List<String> closedWindows = new ArrayList<>();
+    private final Set<Cookie> cookies = new LinkedHashSet<>();
+    private final Map<By, List<WebElement>> elements = new HashMap<>();
+    private final Map<String, Function<List<Object>, Object>> runtimeFunctions = new HashMap<>();
+    private final Map<String, Function<List<Object>, Object>> scripts = new LinkedHashMap<>();
+    private final List<String> runtimeCalls = new ArrayList<>();
+    private final List<String> executedScripts = new ArrayList<>();
+    private String currentWindow;
+
+    public StubWebDriver(String url) {
+        openWindow("window-0", url);
+        currentWindow = "window-0";
+    }
+
+    /**
+     * @return - an initialized Browser driving this WebDriver, with default timeouts.
+     */
+    public WebBrowser createBrowser(String baseTestUrl) throws JiveWebDriverException {
+        WebBrowser browser = new FirefoxBrowser(baseTestUrl, TimeoutsConfig.defaultTimeoutsConfig(), Optional.<String>empty(),
+                                                Optional.<String>empty(), Optional.<String>empty(), Optional.<String>empty(),
+                                                Optional.<Integer>empty(), Optional.<Integer>empty(), Optional.<Platform>empty()) {
+            @Override
+            protected WebDriver createWebDriver() {
+                return StubWebDriver.this;
+            }
+        };
+        browser.initializeBrowser();
+        return browser;
+    }
+
+    /**
+     * Open a window in the background, like a page would with window.open().
+     */
+    public StubWebDriver openWindow(String handle, String url) {
+        windows.put(handle, url);
+        return this;
+    }
+
+    /**
+     * Answer calls of a function of the page runtime, with the arguments after the function name.
+     */
+    public StubWebDriver onRuntimeCall(String function, Function<List<Object>, Object> handler) {
+        runtimeFunctions.put(function, handler);
+        return this;
+    }
+
+    /**
+     * Answer scripts containing the fragment that aren't runtime calls, with the arguments of the script.
+     */
+    public StubWebDriver onScript(String fragment, Function<List<Object>, Object> handler) {
+        scripts.put(fragment, handler);
+        return this;
+    }
+
+    public StubWebDriver addElements(By locator, WebElement... found) {
+        elements.put(locator, Arrays.asList(found));
+        return this;
+    }
+
+    /**
+     * @return - the names of the runtime functions called, in order
+     */
+    public List<String> getRuntimeCalls() {
+        return runtimeCalls;
+    }
+
+    /**
+     * @return - the scripts executed other than runtime calls, in order
+     */
+    public List<String> getExecutedScripts() {
+        return executedScripts;
+    }
+
+    public List<String> getClosedWindows() {
+        return closedWindows;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        if (script.contains(RUNTIME_CALL)) {
+            String function = (String) args[0];
+            runtimeCalls.add(function);
+            Function<List<Object>, Object> handler = runtimeFunctions.get(function);
+            return handler == null ? null : handler.apply(Arrays.asList(args).subList(1, args.length));
+        }
+        executedScripts.add(script);
+        for (Map.Entry<String, Function<List<Object>, Object>> entry : scripts.entrySet()) {
+            if (script.contains(entry.getKey())) {
+                return entry.getValue().apply(Arrays.asList(args));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    @Override
+    public void get(String url) {
+        windows.put(currentWindow(), url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return windows.get(currentWindow());
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        List<WebElement> found = elements.get(by);
+        return found == null ? ImmutableList.<WebElement>of() : found;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> found = findElements(by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("No element found by " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+        windows.remove(currentWindow());
+        closedWindows.add(currentWindow);
+        currentWindow = null;
+    }
+
+    @Override
+    public void quit() {
+        closedWindows.addAll(windows.keySet());
+        windows.clear();
+        currentWindow = null;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return new LinkedHashSet<>(windows.keySet());
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return currentWindow();
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new TargetLocator() {
+            @Override
+            public WebDriver window(String nameOrHandle) {
+                if (!windows.containsKey(nameOrHandle)) {
+                    throw new NoSuchWindowException("No window " + nameOrHandle);
+                }
+                currentWindow = nameOrHandle;
+                return StubWebDriver.this;
+            }
+
+            @Override
+            public WebDriver defaultContent() {
+                return StubWebDriver.this;
+            }
+
+            @Override
+            public WebDriver frame(int index) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public WebDriver frame(String nameOrId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public WebDriver frame(WebElement frameElement) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public WebDriver parentFrame() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public WebElement activeElement() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Alert alert() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new Navigation() {
+            @Override
+            public void back() {
+            }
+
+            @Override
+            public void forward() {
+            }
+
+            @Override
+            public void to(String url) {
+                get(url);
+            }
+
+            @Override
+            public void to(URL url) {
+                get(url.toString());
+            }
+
+            @Override
+            public void refresh() {
+            }
+        };
+    }
+
+    @Override
+    public Options manage() {
+        return new Options() {
+            @Override
+            public void addCookie(Cookie cookie) {
+                deleteCookieNamed(cookie.getName());
+                cookies.add(cookie);
+            }
+
+            @Override
+            public void deleteCookieNamed(String name) {
+                Cookie cookie = getCookieNamed(name);
+                if (cookie != null) {
+                    cookies.remove(cookie);
+                }
+            }
+
+            @Override
+            public void deleteCookie(Cookie cookie) {
+                cookies.remove(cookie);
+            }
+
+            @Override
+            public void deleteAllCookies() {
+                cookies.clear();
+            }
+
+            @Override
+            public Set<Cookie> getCookies() {
+                return new LinkedHashSet<>(cookies);
+            }
+
+            @Override
+            public Cookie getCookieNamed(String name) {
+                for (Cookie cookie : cookies) {
+                    if (cookie.getName().equals(name)) {
+                        return cookie;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public Timeouts timeouts() {
+                return new Timeouts() {
+                    @Override
+                    public Timeouts implicitlyWait(long time, TimeUnit unit) {
+                        return this;
+                    }
+
+                    @Override
+                    public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+                        return this;
+                    }
+
+                    @Override
+                    public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+                        return this;
+                    }
+                };
+            }
+
+            @Override
+            public ImeHandler ime() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Window window() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Logs logs() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private String currentWindow() {
+        if (currentWindow == null || !windows.containsKey(currentWindow)) {
+            throw new NoSuchWindowException("The current window was closed");
+        }
+        return currentWindow;
+    }
+
+    /**
+     * An element with fixed text and attributes.
+     */
+    public static class StubWebElement implements WebElement {
+        private final String text;
+        private final Map<String, String> attributes = new HashMap<>();
+
+        public StubWebElement(String text) {
+            this.text = text;
+        }
+
+        public StubWebElement withAttribute(String name, String value) {
+            attributes.put(name, value);
+            return this;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        @Nullable
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Lists.newArrayList();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new NoSuchElementException("No element found by " + by);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public String toString() {
+            return "StubWebElement '" + text + "'";
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.jivesoftware.selenium.pagefactory.framework.config.RefreshPolicy;
+import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link TimeoutsConfig}, copying configurations with toBuilder().
+ */
+public class TimeoutsConfigTests {
+
+    @Test
+    public void derivedRefreshPolicyFollowsPauseChangedWithToBuilder() {
+        TimeoutsConfig timeouts = TimeoutsConfig.builder().pauseBetweenRefreshSeconds(2).build();
+        TimeoutsConfig changed = timeouts.toBuilder().pauseBetweenRefreshSeconds(7).build();
+
+        assertEquals(changed.getPauseBetweenRefreshSeconds(), 7);
+        assertEquals(changed.getRefreshPolicy().getInitialPause(), Duration.ofSeconds(7));
+        assertEquals(changed.getRefreshPolicy().getMaxPause(), Duration.ofSeconds(7));
+    }
+
+    @Test
+    public void explicitRefreshPolicyIsKeptByToBuilder() {
+        RefreshPolicy policy = RefreshPolicy.builder()
+                .initialPause(Duration.ofSeconds(1))
+                .backoffMultiplier(2.0)
+                .maxPause(Duration.ofSeconds(10))
+                .build();
+        TimeoutsConfig timeouts = TimeoutsConfig.builder().refreshPolicy(policy).build();
+        TimeoutsConfig changed = timeouts.toBuilder().pauseBetweenRefreshSeconds(7).build();
+
+        assertEquals(changed.getRefreshPolicy(), policy);
+    }
+}
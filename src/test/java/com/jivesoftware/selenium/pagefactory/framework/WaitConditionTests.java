@@ -0,0 +1,46 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.jivesoftware.selenium.pagefactory.framework.actions.SeleniumActions;
+import com.jivesoftware.selenium.pagefactory.framework.actions.WaitCondition;
+import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link SeleniumActions#waitForAny(List, TimeoutType)}, with the conditions evaluated by a
+ * {@link StubWebDriver}.
+ */
+public class WaitConditionTests {
+
+    @Test
+    public void conditionsAreSentToTheRuntimeAsLocatorArguments() throws Exception {
+        StubWebDriver driver = new StubWebDriver("http://example.com/docs");
+        final List<Object> sentConditions = new ArrayList<>();
+        driver.onRuntimeCall("checkConditions", new Function<List<Object>, Object>() {
+            @Override
+            public Object apply(@Nullable List<Object> args) {
+                sentConditions.add(args.get(0));
+                return ImmutableList.of(false, true);
+            }
+        });
+        SeleniumActions actions = driver.createBrowser("http://example.com").getActions();
+        WaitCondition success = WaitCondition.visible(By.cssSelector(".j-success-toast"));
+        WaitCondition error = WaitCondition.containsText(By.id("error-dialog"), "failed");
+
+        List<WaitCondition> matched = actions.waitForAny(Arrays.asList(success, error), TimeoutType.ONE_SECOND);
+
+        assertEquals(matched, ImmutableList.of(error));
+        assertEquals(sentConditions, ImmutableList.of(ImmutableList.of(
+                ImmutableList.of("visible", "cssSelector", ".j-success-toast", ""),
+                ImmutableList.of("containsText", "id", "error-dialog", "failed"))));
+    }
+}
@@ -0,0 +1,95 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.collect.ImmutableMap;
+import com.jivesoftware.selenium.pagefactory.framework.config.AdaptiveTimeouts;
+import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutType;
+import com.jivesoftware.selenium.pagefactory.framework.config.TimeoutsConfig;
+import com.jivesoftware.selenium.pagefactory.framework.config.WaitStatistics;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for recording {@link WaitStatistics}, and the {@link TimeoutsConfig} {@link AdaptiveTimeouts} derives from them.
+ */
+public class WaitStatisticsTests {
+
+    @Test
+    public void percentilesUseTheNearestRank() {
+        WaitStatistics statistics = WaitStatistics.inMemory();
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "DocumentPage", 100, 1);
+
+        assertEquals(statistics.getPercentile(TimeoutType.CLICK_TIMEOUT, 50), Optional.of(Duration.ofMillis(50)));
+        assertEquals(statistics.getPercentile(TimeoutType.CLICK_TIMEOUT, 99.5), Optional.of(Duration.ofMillis(100)));
+        assertEquals(statistics.getPercentile(TimeoutType.CLICK_TIMEOUT, "DocumentPage", 1), Optional.of(Duration.ofMillis(1)));
+        assertEquals(statistics.getPercentile(TimeoutType.LONG, 50), Optional.<Duration>empty());
+    }
+
+    @Test
+    public void onlyTheMostRecentSamplesAreKept() {
+        WaitStatistics statistics = WaitStatistics.inMemory();
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "DocumentPage", WaitStatistics.MAX_SAMPLES_PER_CALL_SITE + 10, 1);
+
+        assertEquals(statistics.getSampleCounts(TimeoutType.CLICK_TIMEOUT),
+                     ImmutableMap.of("DocumentPage", WaitStatistics.MAX_SAMPLES_PER_CALL_SITE));
+        // The 10 oldest samples, 1 to 10 ms, were discarded
+        assertEquals(statistics.getPercentile(TimeoutType.CLICK_TIMEOUT, 0.1), Optional.of(Duration.ofMillis(11)));
+    }
+
+    @Test
+    public void timeoutIsTheSlowestCallSiteWithHeadroom() {
+        WaitStatistics statistics = WaitStatistics.inMemory();
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "HomePage", 20, 10);
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "DocumentPage", 20, 30);
+        // Not enough samples to be used
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "AdminPage", 5, 1000);
+
+        TimeoutsConfig timeouts = AdaptiveTimeouts.builder(statistics).percentile(50).safetyFactor(2.0).build();
+
+        // The median of DocumentPage is 300 ms
+        assertEquals(timeouts.getTimeout(TimeoutType.CLICK_TIMEOUT), Duration.ofMillis(600));
+        assertEquals(timeouts.getTimeout(TimeoutType.LONG), TimeoutsConfig.defaultTimeoutsConfig().getTimeout(TimeoutType.LONG));
+    }
+
+    @Test
+    public void derivedTimeoutsAreClampedToTheFloorAndCeiling() {
+        WaitStatistics statistics = WaitStatistics.inMemory();
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "DocumentPage", 20, 1);
+        record(statistics, TimeoutType.PAGE_LOAD_TIMEOUT, "DocumentPage", 20, 10000);
+
+        TimeoutsConfig timeouts = AdaptiveTimeouts.builder(statistics)
+                .floor(Duration.ofMillis(500))
+                .ceiling(Duration.ofSeconds(60))
+                .build();
+
+        assertEquals(timeouts.getTimeout(TimeoutType.CLICK_TIMEOUT), Duration.ofMillis(500));
+        assertEquals(timeouts.getTimeout(TimeoutType.PAGE_LOAD_TIMEOUT), Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void statisticsAreSavedToAndLoadedFromAFile() throws Exception {
+        File file = File.createTempFile("wait-statistics", ".json");
+        file.deleteOnExit();
+        WaitStatistics statistics = WaitStatistics.inMemory();
+        record(statistics, TimeoutType.CLICK_TIMEOUT, "DocumentPage", 20, 5);
+        record(statistics, TimeoutType.PAGE_LOAD_TIMEOUT, "HomePage", 3, 100);
+        statistics.saveTo(file);
+
+        WaitStatistics loaded = WaitStatistics.forFile(file);
+
+        assertEquals(loaded.getSampleCounts(TimeoutType.CLICK_TIMEOUT), ImmutableMap.of("DocumentPage", 20));
+        assertEquals(loaded.getSampleCounts(TimeoutType.PAGE_LOAD_TIMEOUT), ImmutableMap.of("HomePage", 3));
+        assertEquals(loaded.getPercentile(TimeoutType.CLICK_TIMEOUT, 50), Optional.of(Duration.ofMillis(50)));
+    }
+
+    // Record the wait times step, 2 * step, ... count * step ms
+    private static void record(WaitStatistics statistics, TimeoutType timeoutType, String callSite, int count, long stepMillis) {
+        for (int i = 1; i <= count; i++) {
+            statistics.record(timeoutType, callSite, Duration.ofMillis(i * stepMillis));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
+import com.jivesoftware.selenium.pagefactory.framework.pages.BaseTopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.pages.WebPagePath;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for prefetching pages in background windows with {@link WebBrowser#prefetch(String)}, against a
+ * {@link StubWebDriver}.
+ */
+public class WebBrowserPrefetchTests {
+    @WebPagePath(path = "/docs/1")
+    public static class DocumentPage extends BaseTopLevelPage {
+    }
+
+    private StubWebDriver driver;
+    private WebBrowser browser;
+
+    @BeforeMethod
+    public void createBrowser() throws Exception {
+        driver = new StubWebDriver("http://example.com/docs");
+        driver.onRuntimeCall("openPrefetchWindow", new Function<List<Object>, Object>() {
+            private int windows = 0;
+
+            @Override
+            public Object apply(@Nullable List<Object> args) {
+                driver.openWindow("prefetch-" + ++windows, (String) args.get(0));
+                return true;
+            }
+        });
+        driver.onRuntimeCall("waitForReadyState", new Function<List<Object>, Object>() {
+            @Override
+            public Object apply(@Nullable List<Object> args) {
+                return true;
+            }
+        });
+        browser = driver.createBrowser("http://example.com");
+    }
+
+    @Test
+    public void prefetchOpensBackgroundWindow() {
+        browser.prefetch("docs/1");
+
+        assertEquals(driver.getWindowHandles(), ImmutableList.of("window-0", "prefetch-1"));
+        assertEquals(driver.getWindowHandle(), "window-0");
+    }
+
+    @Test
+    public void openingPrefetchedPageSwitchesToItsWindowAndClosesTheOrigin() {
+        browser.prefetch("docs/1");
+        DocumentPage page = browser.openPageByURL("docs/1", DocumentPage.class);
+
+        assertNotNull(page);
+        assertEquals(driver.getWindowHandle(), "prefetch-1");
+        assertEquals(driver.getClosedWindows(), ImmutableList.of("window-0"));
+        assertEquals(driver.getCurrentUrl(), "http://example.com/docs/1");
+    }
+
+    @Test
+    public void originIsLeftOpenWhenTheTestSwitchedWindows() {
+        driver.openWindow("popup", "http://example.com/popup");
+        browser.prefetch("docs/1");
+        driver.switchTo().window("popup");
+        browser.openPageByURL("docs/1", DocumentPage.class);
+
+        assertEquals(driver.getWindowHandle(), "prefetch-1");
+        assertTrue(driver.getClosedWindows().isEmpty());
+        assertEquals(driver.getWindowHandles(), ImmutableList.of("window-0", "popup", "prefetch-1"));
+    }
+
+    @Test
+    public void cancelledPrefetchesAreClosedAndLoadedAgain() {
+        browser.prefetch("docs/1");
+        browser.prefetch("docs/2");
+        browser.cancelPrefetches();
+
+        assertEquals(driver.getClosedWindows(), ImmutableList.of("prefetch-1", "prefetch-2"));
+        assertEquals(driver.getWindowHandle(), "window-0");
+
+        browser.openPageByURL("docs/1", DocumentPage.class);
+        assertEquals(driver.getWindowHandle(), "window-0");
+        assertEquals(driver.getCurrentUrl(), "http://example.com/docs/1");
+    }
+}
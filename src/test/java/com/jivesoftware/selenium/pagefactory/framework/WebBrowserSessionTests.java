@@ -0,0 +1,58 @@
+package com.jivesoftware.selenium.pagefactory.framework;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jivesoftware.selenium.pagefactory.framework.browser.SessionState;
+import com.jivesoftware.selenium.pagefactory.framework.browser.SessionStateCache;
+import com.jivesoftware.selenium.pagefactory.framework.browser.web.WebBrowser;
+import com.jivesoftware.selenium.pagefactory.framework.pages.BaseTopLevelPage;
+import com.jivesoftware.selenium.pagefactory.framework.pages.WebPagePath;
+import org.openqa.selenium.TimeoutException;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for opening pages with cached sessions with
+ * {@link WebBrowser#openPageWithSession(SessionStateCache, String, Runnable, String, Class)}, against a
+ * {@link StubWebDriver}.
+ */
+public class WebBrowserSessionTests {
+    @WebPagePath(path = "/docs/1")
+    public static class SlowDocumentPage extends BaseTopLevelPage {
+        @Override
+        public void pageLoadHook() {
+            throw new TimeoutException("The document didn't render in time");
+        }
+    }
+
+    @Test
+    public void slowPageKeepsTheCachedSession() throws Exception {
+        StubWebDriver driver = new StubWebDriver("http://example.com/");
+        WebBrowser browser = driver.createBrowser("http://example.com");
+        SessionStateCache cache = SessionStateCache.inMemory(Duration.ofHours(1));
+        cache.put("ann", new SessionState("http://example.com", ImmutableList.<SessionState.StoredCookie>of(),
+                                          ImmutableMap.<String, String>of(), ImmutableMap.<String, String>of(),
+                                          System.currentTimeMillis()));
+        final AtomicInteger logins = new AtomicInteger();
+
+        try {
+            browser.openPageWithSession(cache, "ann", new Runnable() {
+                @Override
+                public void run() {
+                    logins.incrementAndGet();
+                }
+            }, "docs/1", SlowDocumentPage.class);
+            fail("Opening the slow page should have timed out");
+        } catch (TimeoutException expected) {
+        }
+
+        assertEquals(logins.get(), 0);
+        assertTrue(cache.get("ann").isPresent());
+    }
+}